@@ -3,29 +3,71 @@ package twg2.text.stringEscape;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 
-/** Convert Java strings to and from JSON strings (note: this implementation does not yet support \\u four-hex-digits escape sequences, but does support \", \\, \/, \b, \f, \n, \r, \t)
+/** Convert Java strings to and from JSON strings (supports \", \\, \/, \b, \f, \n, \r, \t, and \\u four-hex-digits escape sequences)
  * @author TeamworkGuy2
  * @since 2016-2-28
  */
 public class StringEscapeJson {
+	/** The JSON escape sequence for each ASCII character which must be escaped, null for characters which are not escaped */
+	private static final String[] ESCAPES = new String[128];
+
+	static {
+		char[] hex = "0123456789ABCDEF".toCharArray();
+		for(int i = 0; i < 0x20; i++) {
+			ESCAPES[i] = "\\u00" + hex[i >>> 4] + hex[i & 0xF];
+		}
+		ESCAPES['"'] = "\\\"";
+		ESCAPES['\\'] = "\\\\";
+		ESCAPES['\b'] = "\\b";
+		ESCAPES['\f'] = "\\f";
+		ESCAPES['\n'] = "\\n";
+		ESCAPES['\r'] = "\\r";
+		ESCAPES['\t'] = "\\t";
+	}
+
 
 	private StringEscapeJson() { throw new AssertionError("cannot instantiate static class StringEscapeJson"); }
 
 
-	/** Convert a string to a valid JSON string (i.e. '"', '\', and escape characters are escaped with '\')
+	/** Convert a string to a valid JSON string (i.e. '"', '\', and control characters are escaped with '\')
 	 * @param str the string to convert
-	 * @return the resulting string, not quoted
+	 * @return the resulting string, not quoted, or {@code str} itself if it contains no characters which need escaping
 	 */
 	public static String toJsonString(String str) {
-		StringBuilder sb = new StringBuilder();
-		toJsonString(str, 0, str.length(), sb);
-		return sb.toString();
+		return toJsonString(str, 0, str.length(), false);
 	}
 
 
+	/**
+	 * @see #toJsonString(String, int, int, boolean)
+	 */
 	public static String toJsonString(String str, int off, int len) {
-		StringBuilder sb = new StringBuilder();
-		toJsonString(str, off, len, sb);
+		return toJsonString(str, off, len, false);
+	}
+
+
+	/** Convert a sub-string to a valid JSON string (i.e. '"', '\', and control characters are escaped with '\')
+	 * @param str the string to convert
+	 * @param off the offset into {@code str} of the sub-string to convert
+	 * @param len the number of characters from {@code str} to convert
+	 * @param escapeScriptUnsafe true to also escape "&lt;/" as "&lt;\/" and the U+2028 and U+2029 line/paragraph
+	 * separators as "\\u2028" and "\\u2029", so that the result can be embedded in an HTML script tag or JavaScript source
+	 * @return the resulting string, not quoted, or the {@code [off, off + len)} sub-string of {@code str}
+	 * if it contains no characters which need escaping
+	 */
+	public static String toJsonString(String str, int off, int len, boolean escapeScriptUnsafe) {
+		int end = off + len;
+		int idx = indexOfEscapable(str, off, end, escapeScriptUnsafe);
+		if(idx == -1) {
+			return str.substring(off, end);
+		}
+		StringBuilder sb = new StringBuilder(len + 16);
+		sb.append(str, off, idx);
+		try {
+			appendEscaped(str, off, idx, end, escapeScriptUnsafe, sb);
+		} catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
 		return sb.toString();
 	}
 
@@ -36,8 +78,16 @@ public class StringEscapeJson {
 
 
 	public static void toJsonString(String str, int off, int len, StringBuilder dst) {
+		toJsonString(str, off, len, false, dst);
+	}
+
+
+	/**
+	 * @see #toJsonString(String, int, int, boolean, Appendable)
+	 */
+	public static void toJsonString(String str, int off, int len, boolean escapeScriptUnsafe, StringBuilder dst) {
 		try {
-			toJsonString(str, off, len, (Appendable)dst);
+			toJsonString(str, off, len, escapeScriptUnsafe, (Appendable)dst);
 		} catch (IOException ioe) {
 			throw new UncheckedIOException(ioe);
 		}
@@ -50,37 +100,84 @@ public class StringEscapeJson {
 
 
 	public static void toJsonString(String str, int off, int len, Appendable dst) throws IOException {
-		for(int i = off, size = off + len; i < size; i++) {
+		toJsonString(str, off, len, false, dst);
+	}
+
+
+	/** Convert a sub-string to a valid JSON string (i.e. '"', '\', and control characters are escaped with '\')
+	 * and append it to a destination. Runs of characters which do not need escaping are appended in a single call.
+	 * @param str the string to convert
+	 * @param off the offset into {@code str} of the sub-string to convert
+	 * @param len the number of characters from {@code str} to convert
+	 * @param escapeScriptUnsafe true to also escape "&lt;/" as "&lt;\/" and the U+2028 and U+2029 line/paragraph
+	 * separators as "\\u2028" and "\\u2029", so that the result can be embedded in an HTML script tag or JavaScript source
+	 * @param dst the destination to append the resulting string to, not quoted
+	 */
+	public static void toJsonString(String str, int off, int len, boolean escapeScriptUnsafe, Appendable dst) throws IOException {
+		appendEscaped(str, off, off, off + len, escapeScriptUnsafe, dst);
+	}
+
+
+	public static void toJsonString(char ch, Appendable dst) throws IOException {
+		String esc;
+		if(ch < 128 && (esc = ESCAPES[ch]) != null) {
+			dst.append(esc);
+		}
+		else {
+			dst.append(ch);
+		}
+	}
+
+
+	/** Find the first character in {@code [off, end)} which needs escaping
+	 * @return the index of the character, or -1 if no characters need escaping
+	 */
+	private static int indexOfEscapable(String str, int off, int end, boolean escapeScriptUnsafe) {
+		String[] escapes = ESCAPES;
+		for(int i = off; i < end; i++) {
 			char ch = str.charAt(i);
-			if(ch == '"' || ch == '\\' || ch == '\b' || ch == '\f' || ch == '\n' || ch == '\r' || ch == '\t') {
-				dst.append('\\');
-				switch(ch) {
-					case '\b': ch = 'b'; break;
-					case '\f': ch = 'f'; break;
-					case '\n': ch = 'n'; break;
-					case '\r': ch = 'r'; break;
-					case '\t': ch = 't'; break;
-					default: break;
-				}
+			if(ch < 128 ? (escapes[ch] != null || (escapeScriptUnsafe && ch == '/' && i > off && str.charAt(i - 1) == '<')) :
+					(escapeScriptUnsafe && (ch == '\u2028' || ch == '\u2029'))) {
+				return i;
 			}
-			dst.append(ch);
 		}
+		return -1;
 	}
 
 
-	public static void toJsonString(char ch, Appendable dst) throws IOException {
-		if(ch == '"' || ch == '\\' || ch == '\b' || ch == '\f' || ch == '\n' || ch == '\r' || ch == '\t') {
-			dst.append('\\');
-			switch(ch) {
-				case '\b': ch = 'b'; break;
-				case '\f': ch = 'f'; break;
-				case '\n': ch = 'n'; break;
-				case '\r': ch = 'r'; break;
-				case '\t': ch = 't'; break;
-				default: break;
+	/** Escape {@code [start, end)} of {@code str} and append it to {@code dst}
+	 * @param off the start of the sub-string being converted, the lower bound when checking whether a '/' follows a '&lt;'
+	 */
+	private static void appendEscaped(String str, int off, int start, int end, boolean escapeScriptUnsafe, Appendable dst) throws IOException {
+		String[] escapes = ESCAPES;
+		int runStart = start;
+		for(int i = start; i < end; i++) {
+			char ch = str.charAt(i);
+			String esc;
+			if(ch < 128) {
+				esc = escapes[ch];
+				if(esc == null) {
+					if(!escapeScriptUnsafe || ch != '/' || i == off || str.charAt(i - 1) != '<') {
+						continue;
+					}
+					esc = "\\/";
+				}
+			}
+			else if(escapeScriptUnsafe && (ch == '\u2028' || ch == '\u2029')) {
+				esc = (ch == '\u2028' ? "\\u2028" : "\\u2029");
+			}
+			else {
+				continue;
 			}
+			if(runStart < i) {
+				dst.append(str, runStart, i);
+			}
+			dst.append(esc);
+			runStart = i + 1;
+		}
+		if(runStart < end) {
+			dst.append(str, runStart, end);
 		}
-		dst.append(ch);
 	}
 
 
@@ -127,12 +224,28 @@ public class StringEscapeJson {
 			char ch = str.charAt(i);
 			boolean wasEscaped = false;
 			if(prevCh == '\\') {
-				if(ch == '"' || ch == '\\' || ch == 'b' || ch == 'f' || ch == 'n' || ch == 'r' || ch == 't') {
-					char c = (ch == '"' ? '"' : (ch == '\\' ? '\\' : (ch == 'b' ? '\b' : (ch == 't' ? '\t' : (ch == 'f' ? '\f' : (ch == 'n' ? '\n' : (ch == 'r' ? '\r' : 0)))))));
+				if(ch == '"' || ch == '\\' || ch == '/' || ch == 'b' || ch == 'f' || ch == 'n' || ch == 'r' || ch == 't') {
+					char c = (ch == '"' ? '"' : (ch == '\\' ? '\\' : (ch == '/' ? '/' : (ch == 'b' ? '\b' : (ch == 't' ? '\t' : (ch == 'f' ? '\f' : (ch == 'n' ? '\n' : (ch == 'r' ? '\r' : 0))))))));
 					dst.append(c);
 				}
+				else if(ch == 'u') {
+					if(i + 4 >= size) {
+						throw new IllegalStateException("'\\u' must be followed by four hex digits, found '" + str.substring(i + 1, size) + "' in: " + str.substring(off, off + len));
+					}
+					int c = 0;
+					for(int k = i + 1; k < i + 5; k++) {
+						char hexCh = str.charAt(k);
+						int digit = hexCh < 128 ? Character.digit(hexCh, 16) : -1;
+						if(digit < 0) {
+							throw new IllegalStateException("'\\u' must be followed by four hex digits, found '" + str.substring(i + 1, i + 5) + "' in: " + str.substring(off, off + len));
+						}
+						c = (c << 4) | digit;
+					}
+					dst.append((char)c);
+					i += 4;
+				}
 				else {
-					throw new IllegalStateException("character after '\\' must be '\"', '\\', or a control char, found '" + ch + "' in: " + str.substring(off, off + len));
+					throw new IllegalStateException("character after '\\' must be '\"', '\\', '/', 'u', or a control char, found '" + ch + "' in: " + str.substring(off, off + len));
 				}
 				// because the escape char has been handled, if this is not done, double backslash causes issues
 				// because if(prevCh == '\\') is true for the character after the second backslash and this code runs
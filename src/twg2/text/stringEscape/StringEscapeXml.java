@@ -5,6 +5,18 @@ package twg2.text.stringEscape;
  * @since 2016-2-28
  */
 public class StringEscapeXml {
+	/** The XML entity for each ASCII character which must be escaped, null for characters which are not escaped */
+	private static final String[] ESCAPES = new String[128];
+	/** The named XML entities recognized when unescaping, in the same order as {@link #ENTITY_CHARS} */
+	private static final String[] ENTITY_NAMES = { "&amp;", "&apos;", "&quot;", "&lt;", "&gt;" };
+	private static final char[] ENTITY_CHARS = { '&', '\'', '"', '<', '>' };
+
+	static {
+		for(int i = 0; i < ENTITY_NAMES.length; i++) {
+			ESCAPES[ENTITY_CHARS[i]] = ENTITY_NAMES[i];
+		}
+	}
+
 
 	private StringEscapeXml() { throw new AssertionError("cannot instantiate static class StringEscapeXml"); }
 
@@ -16,11 +28,13 @@ public class StringEscapeXml {
 	 * @see #escapeXml(String, StringBuilder)
 	 */
 	public static String escapeXml(String content) {
-		if(content.indexOf("&") == -1 && content.indexOf("'") == -1 && content.indexOf("\"") == -1 &&
-				content.indexOf("<") == -1 && content.indexOf(">") == -1) {
+		int idx = indexOfEscapable(content, 0);
+		if(idx == -1) {
 			return content;
 		}
-		return escapeXml(content, null).toString();
+		StringBuilder dst = new StringBuilder(content.length() + 16);
+		dst.append(content, 0, idx);
+		return escapeXml(content, idx, dst).toString();
 	}
 
 
@@ -32,41 +46,10 @@ public class StringEscapeXml {
 	 * invalid XML characters replaced with XML character codes
 	 */
 	public static StringBuilder escapeXml(String content, StringBuilder dst) {
-		int offset = 0;
 		if(dst == null) {
-			dst = new StringBuilder(content);
-		}
-		else {
-			offset = dst.length();
-			dst.append(content);
-		}
-		int index = 0;
-		index = dst.indexOf("&", offset);
-		while(index > -1) {
-			dst.replace(index, index+1, "&amp;");
-			index = dst.indexOf("&", index+1);
-		}
-		index = dst.indexOf("'", offset);
-		while(index > -1) {
-			dst.replace(index, index+1, "&apos;");
-			index = dst.indexOf("'", index+1);
-		}
-		index = dst.indexOf("\"", offset);
-		while(index > -1) {
-			dst.replace(index, index+1, "&quot;");
-			index = dst.indexOf("\"", index+1);
-		}
-		index = dst.indexOf("<", offset);
-		while(index > -1) {
-			dst.replace(index, index+1, "&lt;");
-			index = dst.indexOf("<", index+1);
+			dst = new StringBuilder(content.length() + 16);
 		}
-		index = dst.indexOf(">", offset);
-		while(index > -1) {
-			dst.replace(index, index+1, "&gt;");
-			index = dst.indexOf(">", index+1);
-		}
-		return dst;
+		return escapeXml(content, 0, dst);
 	}
 
 
@@ -78,56 +61,128 @@ public class StringEscapeXml {
 	 * @see #unescapeXml(String, StringBuilder)
 	 */
 	public static String unescapeXml(String content) {
-		if(content.indexOf("&") == -1) {
+		int idx = content.indexOf('&');
+		if(idx == -1) {
 			return content;
 		}
-		return unescapeXml(content, null).toString();
+		StringBuilder dst = new StringBuilder(content.length());
+		dst.append(content, 0, idx);
+		return unescapeXml(content, idx, dst).toString();
 	}
 
 
-	/** Convert an XML string containing XML character codes (&amp; &apos; etc.) by replacing
-	 * them with the corresponding character
+	/** Convert an XML string containing XML character codes (&amp; &apos; etc.) and numeric character
+	 * references (&#60; &#x3C; etc.) by replacing them with the corresponding character.<br>
+	 * The string is unescaped in a single pass, so an unescaped '&' never forms part of another entity
+	 * (i.e. {@code "&amp;lt;"} becomes {@code "&lt;"}).<br>
+	 * Unrecognized entities and malformed numeric character references, or references to code points which are not XML characters (i.e. {@code &#0;}, {@code &#xD800;}), are copied as-is.
 	 * @param content the String to convert XML to non-XML characters (&amp; &quot; etc.)
 	 * @param dst the destination string builder to store the replaced characters in
 	 * @return the {@code dst} string builder with {@code content} appended with
 	 * XML characters replaced with normal characters
 	 */
 	public static StringBuilder unescapeXml(String content, StringBuilder dst) {
-		int offset = 0;
 		if(dst == null) {
-			dst = new StringBuilder(content.length()).append(content);
-		}
-		else {
-			offset = dst.length();
-			dst.append(content);
-		}
-		int index = 0;
-		index = dst.indexOf("&amp;", offset);
-		while(index > -1) {
-			dst.replace(index, index+5, "&");
-			index = dst.indexOf("&amp;", index+1);
+			dst = new StringBuilder(content.length());
 		}
-		index = dst.indexOf("&apos;", offset);
-		while(index > -1) {
-			dst.replace(index, index+6, "'");
-			index = dst.indexOf("&apos;", index+1);
-		}
-		index = dst.indexOf("&quot;", offset);
-		while(index > -1) {
-			dst.replace(index, index+6, "\"");
-			index = dst.indexOf("&quot;", index+1);
-		}
-		index = dst.indexOf("&lt;", offset);
-		while(index > -1) {
-			dst.replace(index, index+4, "<");
-			index = dst.indexOf("&lt;", index+1);
-		}
-		index = dst.indexOf("&gt;", offset);
-		while(index > -1) {
-			dst.replace(index, index+4, ">");
-			index = dst.indexOf("&gt;", index+1);
+		return unescapeXml(content, 0, dst);
+	}
+
+
+	private static StringBuilder escapeXml(String content, int off, StringBuilder dst) {
+		String[] escapes = ESCAPES;
+		int runStart = off;
+		for(int i = off, size = content.length(); i < size; i++) {
+			char ch = content.charAt(i);
+			String esc;
+			if(ch < 128 && (esc = escapes[ch]) != null) {
+				dst.append(content, runStart, i).append(esc);
+				runStart = i + 1;
+			}
+		}
+		return dst.append(content, runStart, content.length());
+	}
+
+
+	private static StringBuilder unescapeXml(String content, int off, StringBuilder dst) {
+		int size = content.length();
+		int runStart = off;
+		int idx = content.indexOf('&', off);
+		while(idx > -1) {
+			int entityLen = appendEntity(content, idx, size, dst, runStart);
+			if(entityLen > 0) {
+				runStart = idx + entityLen;
+				idx = content.indexOf('&', runStart);
+			}
+			else {
+				idx = content.indexOf('&', idx + 1);
+			}
+		}
+		return dst.append(content, runStart, size);
+	}
+
+
+	private static int indexOfEscapable(String content, int off) {
+		String[] escapes = ESCAPES;
+		for(int i = off, size = content.length(); i < size; i++) {
+			char ch = content.charAt(i);
+			if(ch < 128 && escapes[ch] != null) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Parse the named entity or numeric character reference starting at {@code idx} and,
+	 * if it is valid, append the pending {@code [runStart, idx)} content and the entity's character to {@code dst}
+	 * @return the length of the entity, or 0 if {@code idx} is not the start of a valid entity
+	 */
+	private static int appendEntity(String content, int idx, int size, StringBuilder dst, int runStart) {
+		if(idx + 1 < size && content.charAt(idx + 1) == '#') {
+			int i = idx + 2;
+			int radix = 10;
+			if(i < size && content.charAt(i) == 'x') {
+				radix = 16;
+				i++;
+			}
+			int digitsStart = i;
+			int codePoint = 0;
+			for(; i < size; i++) {
+				char ch = content.charAt(i);
+				int digit = ch < 128 ? Character.digit(ch, radix) : -1;
+				if(digit < 0) {
+					break;
+				}
+				codePoint = codePoint * radix + digit;
+				if(codePoint > Character.MAX_CODE_POINT) {
+					return 0;
+				}
+			}
+			if(i == digitsStart || i >= size || content.charAt(i) != ';' || !isXmlChar(codePoint)) {
+				return 0;
+			}
+			dst.append(content, runStart, idx).appendCodePoint(codePoint);
+			return i + 1 - idx;
 		}
-		return dst;
+
+		String[] names = ENTITY_NAMES;
+		for(int i = 0; i < names.length; i++) {
+			if(content.startsWith(names[i], idx)) {
+				dst.append(content, runStart, idx).append(ENTITY_CHARS[i]);
+				return names[i].length();
+			}
+		}
+		return 0;
+	}
+
+
+	/** Check whether a code point matches the XML 1.0 'Char' production, numeric character references to other code points are not well-formed
+	 * @return true if {@code codePoint} is tab, line feed, carriage return, or in the range {@code [0x20, 0xD7FF]}, {@code [0xE000, 0xFFFD]}, or {@code [0x10000, 0x10FFFF]}
+	 */
+	private static boolean isXmlChar(int codePoint) {
+		return codePoint >= 0x20 ? (codePoint <= 0xD7FF || (codePoint >= 0xE000 && codePoint <= 0xFFFD) || (codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT))
+				: (codePoint == 0x9 || codePoint == 0xA || codePoint == 0xD);
 	}
 
 }
@@ -0,0 +1,109 @@
+package twg2.text.stringSearch;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/** The shared implementation of {@link PrefixSet} and {@link SuffixSet}, an immutable set of strings compiled into a {@link RadixTrie}
+ * which is walked forward from the start of a char sequence, or, if {@code reverse} is true, the strings are reversed before
+ * being compiled and the trie is walked backward from the end of a char sequence.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+abstract class AffixSet {
+	private final String[] strs;
+	private final RadixTrie<Integer> trie;
+	/** the string index of each trie entry */
+	private final int[] strIdx;
+	/** the index of the first empty string, or -1 */
+	private final int emptyIdx;
+	private final boolean reverse;
+
+
+	/** Compile a set of strings
+	 * @param strings the strings, may not contain nulls
+	 * @param reverse true to compare the strings to the end of char sequences, false to compare them to the start
+	 * @param name the name of the strings ("prefix" or "suffix") used in error messages
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	AffixSet(Collection<String> strings, boolean reverse, String name) {
+		String[] strs = strings.toArray(new String[strings.size()]);
+		List<Map.Entry<String, Integer>> entries = new ArrayList<>(strs.length);
+		int emptyIdx = -1;
+		for(int i = 0; i < strs.length; i++) {
+			String str = strs[i];
+			if(str == null) {
+				throw new IllegalArgumentException(name + "es cannot be null, " + name + " " + i);
+			}
+			if(str.length() == 0) {
+				if(emptyIdx == -1) {
+					emptyIdx = i;
+				}
+			}
+			else {
+				entries.add(new AbstractMap.SimpleImmutableEntry<>(reverse ? reverse(str) : str, i));
+			}
+		}
+		Map.Entry<String, Integer>[] entryAry = entries.toArray(new Map.Entry[entries.size()]);
+		int[] strIdx = new int[entryAry.length];
+		for(int i = 0; i < entryAry.length; i++) {
+			strIdx[i] = entryAry[i].getValue();
+		}
+		this.strs = strs;
+		this.trie = new RadixTrie<>(entryAry);
+		this.strIdx = strIdx;
+		this.emptyIdx = emptyIdx;
+		this.reverse = reverse;
+	}
+
+
+	/**
+	 * @return the number of strings in this set, including duplicates
+	 */
+	public int size() {
+		return strs.length;
+	}
+
+
+	final String get(int idx) {
+		return strs[idx];
+	}
+
+
+	final boolean matchesAny(CharSequence str) {
+		return emptyIdx != -1 || trie.walk(str, 0, str.length(), reverse, RadixTrie.WALK_SHORTEST, null, null) != -1;
+	}
+
+
+	final int longestMatchIdx(CharSequence str, int strOff, int strLen) {
+		int idx = trie.walk(str, strOff, strLen, reverse, RadixTrie.WALK_LONGEST, null, null);
+		return idx != -1 ? strIdx[idx] : emptyIdx;
+	}
+
+
+	final int forEachMatchIdx(CharSequence str, int strOff, int strLen, IntConsumer dst) {
+		int count = 0;
+		if(emptyIdx != -1) {
+			dst.accept(emptyIdx);
+			count++;
+		}
+		return count + trie.walk(str, strOff, strLen, reverse, RadixTrie.WALK_ALL, strIdx, dst);
+	}
+
+
+	/** Reverse a string's chars, unlike {@link StringBuilder#reverse()} surrogate pairs are also reversed
+	 * so that the reversed string can be compared to a char sequence read backward one char at a time
+	 */
+	private static String reverse(String str) {
+		int len = str.length();
+		char[] chars = new char[len];
+		for(int i = 0; i < len; i++) {
+			chars[len - 1 - i] = str.charAt(i);
+		}
+		return new String(chars);
+	}
+
+}
@@ -0,0 +1,617 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/** An immutable Aho-Corasick automaton for finding any of a set of sub-strings in a single pass over a string.<br>
+ * Searching is {@code O(n + m)} where {@code n} is the length of the text and {@code m} is the number of matches found,
+ * regardless of the number of patterns, compared to {@code O(n * k)} for searching {@code k} patterns one at a time.<br>
+ * The automaton is stored in primitive arrays: pattern characters are mapped to a compact alphabet of character classes,
+ * and transitions are precomputed into a dense {@code state x class} table when that table is reasonably sized,
+ * otherwise a sparse trie with failure links is walked (with a dense row for the root state).<br>
+ * The automaton can also be stepped one character at a time using {@link #getStartState()} and {@link #nextState(int, char)},
+ * which allows a search to be paused and resumed across chunks of text.<br>
+ * Pattern indices refer to the order of the patterns passed to the constructor.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class AhoCorasickMatcher {
+	/** the maximum number of entries in the dense transition table, beyond this the sparse trie representation is used */
+	private static final int MAX_DENSE_TABLE_SIZE = 1 << 22;
+
+	private final String[] patterns;
+	/** the class of each ASCII char, 0 if the char does not occur in any pattern */
+	private final int[] asciiClasses;
+	/** sorted distinct chars occurring in the patterns, the class of {@code allChars[i]} is {@code i + 1} */
+	private final char[] allChars;
+	/** the number of char classes, including class 0 for chars which do not occur in any pattern */
+	private final int classCount;
+	private final int stateCount;
+	/** the length of the string read to reach each state */
+	private final int[] depth;
+	/** the lowest index pattern which ends exactly at each state, or -1 */
+	private final int[] terminal;
+	/** the nearest proper suffix state which is terminal, or -1 */
+	private final int[] outLink;
+	/** the lowest pattern index among all patterns ending at each state (including suffixes), or -1 */
+	private final int[] minOut;
+	/** for each pattern index, the next higher pattern index with an identical string, or -1 */
+	private final int[] nextSamePattern;
+	/** dense transition table {@code [state * classCount + class]}, null if the sparse representation is used */
+	private final int[] delta;
+	// sparse representation
+	private final int[] fail;
+	private final int[] edgeStart;
+	private final int[] edgeClass;
+	private final int[] edgeTarget;
+	private final int[] rootRow;
+
+
+	/**
+	 * @see #AhoCorasickMatcher(String[])
+	 */
+	public AhoCorasickMatcher(Collection<String> patterns) {
+		this(patterns.toArray(new String[patterns.size()]));
+	}
+
+
+	/** Compile an automaton which searches for all of the {@code patterns}
+	 * @param patterns the strings to search for, may contain duplicates and empty strings, but not nulls
+	 */
+	public AhoCorasickMatcher(String... patterns) {
+		this.patterns = patterns.clone();
+		int patternCount = patterns.length;
+
+		// map each distinct pattern char to a char class
+		int totalLen = 0;
+		for(String pattern : patterns) {
+			totalLen += pattern.length();
+		}
+		char[] chars = new char[totalLen];
+		int charsI = 0;
+		for(String pattern : patterns) {
+			pattern.getChars(0, pattern.length(), chars, charsI);
+			charsI += pattern.length();
+		}
+		Arrays.sort(chars);
+		int distinct = 0;
+		for(int i = 0; i < totalLen; i++) {
+			if(i == 0 || chars[i] != chars[i - 1]) {
+				chars[distinct++] = chars[i];
+			}
+		}
+		this.allChars = Arrays.copyOf(chars, distinct);
+		this.asciiClasses = new int[128];
+		for(int i = 0; i < distinct && allChars[i] < 128; i++) {
+			asciiClasses[allChars[i]] = i + 1;
+		}
+		int classes = distinct + 1;
+		this.classCount = classes;
+
+		// build the trie using linked sibling lists
+		int maxStates = totalLen + 1;
+		int[] firstChild = new int[maxStates];
+		int[] nextSibling = new int[maxStates];
+		int[] label = new int[maxStates];
+		int[] depth = new int[maxStates];
+		int[] terminal = new int[maxStates];
+		Arrays.fill(firstChild, -1);
+		Arrays.fill(terminal, -1);
+		int[] nextSame = new int[patternCount];
+		Arrays.fill(nextSame, -1);
+		int states = 1;
+
+		for(int p = 0; p < patternCount; p++) {
+			String pattern = patterns[p];
+			int state = 0;
+			for(int i = 0, size = pattern.length(); i < size; i++) {
+				int cls = classOf(pattern.charAt(i));
+				int child = firstChild[state];
+				while(child != -1 && label[child] != cls) {
+					child = nextSibling[child];
+				}
+				if(child == -1) {
+					child = states++;
+					label[child] = cls;
+					depth[child] = depth[state] + 1;
+					nextSibling[child] = firstChild[state];
+					firstChild[state] = child;
+				}
+				state = child;
+			}
+			if(terminal[state] == -1) {
+				terminal[state] = p;
+			}
+			else {
+				int last = terminal[state];
+				while(nextSame[last] != -1) {
+					last = nextSame[last];
+				}
+				nextSame[last] = p;
+			}
+		}
+		this.stateCount = states;
+		this.depth = Arrays.copyOf(depth, states);
+		this.terminal = Arrays.copyOf(terminal, states);
+		this.nextSamePattern = nextSame;
+
+		// breadth first traversal to compute failure links and outputs, parents are always visited before children
+		int[] fail = new int[states];
+		int[] outLink = new int[states];
+		int[] minOut = new int[states];
+		int[] queue = new int[states];
+		int[] rootRow = new int[classes];
+		int qHead = 0;
+		int qTail = 0;
+		outLink[0] = -1;
+		minOut[0] = terminal[0];
+		for(int child = firstChild[0]; child != -1; child = nextSibling[child]) {
+			rootRow[label[child]] = child;
+			fail[child] = 0;
+			queue[qTail++] = child;
+		}
+		while(qHead < qTail) {
+			int state = queue[qHead++];
+			int f = fail[state];
+			outLink[state] = terminal[f] != -1 ? f : outLink[f];
+			int own = terminal[state];
+			int inherited = minOut[f];
+			minOut[state] = (own == -1 ? inherited : (inherited == -1 || own < inherited ? own : inherited));
+
+			for(int child = firstChild[state]; child != -1; child = nextSibling[child]) {
+				int cls = label[child];
+				// follow failure links until a state with a matching edge is found
+				int s = f;
+				int target = -1;
+				while(true) {
+					int c = firstChild[s];
+					while(c != -1 && label[c] != cls) {
+						c = nextSibling[c];
+					}
+					if(c != -1) {
+						target = c;
+						break;
+					}
+					if(s == 0) {
+						target = 0;
+						break;
+					}
+					s = fail[s];
+				}
+				fail[child] = target;
+				queue[qTail++] = child;
+			}
+		}
+		this.fail = fail;
+		this.outLink = outLink;
+		this.minOut = minOut;
+		this.rootRow = rootRow;
+
+		if((long)states * classes <= MAX_DENSE_TABLE_SIZE) {
+			// resolve every (state, class) transition ahead of time
+			int[] delta = new int[states * classes];
+			System.arraycopy(rootRow, 0, delta, 0, classes);
+			for(int qi = 0; qi < qTail; qi++) {
+				int state = queue[qi];
+				int rowOff = state * classes;
+				System.arraycopy(delta, fail[state] * classes, delta, rowOff, classes);
+				for(int child = firstChild[state]; child != -1; child = nextSibling[child]) {
+					delta[rowOff + label[child]] = child;
+				}
+			}
+			this.delta = delta;
+			this.edgeStart = null;
+			this.edgeClass = null;
+			this.edgeTarget = null;
+		}
+		else {
+			// pack each state's edges, sorted by class, into flat arrays
+			int[] edgeStart = new int[states + 1];
+			int[] edgeClass = new int[states - 1];
+			int[] edgeTarget = new int[states - 1];
+			int edgeI = 0;
+			for(int state = 0; state < states; state++) {
+				edgeStart[state] = edgeI;
+				int start = edgeI;
+				for(int child = firstChild[state]; child != -1; child = nextSibling[child]) {
+					// insertion sort, most states have very few edges
+					int j = edgeI++;
+					while(j > start && edgeClass[j - 1] > label[child]) {
+						edgeClass[j] = edgeClass[j - 1];
+						edgeTarget[j] = edgeTarget[j - 1];
+						j--;
+					}
+					edgeClass[j] = label[child];
+					edgeTarget[j] = child;
+				}
+			}
+			edgeStart[states] = edgeI;
+			this.delta = null;
+			this.edgeStart = edgeStart;
+			this.edgeClass = edgeClass;
+			this.edgeTarget = edgeTarget;
+		}
+	}
+
+
+	/**
+	 * @return the number of patterns this automaton searches for
+	 */
+	public int getPatternCount() {
+		return patterns.length;
+	}
+
+
+	/**
+	 * @param patternIdx the index of the pattern
+	 * @return the pattern at the {@code patternIdx}
+	 */
+	public String getPattern(int patternIdx) {
+		return patterns[patternIdx];
+	}
+
+
+	/**
+	 * @return the number of states in this automaton
+	 */
+	public int getStateCount() {
+		return stateCount;
+	}
+
+
+	// ==== state stepping ====
+
+	/**
+	 * @return the initial state of this automaton, before any characters have been read
+	 */
+	public int getStartState() {
+		return 0;
+	}
+
+
+	/** Advance the automaton by one character
+	 * @param state the current state
+	 * @param ch the next character of the text
+	 * @return the new state
+	 */
+	public int nextState(int state, char ch) {
+		return next(state, classOf(ch));
+	}
+
+
+	/**
+	 * @param state the current state
+	 * @return the length of the longest suffix of the text read so far which is a prefix of a pattern,
+	 * no pattern match can start earlier than this many characters before the current position
+	 */
+	public int getStateDepth(int state) {
+		return depth[state];
+	}
+
+
+	/**
+	 * @param state the current state
+	 * @return the index of the longest pattern ending at the current position (the lowest index if multiple patterns are identical), or -1 if no pattern ends here
+	 */
+	public int getMatch(int state) {
+		int s = (terminal[state] != -1 ? state : outLink[state]);
+		return s != -1 ? terminal[s] : -1;
+	}
+
+
+	/**
+	 * @param state the current state
+	 * @return the lowest pattern index of all the patterns ending at the current position, or -1 if no pattern ends here
+	 */
+	public int getLowestMatch(int state) {
+		return minOut[state];
+	}
+
+
+	/** Get the first state in the chain of states where a pattern ends at the current position.
+	 * Use {@link #getMatch(int)} and {@link #getStateDepth(int)} to get the pattern index and length of each match state
+	 * and {@link #getNextMatchState(int)} to step to the next shorter match
+	 * @param state the current state
+	 * @return the match state of the longest pattern ending at the current position, or -1 if no pattern ends here
+	 */
+	public int getMatchState(int state) {
+		return (terminal[state] != -1 ? state : outLink[state]);
+	}
+
+
+	/**
+	 * @param matchState a state returned by {@link #getMatchState(int)} or this method
+	 * @return the match state of the next shorter pattern ending at the same position, or -1 if there are no more
+	 */
+	public int getNextMatchState(int matchState) {
+		return outLink[matchState];
+	}
+
+
+	/**
+	 * @param patternIdx the index of a pattern returned by {@link #getMatch(int)} or this method
+	 * @return the next higher index of a pattern identical to the {@code patternIdx} pattern, or -1 if there are no more
+	 */
+	public int getNextIdenticalPattern(int patternIdx) {
+		return nextSamePattern[patternIdx];
+	}
+
+
+	/** Iterate over all of the patterns which end at the current position, from longest to shortest
+	 * @param state the current state
+	 * @param end the exclusive end index of the matches in the text
+	 * @param handler called with each matching pattern
+	 * @return false if {@code handler} returned false, true otherwise
+	 */
+	public boolean forEachMatchAt(int state, int end, MatchHandler handler) {
+		int s = (terminal[state] != -1 ? state : outLink[state]);
+		while(s != -1) {
+			int len = depth[s];
+			for(int p = terminal[s]; p != -1; p = nextSamePattern[p]) {
+				if(!handler.match(p, end - len, end)) {
+					return false;
+				}
+			}
+			s = outLink[s];
+		}
+		return true;
+	}
+
+
+	// ==== char[] ====
+
+	/** Search for the first (leftmost) occurrence of any of the patterns
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the start index of the leftmost match of any pattern, or -1 if none of the patterns could be found
+	 */
+	public int indexOf(char[] str, int strOff, int strLen) {
+		if(terminal[0] != -1) {
+			return strOff;
+		}
+		int bestStart = -1;
+		int state = 0;
+		for(int i = strOff, end = strOff + strLen; i < end; i++) {
+			state = next(state, classOf(str[i]));
+			int aliveStart = i + 1 - depth[state];
+			// no match can start before 'aliveStart', so no better match can be found
+			if(bestStart != -1 && aliveStart >= bestStart) {
+				break;
+			}
+			int s = (terminal[state] != -1 ? state : outLink[state]);
+			if(s != -1) {
+				int start = i + 1 - depth[s];
+				if(bestStart == -1 || start < bestStart) {
+					bestStart = start;
+				}
+			}
+		}
+		return bestStart;
+	}
+
+
+	/** Search for the lowest index pattern which occurs anywhere in a char array.
+	 * This is equivalent to, but much faster than, calling {@link StringIndex#indexOf(char[], int, int, String)} for each pattern in order
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the lowest index of a pattern found in {@code str}, in the range {@code [0, getPatternCount() - 1]},
+	 * or -1 if none of the patterns could be found
+	 */
+	public int indexOfMatch(char[] str, int strOff, int strLen) {
+		int best = minOut[0];
+		int state = 0;
+		for(int i = strOff, end = strOff + strLen; i < end && best != 0; i++) {
+			state = next(state, classOf(str[i]));
+			int m = minOut[state];
+			if(m != -1 && (best == -1 || m < best)) {
+				best = m;
+			}
+		}
+		return best;
+	}
+
+
+	/** Search for the lowest index pattern which occurs anywhere in a char array without being preceded by a prefix.
+	 * A match is accepted using the same rule as {@link StringIndex#indexOfNotPrefixedBy(char[], int, String, int, char[], int)},
+	 * but every occurrence of every pattern is checked in a single pass.
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param prefix the prefix, matches immediately preceded by this prefix are ignored
+	 * @param prefixOff the offset into the prefix array at which the prefix starts,
+	 * the prefix is assumed to occupy the remaining portion of the array
+	 * @return the lowest index of a pattern found in {@code str} that is not proceeded by {@code prefix},
+	 * in the range {@code [0, getPatternCount() - 1]}, or -1 if none of the patterns could be found
+	 */
+	public int indexOfMatchNotPrefixedBy(char[] str, int strOff, int strLen, char[] prefix, int prefixOff) {
+		int prefixLen = prefix.length - prefixOff;
+		int best = -1;
+		int state = 0;
+		int i = strOff;
+		int end = strOff + strLen;
+		while(true) {
+			// check every pattern ending at 'i', from longest to shortest
+			int s = (terminal[state] != -1 ? state : outLink[state]);
+			while(s != -1) {
+				int p = terminal[s];
+				if(best == -1 || p < best) {
+					int index = i - depth[s];
+					if(index - strOff < prefixLen || !StringCompare.equal(str, index - prefixLen, prefix, prefixOff, prefixLen)) {
+						best = p;
+					}
+				}
+				s = outLink[s];
+			}
+			if(best == 0 || i >= end) {
+				break;
+			}
+			state = next(state, classOf(str[i]));
+			i++;
+		}
+		return best;
+	}
+
+
+	/** Find all (possibly overlapping) matches of all patterns in a char array.
+	 * Matches are reported in order of their end index, matches with the same end index are reported from longest to shortest
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param handler called with each match, return false to stop searching
+	 * @return the number of matches passed to {@code handler}
+	 */
+	public int forEachMatch(char[] str, int strOff, int strLen, MatchHandler handler) {
+		int count = 0;
+		int state = 0;
+		int i = strOff;
+		int end = strOff + strLen;
+		while(true) {
+			int s = (terminal[state] != -1 ? state : outLink[state]);
+			while(s != -1) {
+				int len = depth[s];
+				for(int p = terminal[s]; p != -1; p = nextSamePattern[p]) {
+					count++;
+					if(!handler.match(p, i - len, i)) {
+						return count;
+					}
+				}
+				s = outLink[s];
+			}
+			if(i >= end) {
+				break;
+			}
+			state = next(state, classOf(str[i]));
+			i++;
+		}
+		return count;
+	}
+
+
+	// ==== CharSequence ====
+
+	/** Search for the first (leftmost) occurrence of any of the patterns
+	 * @see #indexOf(char[], int, int)
+	 */
+	public int indexOf(CharSequence str, int strOff, int strLen) {
+		if(terminal[0] != -1) {
+			return strOff;
+		}
+		int bestStart = -1;
+		int state = 0;
+		for(int i = strOff, end = strOff + strLen; i < end; i++) {
+			state = next(state, classOf(str.charAt(i)));
+			int aliveStart = i + 1 - depth[state];
+			if(bestStart != -1 && aliveStart >= bestStart) {
+				break;
+			}
+			int s = (terminal[state] != -1 ? state : outLink[state]);
+			if(s != -1) {
+				int start = i + 1 - depth[s];
+				if(bestStart == -1 || start < bestStart) {
+					bestStart = start;
+				}
+			}
+		}
+		return bestStart;
+	}
+
+
+	/** Search for the lowest index pattern which occurs anywhere in a char sequence
+	 * @see #indexOfMatch(char[], int, int)
+	 */
+	public int indexOfMatch(CharSequence str, int strOff, int strLen) {
+		int best = minOut[0];
+		int state = 0;
+		for(int i = strOff, end = strOff + strLen; i < end && best != 0; i++) {
+			state = next(state, classOf(str.charAt(i)));
+			int m = minOut[state];
+			if(m != -1 && (best == -1 || m < best)) {
+				best = m;
+			}
+		}
+		return best;
+	}
+
+
+	/** Find all (possibly overlapping) matches of all patterns in a char sequence
+	 * @see #forEachMatch(char[], int, int, MatchHandler)
+	 */
+	public int forEachMatch(CharSequence str, int strOff, int strLen, MatchHandler handler) {
+		int count = 0;
+		int state = 0;
+		int i = strOff;
+		int end = strOff + strLen;
+		while(true) {
+			int s = (terminal[state] != -1 ? state : outLink[state]);
+			while(s != -1) {
+				int len = depth[s];
+				for(int p = terminal[s]; p != -1; p = nextSamePattern[p]) {
+					count++;
+					if(!handler.match(p, i - len, i)) {
+						return count;
+					}
+				}
+				s = outLink[s];
+			}
+			if(i >= end) {
+				break;
+			}
+			state = next(state, classOf(str.charAt(i)));
+			i++;
+		}
+		return count;
+	}
+
+
+	private int classOf(char ch) {
+		if(ch < 128) {
+			return asciiClasses[ch];
+		}
+		int idx = Arrays.binarySearch(allChars, ch);
+		return idx < 0 ? 0 : idx + 1;
+	}
+
+
+	private int next(int state, int cls) {
+		if(delta != null) {
+			return delta[state * classCount + cls];
+		}
+		while(state != 0) {
+			// binary search the state's sorted edges
+			int lo = edgeStart[state];
+			int hi = edgeStart[state + 1] - 1;
+			while(lo <= hi) {
+				int mid = (lo + hi) >>> 1;
+				int c = edgeClass[mid];
+				if(c < cls) { lo = mid + 1; }
+				else if(c > cls) { hi = mid - 1; }
+				else { return edgeTarget[mid]; }
+			}
+			state = fail[state];
+		}
+		return rootRow[cls];
+	}
+
+
+
+
+	/** Receives pattern matches found by an {@link AhoCorasickMatcher}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	@FunctionalInterface
+	public static interface MatchHandler {
+
+		/**
+		 * @param patternIdx the index of the matching pattern
+		 * @param start the inclusive start index of the match
+		 * @param end the exclusive end index of the match
+		 * @return true to continue searching, false to stop
+		 */
+		public boolean match(int patternIdx, int start, int end);
+
+	}
+
+}
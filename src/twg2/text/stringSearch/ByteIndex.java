@@ -0,0 +1,424 @@
+package twg2.text.stringSearch;
+
+import java.nio.ByteBuffer;
+
+/** Methods for finding the index of a specific byte or sequence of bytes within a byte array or {@link ByteBuffer},
+ * i.e. to search ASCII or UTF-8 encoded network buffers without decoding them to strings.<br>
+ * The byte equivalent of {@link StringIndex}, multi-byte UTF-8 sequences are matched byte for byte,
+ * so the needle should be encoded the same way as the buffer, i.e. {@code "Content-Length".getBytes(StandardCharsets.UTF_8)}.<br>
+ * {@link ByteBuffer} offsets are absolute indices, the same as {@link ByteBuffer#get(int)}, so heap and direct buffers
+ * are both supported and the buffer's position and limit are never modified.
+ * Methods which do not take a length search up to {@link ByteBuffer#limit()}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+@javax.annotation.Generated("StringTemplate")
+public class ByteIndex {
+
+	private ByteIndex() { throw new AssertionError("cannot instantiate static class ByteIndex"); }
+
+
+	/**
+	 * @see #indexOf(byte[], int, int, byte)
+	 */
+	public static int indexOf(byte[] str, int strOff, byte matchByte) {
+		return indexOf(str, strOff, str.length - strOff, matchByte);
+	}
+
+
+	/** Search for a byte and return the absolute index where the first instance of the byte occurs
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param matchByte the byte to search for in {@code str}
+	 * @return the index of the found matching byte, from index 0, or -1 if the byte could not be found
+	 */
+	public static int indexOf(byte[] str, int strOff, int strLen, byte matchByte) {
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			if(str[i] == matchByte) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Search for a byte and return the absolute index where the last instance of the byte occurs
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param matchByte the byte to search for in {@code str}
+	 * @return the index of the found matching byte, from index 0, or -1 if the byte could not be found
+	 */
+	public static int lastIndexOf(byte[] str, int strOff, int strLen, byte matchByte) {
+		for(int i = strOff + strLen - 1; i >= strOff; i--) {
+			if(str[i] == matchByte) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOf(byte[], int, int, byte[], int, int)
+	 */
+	public static int indexOf(byte[] str, int strOff, byte[] subStr) {
+		return indexOf(str, strOff, str.length - strOff, subStr, 0, subStr.length);
+	}
+
+
+	/** Search for a sequence of bytes and return the absolute index where the sequence begins
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sequence starts
+	 * @param subStrLen the number of bytes to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sequence, from index 0, or -1 if the sequence could not be found
+	 */
+	public static int indexOf(byte[] str, int strOff, int strLen, byte[] subStr, int subStrOff, int subStrLen) {
+		// if the sequence has a length of zero, return the offset into the search range, no comparison needed
+		if(subStrLen == 0) { return strOff; }
+
+		byte firstByte = subStr[subStrOff];
+		int maxI = strOff + strLen - subStrLen;
+
+		for(int i = strOff; i <= maxI; i++) {
+			if(str[i] == firstByte && equal(str, i + 1, subStr, subStrOff + 1, subStrLen - 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #lastIndexOf(byte[], int, int, byte[], int, int)
+	 */
+	public static int lastIndexOf(byte[] str, byte[] subStr) {
+		return lastIndexOf(str, 0, str.length, subStr, 0, subStr.length);
+	}
+
+
+	/** Search for a sequence of bytes and return the absolute index where the last instance of the sequence begins
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sequence starts
+	 * @param subStrLen the number of bytes to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sequence, from index 0, or -1 if the sequence could not be found,
+	 * an empty sequence matches at {@code strOff + strLen}
+	 */
+	public static int lastIndexOf(byte[] str, int strOff, int strLen, byte[] subStr, int subStrOff, int subStrLen) {
+		// if the sequence has a length of zero, it matches at the end of the search range, no comparison needed
+		if(subStrLen == 0) { return strOff + strLen; }
+
+		byte firstByte = subStr[subStrOff];
+
+		for(int i = strOff + strLen - subStrLen; i >= strOff; i--) {
+			if(str[i] == firstByte && equal(str, i + 1, subStr, subStrOff + 1, subStrLen - 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the {@code n-th} occurrence of a byte in a range of bytes
+	 * @param str the bytes to search
+	 * @param off the {@code str} offset
+	 * @param len the number of bytes to search
+	 * @param occurrenceN the occurrence to find, 1 finds the first matching occurrence,
+	 * {@code N} finds the n-th occurrence, 0 finds the last occurrence
+	 * @param matchByte the byte to search for repeatedly
+	 * @return the index of the {@code n-th} occurrence of {@code matchByte} in {@code str},
+	 * or -1 if the range does not contain {@code n} occurrences
+	 */
+	public static int indexOfOccurrenceN(byte[] str, int off, int len, int occurrenceN, byte matchByte) {
+		if(occurrenceN == 0) {
+			return lastIndexOf(str, off, len, matchByte);
+		}
+		int occurI = 0;
+		for(int i = off, size = off + len; i < size; i++) {
+			if(str[i] == matchByte) {
+				occurI++;
+				if(occurI == occurrenceN) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the {@code n-th} non-overlapping occurrence of a sequence of bytes in a range of bytes
+	 * @param str the bytes to search
+	 * @param off the {@code str} offset
+	 * @param len the number of bytes to search
+	 * @param occurrenceN the occurrence to find, 1 finds the first matching occurrence,
+	 * {@code N} finds the n-th occurrence, 0 finds the last occurrence matched from the beginning
+	 * (the same as {@link StringIndex#indexOfOccurrenceN(String, int, int, int, String, int, int)})
+	 * @param matchStr the bytes to search for repeatedly
+	 * @param matchStrOff the {@code matchStr} offset
+	 * @param matchStrLen the number of bytes to match
+	 * @return the index of the {@code n-th} occurrence of {@code matchStr} in {@code str},
+	 * or -1 if the range does not contain {@code n} occurrences
+	 */
+	public static int indexOfOccurrenceN(byte[] str, int off, int len, int occurrenceN, byte[] matchStr, int matchStrOff, int matchStrLen) {
+		int occurI = 0;
+		int prevIdx = -1;
+		int end = off + len;
+		int i = indexOf(str, off, len, matchStr, matchStrOff, matchStrLen);
+		while(i > -1) {
+			occurI++;
+			if(occurI == occurrenceN) {
+				return i;
+			}
+			prevIdx = i;
+			// increment past the matching sequence
+			int next = i + Math.max(matchStrLen, 1);
+			i = (next <= end ? indexOf(str, next, end - next, matchStr, matchStrOff, matchStrLen) : -1);
+		}
+		return occurrenceN == 0 ? prevIdx : -1;
+	}
+
+
+	/** Find the index of a matching sequence of bytes that is not preceded by a specified prefix,
+	 * the same as {@link StringIndex#indexOfNotPrefixedBy(char[], int, char[], int, char[], int)}
+	 * except that each occurrence of {@code subStr} is checked
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for
+	 * @param prefix the prefix bytes, only prefixes which start at or after {@code strOff} are checked
+	 * @return the index of the start of a matching {@code subStr} within {@code str} that
+	 * is not preceded by {@code prefix}, or -1 if there is no such match
+	 */
+	public static int indexOfNotPrefixedBy(byte[] str, int strOff, int strLen, byte[] subStr, byte[] prefix) {
+		int prefixLen = prefix.length;
+		int end = strOff + strLen;
+		int index = indexOf(str, strOff, strLen, subStr, 0, subStr.length);
+		while(index > -1) {
+			if(index - strOff < prefixLen || !equal(str, index - prefixLen, prefix, 0, prefixLen)) {
+				return index;
+			}
+			index = (index < end ? indexOf(str, index + 1, end - index - 1, subStr, 0, subStr.length) : -1);
+		}
+		return -1;
+	}
+
+
+	private static boolean equal(byte[] str, int strOff, byte[] subStr, int subStrOff, int len) {
+		for(int i = 0; i < len; i++) {
+			if(str[strOff + i] != subStr[subStrOff + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @see #indexOf(ByteBuffer, int, int, byte)
+	 */
+	public static int indexOf(ByteBuffer str, int strOff, byte matchByte) {
+		return indexOf(str, strOff, str.limit() - strOff, matchByte);
+	}
+
+
+	/** Search for a byte and return the absolute index where the first instance of the byte occurs
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param matchByte the byte to search for in {@code str}
+	 * @return the index of the found matching byte, from index 0, or -1 if the byte could not be found
+	 */
+	public static int indexOf(ByteBuffer str, int strOff, int strLen, byte matchByte) {
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			if(str.get(i) == matchByte) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Search for a byte and return the absolute index where the last instance of the byte occurs
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param matchByte the byte to search for in {@code str}
+	 * @return the index of the found matching byte, from index 0, or -1 if the byte could not be found
+	 */
+	public static int lastIndexOf(ByteBuffer str, int strOff, int strLen, byte matchByte) {
+		for(int i = strOff + strLen - 1; i >= strOff; i--) {
+			if(str.get(i) == matchByte) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOf(ByteBuffer, int, int, byte[], int, int)
+	 */
+	public static int indexOf(ByteBuffer str, int strOff, byte[] subStr) {
+		return indexOf(str, strOff, str.limit() - strOff, subStr, 0, subStr.length);
+	}
+
+
+	/** Search for a sequence of bytes and return the absolute index where the sequence begins
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sequence starts
+	 * @param subStrLen the number of bytes to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sequence, from index 0, or -1 if the sequence could not be found
+	 */
+	public static int indexOf(ByteBuffer str, int strOff, int strLen, byte[] subStr, int subStrOff, int subStrLen) {
+		// if the sequence has a length of zero, return the offset into the search range, no comparison needed
+		if(subStrLen == 0) { return strOff; }
+
+		byte firstByte = subStr[subStrOff];
+		int maxI = strOff + strLen - subStrLen;
+
+		for(int i = strOff; i <= maxI; i++) {
+			if(str.get(i) == firstByte && equal(str, i + 1, subStr, subStrOff + 1, subStrLen - 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #lastIndexOf(ByteBuffer, int, int, byte[], int, int)
+	 */
+	public static int lastIndexOf(ByteBuffer str, byte[] subStr) {
+		return lastIndexOf(str, 0, str.limit(), subStr, 0, subStr.length);
+	}
+
+
+	/** Search for a sequence of bytes and return the absolute index where the last instance of the sequence begins
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sequence starts
+	 * @param subStrLen the number of bytes to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sequence, from index 0, or -1 if the sequence could not be found,
+	 * an empty sequence matches at {@code strOff + strLen}
+	 */
+	public static int lastIndexOf(ByteBuffer str, int strOff, int strLen, byte[] subStr, int subStrOff, int subStrLen) {
+		// if the sequence has a length of zero, it matches at the end of the search range, no comparison needed
+		if(subStrLen == 0) { return strOff + strLen; }
+
+		byte firstByte = subStr[subStrOff];
+
+		for(int i = strOff + strLen - subStrLen; i >= strOff; i--) {
+			if(str.get(i) == firstByte && equal(str, i + 1, subStr, subStrOff + 1, subStrLen - 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the {@code n-th} occurrence of a byte in a range of bytes
+	 * @param str the bytes to search
+	 * @param off the {@code str} offset
+	 * @param len the number of bytes to search
+	 * @param occurrenceN the occurrence to find, 1 finds the first matching occurrence,
+	 * {@code N} finds the n-th occurrence, 0 finds the last occurrence
+	 * @param matchByte the byte to search for repeatedly
+	 * @return the index of the {@code n-th} occurrence of {@code matchByte} in {@code str},
+	 * or -1 if the range does not contain {@code n} occurrences
+	 */
+	public static int indexOfOccurrenceN(ByteBuffer str, int off, int len, int occurrenceN, byte matchByte) {
+		if(occurrenceN == 0) {
+			return lastIndexOf(str, off, len, matchByte);
+		}
+		int occurI = 0;
+		for(int i = off, size = off + len; i < size; i++) {
+			if(str.get(i) == matchByte) {
+				occurI++;
+				if(occurI == occurrenceN) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find the {@code n-th} non-overlapping occurrence of a sequence of bytes in a range of bytes
+	 * @param str the bytes to search
+	 * @param off the {@code str} offset
+	 * @param len the number of bytes to search
+	 * @param occurrenceN the occurrence to find, 1 finds the first matching occurrence,
+	 * {@code N} finds the n-th occurrence, 0 finds the last occurrence matched from the beginning
+	 * (the same as {@link StringIndex#indexOfOccurrenceN(String, int, int, int, String, int, int)})
+	 * @param matchStr the bytes to search for repeatedly
+	 * @param matchStrOff the {@code matchStr} offset
+	 * @param matchStrLen the number of bytes to match
+	 * @return the index of the {@code n-th} occurrence of {@code matchStr} in {@code str},
+	 * or -1 if the range does not contain {@code n} occurrences
+	 */
+	public static int indexOfOccurrenceN(ByteBuffer str, int off, int len, int occurrenceN, byte[] matchStr, int matchStrOff, int matchStrLen) {
+		int occurI = 0;
+		int prevIdx = -1;
+		int end = off + len;
+		int i = indexOf(str, off, len, matchStr, matchStrOff, matchStrLen);
+		while(i > -1) {
+			occurI++;
+			if(occurI == occurrenceN) {
+				return i;
+			}
+			prevIdx = i;
+			// increment past the matching sequence
+			int next = i + Math.max(matchStrLen, 1);
+			i = (next <= end ? indexOf(str, next, end - next, matchStr, matchStrOff, matchStrLen) : -1);
+		}
+		return occurrenceN == 0 ? prevIdx : -1;
+	}
+
+
+	/** Find the index of a matching sequence of bytes that is not preceded by a specified prefix,
+	 * the same as {@link StringIndex#indexOfNotPrefixedBy(char[], int, char[], int, char[], int)}
+	 * except that each occurrence of {@code subStr} is checked
+	 * @param str the bytes to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of bytes to search starting at {@code strOff} in {@code str}
+	 * @param subStr the bytes to search for
+	 * @param prefix the prefix bytes, only prefixes which start at or after {@code strOff} are checked
+	 * @return the index of the start of a matching {@code subStr} within {@code str} that
+	 * is not preceded by {@code prefix}, or -1 if there is no such match
+	 */
+	public static int indexOfNotPrefixedBy(ByteBuffer str, int strOff, int strLen, byte[] subStr, byte[] prefix) {
+		int prefixLen = prefix.length;
+		int end = strOff + strLen;
+		int index = indexOf(str, strOff, strLen, subStr, 0, subStr.length);
+		while(index > -1) {
+			if(index - strOff < prefixLen || !equal(str, index - prefixLen, prefix, 0, prefixLen)) {
+				return index;
+			}
+			index = (index < end ? indexOf(str, index + 1, end - index - 1, subStr, 0, subStr.length) : -1);
+		}
+		return -1;
+	}
+
+
+	private static boolean equal(ByteBuffer str, int strOff, byte[] subStr, int subStrOff, int len) {
+		for(int i = 0; i < len; i++) {
+			if(str.get(strOff + i) != subStr[subStrOff + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
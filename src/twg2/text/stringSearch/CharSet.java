@@ -0,0 +1,340 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+
+/** An immutable, precompiled set of characters for finding the first or last occurrence of any character in the set,
+ * i.e. the delimiters {@code ",;\"\n"} in a tokenizer or CSV reader, in a single pass over the text.<br>
+ * ASCII characters are stored in a 128-bit bitmap (two longs) so that a membership test is one shift and mask,
+ * non-ASCII characters are stored in a sorted array and only binary searched if the character falls within its range.<br>
+ * Characters are UTF-16 code units, a supplementary code point added to the set adds both of its surrogate chars.<br>
+ * Methods follow the same offset/length conventions as {@link StringIndex}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class CharSet {
+	/** bitmap of chars 0-63 */
+	private final long low;
+	/** bitmap of chars 64-127 */
+	private final long high;
+	/** sorted, distinct chars >= 128 */
+	private final char[] nonAscii;
+	private final char nonAsciiMin;
+	private final char nonAsciiMax;
+
+
+	/**
+	 * @see #CharSet(char[], int, int)
+	 */
+	public CharSet(String chars) {
+		this(chars.toCharArray(), 0, chars.length());
+	}
+
+
+	/**
+	 * @see #CharSet(char[], int, int)
+	 */
+	public CharSet(char... chars) {
+		this(chars, 0, chars.length);
+	}
+
+
+	/** Compile a set of characters, duplicates are ignored
+	 * @param chars the characters in the set
+	 * @param off the offset into {@code chars} at which the characters start
+	 * @param len the number of characters from {@code chars} to add to the set
+	 */
+	public CharSet(char[] chars, int off, int len) {
+		long low = 0;
+		long high = 0;
+		char[] nonAscii = new char[len];
+		int nonAsciiCount = 0;
+		for(int i = off, size = off + len; i < size; i++) {
+			char ch = chars[i];
+			if(ch < 64) {
+				low |= (1L << ch);
+			}
+			else if(ch < 128) {
+				high |= (1L << ch);
+			}
+			else {
+				nonAscii[nonAsciiCount++] = ch;
+			}
+		}
+
+		Arrays.sort(nonAscii, 0, nonAsciiCount);
+		int distinctCount = 0;
+		for(int i = 0; i < nonAsciiCount; i++) {
+			if(distinctCount == 0 || nonAscii[distinctCount - 1] != nonAscii[i]) {
+				nonAscii[distinctCount++] = nonAscii[i];
+			}
+		}
+
+		this.low = low;
+		this.high = high;
+		this.nonAscii = Arrays.copyOf(nonAscii, distinctCount);
+		// an empty range (min > max) when there are no non-ASCII chars, so the range check always fails
+		this.nonAsciiMin = distinctCount > 0 ? this.nonAscii[0] : Character.MAX_VALUE;
+		this.nonAsciiMax = distinctCount > 0 ? this.nonAscii[distinctCount - 1] : 0;
+	}
+
+
+	/**
+	 * @return true if {@code ch} is in this set
+	 */
+	public boolean contains(char ch) {
+		// shift distances are masked to 6 bits, so 'ch' can be used directly for both bitmaps
+		return ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch);
+	}
+
+
+	/**
+	 * @return the number of distinct characters in this set
+	 */
+	public int size() {
+		return Long.bitCount(low) + Long.bitCount(high) + nonAscii.length;
+	}
+
+
+	/**
+	 * @return the characters in this set, in ascending order
+	 */
+	public char[] toCharArray() {
+		char[] res = new char[size()];
+		int n = 0;
+		for(int ch = 0; ch < 128; ch++) {
+			if(contains((char)ch)) {
+				res[n++] = (char)ch;
+			}
+		}
+		System.arraycopy(nonAscii, 0, res, n, nonAscii.length);
+		return res;
+	}
+
+
+	@Override
+	public String toString() {
+		return new String(toCharArray());
+	}
+
+
+	private boolean containsNonAscii(char ch) {
+		return ch >= nonAsciiMin && ch <= nonAsciiMax && Arrays.binarySearch(nonAscii, ch) > -1;
+	}
+
+
+	// ==== String ====
+
+	/**
+	 * @see #indexOfAny(String, int, int)
+	 */
+	public int indexOfAny(String str, int strOff) {
+		return indexOfAny(str, strOff, str.length() - strOff);
+	}
+
+
+	/** Search for any character in this set in a string and return the absolute index of the first match
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first character in {@code str} which is in this set, or -1 if none are found
+	 */
+	public int indexOfAny(String str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str.charAt(i);
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOfNone(String, int, int)
+	 */
+	public int indexOfNone(String str, int strOff) {
+		return indexOfNone(str, strOff, str.length() - strOff);
+	}
+
+
+	/** Search for the first character in a string which is not in this set, i.e. to skip whitespace
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first character in {@code str} which is not in this set, or -1 if all of them are
+	 */
+	public int indexOfNone(String str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str.charAt(i);
+			if(!(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Search for any character in this set in a string and return the absolute index of the last match
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the last character in {@code [strOff, strOff + strLen)} which is in this set, or -1 if none are found
+	 */
+	public int lastIndexOfAny(String str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff + strLen - 1; i >= strOff; i--) {
+			char ch = str.charAt(i);
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	// ==== char[] ====
+
+	/**
+	 * @see #indexOfAny(char[], int, int)
+	 */
+	public int indexOfAny(char[] str, int strOff) {
+		return indexOfAny(str, strOff, str.length - strOff);
+	}
+
+
+	/**
+	 * @see #indexOfAny(String, int, int)
+	 */
+	public int indexOfAny(char[] str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str[i];
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOfNone(char[], int, int)
+	 */
+	public int indexOfNone(char[] str, int strOff) {
+		return indexOfNone(str, strOff, str.length - strOff);
+	}
+
+
+	/**
+	 * @see #indexOfNone(String, int, int)
+	 */
+	public int indexOfNone(char[] str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str[i];
+			if(!(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #lastIndexOfAny(String, int, int)
+	 */
+	public int lastIndexOfAny(char[] str, int strOff, int strLen) {
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff + strLen - 1; i >= strOff; i--) {
+			char ch = str[i];
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	// ==== CharSequence ====
+
+	/**
+	 * @see #indexOfAny(CharSequence, int, int)
+	 */
+	public int indexOfAny(CharSequence str, int strOff) {
+		return indexOfAny(str, strOff, str.length() - strOff);
+	}
+
+
+	/**
+	 * @see #indexOfAny(String, int, int)
+	 */
+	public int indexOfAny(CharSequence str, int strOff, int strLen) {
+		if(str instanceof String) {
+			return indexOfAny((String)str, strOff, strLen);
+		}
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str.charAt(i);
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOfNone(CharSequence, int, int)
+	 */
+	public int indexOfNone(CharSequence str, int strOff) {
+		return indexOfNone(str, strOff, str.length() - strOff);
+	}
+
+
+	/**
+	 * @see #indexOfNone(String, int, int)
+	 */
+	public int indexOfNone(CharSequence str, int strOff, int strLen) {
+		if(str instanceof String) {
+			return indexOfNone((String)str, strOff, strLen);
+		}
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			char ch = str.charAt(i);
+			if(!(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #lastIndexOfAny(String, int, int)
+	 */
+	public int lastIndexOfAny(CharSequence str, int strOff, int strLen) {
+		if(str instanceof String) {
+			return lastIndexOfAny((String)str, strOff, strLen);
+		}
+		long low = this.low;
+		long high = this.high;
+		for(int i = strOff + strLen - 1; i >= strOff; i--) {
+			char ch = str.charAt(i);
+			if(ch < 128 ? (((ch < 64 ? low : high) >>> ch) & 1L) != 0 : containsNonAscii(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
@@ -0,0 +1,601 @@
+package twg2.text.stringSearch;
+
+/** An immutable, precompiled sub-string search pattern.<br>
+ * The search tables are built once in the constructor so that code which searches for the
+ * same pattern many times (i.e. in a loop over lines of a log file) only pays the preprocessing cost once.<br>
+ * Searching uses the Two-Way string matching algorithm (Crochemore-Perrin) which runs in worst-case
+ * linear time and constant extra space (regardless of how repetitive the pattern or text are, i.e. {@code "----------"}),
+ * combined with a Boyer-Moore-Horspool style skip table indexed by the last character of each search window
+ * which allows the search to skip over most of the text in typical (non-repetitive) cases.<br>
+ * Methods follow the same offset/length conventions as {@link StringIndex}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class CompiledSubstring {
+	private final char[] pattern;
+	private final TwoWay fwd;
+	private final TwoWay rev;
+
+
+	/**
+	 * @see #CompiledSubstring(char[], int, int)
+	 */
+	public CompiledSubstring(String pattern) {
+		this(pattern.toCharArray(), 0, pattern.length());
+	}
+
+
+	/** Compile a search pattern
+	 * @param pattern the characters to search for, this array is copied
+	 * @param off the offset into {@code pattern} at which the pattern starts
+	 * @param len the number of characters from {@code pattern} to search for
+	 */
+	public CompiledSubstring(char[] pattern, int off, int len) {
+		char[] pat = new char[len];
+		char[] revPat = new char[len];
+		System.arraycopy(pattern, off, pat, 0, len);
+		for(int i = 0; i < len; i++) {
+			revPat[i] = pat[len - 1 - i];
+		}
+		this.pattern = pat;
+		this.fwd = new TwoWay(pat);
+		this.rev = new TwoWay(revPat);
+	}
+
+
+	/**
+	 * @return the number of characters in this pattern
+	 */
+	public int length() {
+		return pattern.length;
+	}
+
+
+	/**
+	 * @return a copy of this pattern's characters
+	 */
+	public char[] getPattern() {
+		return pattern.clone();
+	}
+
+
+	@Override
+	public String toString() {
+		return new String(pattern);
+	}
+
+
+	// ==== String ====
+
+	/**
+	 * @see #indexOf(String, int, int)
+	 */
+	public int indexOf(String str, int strOff) {
+		return indexOf(str, strOff, str.length() - strOff);
+	}
+
+
+	/** Search for this pattern in a string and return the absolute index
+	 * where the first instance of the pattern begins, or -1 if the pattern does not exist in the string
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first match, or -1 if this pattern could not be found
+	 */
+	public int indexOf(String str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff : StringIndex.indexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.fwd;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		int pos = strOff;
+		int maxPos = strOff + strLen - l;
+
+		while(pos <= maxPos) {
+			// check the last char of the window first and skip ahead if possible
+			int b = str.charAt(pos + l - 1) & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					pos += (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				pos += l;
+				mem = 0;
+				continue;
+			}
+			// compare the right half
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str.charAt(pos + k)) { k++; }
+			if(k < l) {
+				pos += k - ms;
+				mem = 0;
+				continue;
+			}
+			// compare the left half
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str.charAt(pos + k - 1)) { k--; }
+			if(k <= mem) {
+				return pos;
+			}
+			pos += tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Search for this pattern in a string and return the absolute index
+	 * where the last instance of the pattern begins, or -1 if the pattern does not exist in the string
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} at which the search range starts
+	 * @param strLen the number of chars in the search range, searching starts at the end of this range
+	 * @return the index of the last match which lies completely inside the search range, or -1 if this pattern could not be found
+	 */
+	public int lastIndexOf(String str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff + strLen : StringIndex.lastIndexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.rev;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		// 'end' is the exclusive end index of the current window, the reversed pattern is compared to the text from right to left
+		int end = strOff + strLen;
+		int minEnd = strOff + l;
+
+		while(end >= minEnd) {
+			int b = str.charAt(end - l) & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					end -= (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				end -= l;
+				mem = 0;
+				continue;
+			}
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str.charAt(end - 1 - k)) { k++; }
+			if(k < l) {
+				end -= k - ms;
+				mem = 0;
+				continue;
+			}
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str.charAt(end - k)) { k--; }
+			if(k <= mem) {
+				return end - l;
+			}
+			end -= tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Count the number of non-overlapping matches of this pattern in a string
+	 * @param str the string to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the number of non-overlapping matches found, or 0 if this pattern is empty
+	 */
+	public int countMatches(String str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l == 0) {
+			return 0;
+		}
+		int count = 0;
+		int end = strOff + strLen;
+		int i = indexOf(str, strOff, strLen);
+		while(i > -1) {
+			count++;
+			i += l;
+			i = indexOf(str, i, end - i);
+		}
+		return count;
+	}
+
+
+	// ==== char[] ====
+
+	/**
+	 * @see #indexOf(char[], int, int)
+	 */
+	public int indexOf(char[] str, int strOff) {
+		return indexOf(str, strOff, str.length - strOff);
+	}
+
+
+	/** Search for this pattern in a char array and return the absolute index
+	 * where the first instance of the pattern begins, or -1 if the pattern does not exist in the array
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first match, or -1 if this pattern could not be found
+	 */
+	public int indexOf(char[] str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff : StringIndex.indexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.fwd;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		int pos = strOff;
+		int maxPos = strOff + strLen - l;
+
+		while(pos <= maxPos) {
+			int b = str[pos + l - 1] & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					pos += (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				pos += l;
+				mem = 0;
+				continue;
+			}
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str[pos + k]) { k++; }
+			if(k < l) {
+				pos += k - ms;
+				mem = 0;
+				continue;
+			}
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str[pos + k - 1]) { k--; }
+			if(k <= mem) {
+				return pos;
+			}
+			pos += tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Search for this pattern in a char array and return the absolute index
+	 * where the last instance of the pattern begins, or -1 if the pattern does not exist in the array
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which the search range starts
+	 * @param strLen the number of chars in the search range, searching starts at the end of this range
+	 * @return the index of the last match which lies completely inside the search range, or -1 if this pattern could not be found
+	 */
+	public int lastIndexOf(char[] str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff + strLen : StringIndex.lastIndexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.rev;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		int end = strOff + strLen;
+		int minEnd = strOff + l;
+
+		while(end >= minEnd) {
+			int b = str[end - l] & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					end -= (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				end -= l;
+				mem = 0;
+				continue;
+			}
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str[end - 1 - k]) { k++; }
+			if(k < l) {
+				end -= k - ms;
+				mem = 0;
+				continue;
+			}
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str[end - k]) { k--; }
+			if(k <= mem) {
+				return end - l;
+			}
+			end -= tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Count the number of non-overlapping matches of this pattern in a char array
+	 * @param str the char array to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the number of non-overlapping matches found, or 0 if this pattern is empty
+	 */
+	public int countMatches(char[] str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l == 0) {
+			return 0;
+		}
+		int count = 0;
+		int end = strOff + strLen;
+		int i = indexOf(str, strOff, strLen);
+		while(i > -1) {
+			count++;
+			i += l;
+			i = indexOf(str, i, end - i);
+		}
+		return count;
+	}
+
+
+	// ==== CharSequence ====
+
+	/**
+	 * @see #indexOf(CharSequence, int, int)
+	 */
+	public int indexOf(CharSequence str, int strOff) {
+		return indexOf(str, strOff, str.length() - strOff);
+	}
+
+
+	/** Search for this pattern in a char sequence and return the absolute index
+	 * where the first instance of the pattern begins, or -1 if the pattern does not exist in the char sequence
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first match, or -1 if this pattern could not be found
+	 */
+	public int indexOf(CharSequence str, int strOff, int strLen) {
+		if(str instanceof String) {
+			return indexOf((String)str, strOff, strLen);
+		}
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff : StringIndex.indexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.fwd;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		int pos = strOff;
+		int maxPos = strOff + strLen - l;
+
+		while(pos <= maxPos) {
+			int b = str.charAt(pos + l - 1) & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					pos += (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				pos += l;
+				mem = 0;
+				continue;
+			}
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str.charAt(pos + k)) { k++; }
+			if(k < l) {
+				pos += k - ms;
+				mem = 0;
+				continue;
+			}
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str.charAt(pos + k - 1)) { k--; }
+			if(k <= mem) {
+				return pos;
+			}
+			pos += tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Search for this pattern in a char sequence and return the absolute index
+	 * where the last instance of the pattern begins, or -1 if the pattern does not exist in the char sequence
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which the search range starts
+	 * @param strLen the number of chars in the search range, searching starts at the end of this range
+	 * @return the index of the last match which lies completely inside the search range, or -1 if this pattern could not be found
+	 */
+	public int lastIndexOf(CharSequence str, int strOff, int strLen) {
+		if(str instanceof String) {
+			return lastIndexOf((String)str, strOff, strLen);
+		}
+		int l = pattern.length;
+		if(l < 2) {
+			return l == 0 ? strOff + strLen : StringIndex.lastIndexOf(str, strOff, strLen, pattern[0]);
+		}
+		TwoWay tw = this.rev;
+		char[] n = tw.pat;
+		int[] shift = tw.shift;
+		long[] set = tw.set;
+		int ms = tw.ms;
+		int mem = 0;
+		int end = strOff + strLen;
+		int minEnd = strOff + l;
+
+		while(end >= minEnd) {
+			int b = str.charAt(end - l) & 0xFF;
+			if((set[b >>> 6] & (1L << b)) != 0) {
+				int k = l - shift[b];
+				if(k != 0) {
+					end -= (k < mem ? mem : k);
+					mem = 0;
+					continue;
+				}
+			}
+			else {
+				end -= l;
+				mem = 0;
+				continue;
+			}
+			int k = (ms + 1 > mem ? ms + 1 : mem);
+			while(k < l && n[k] == str.charAt(end - 1 - k)) { k++; }
+			if(k < l) {
+				end -= k - ms;
+				mem = 0;
+				continue;
+			}
+			k = ms + 1;
+			while(k > mem && n[k - 1] == str.charAt(end - k)) { k--; }
+			if(k <= mem) {
+				return end - l;
+			}
+			end -= tw.period;
+			mem = tw.mem0;
+		}
+		return -1;
+	}
+
+
+	/** Count the number of non-overlapping matches of this pattern in a char sequence
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the number of non-overlapping matches found, or 0 if this pattern is empty
+	 */
+	public int countMatches(CharSequence str, int strOff, int strLen) {
+		int l = pattern.length;
+		if(l == 0) {
+			return 0;
+		}
+		int count = 0;
+		int end = strOff + strLen;
+		int i = indexOf(str, strOff, strLen);
+		while(i > -1) {
+			count++;
+			i += l;
+			i = indexOf(str, i, end - i);
+		}
+		return count;
+	}
+
+
+
+
+	/** The precomputed Two-Way critical factorization and last-character skip table for one search direction
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	static class TwoWay {
+		/** the pattern, reversed for backward searches */
+		final char[] pat;
+		/** the index of the last character in the left half of the critical factorization (may be -1) */
+		final int ms;
+		/** the shift to apply after a full match (the pattern's period or a safe lower bound) */
+		final int period;
+		/** the number of characters known to match after shifting by {@code period}, 0 if the pattern is not periodic */
+		final int mem0;
+		/** 256 bits, set if any pattern char maps to the bucket {@code (ch & 0xFF)} */
+		final long[] set;
+		/** for each bucket, 1 + the greatest pattern index of a char mapping to that bucket */
+		final int[] shift;
+
+
+		TwoWay(char[] n) {
+			int l = n.length;
+			this.pat = n;
+			this.set = new long[4];
+			this.shift = new int[256];
+			for(int i = 0; i < l; i++) {
+				int b = n[i] & 0xFF;
+				set[b >>> 6] |= (1L << b);
+				shift[b] = i + 1;
+			}
+
+			// compute the maximal suffix with respect to '<' and '>' orderings, the larger of the two is the critical factorization
+			int[] less = maximalSuffix(n, false);
+			int[] greater = maximalSuffix(n, true);
+			int[] crit = (greater[0] > less[0] ? greater : less);
+			int ms = crit[0];
+			int p = crit[1];
+
+			// if the left half of the pattern also occurs one period later then the pattern is periodic
+			boolean periodic = p + ms + 1 <= l;
+			for(int i = 0; periodic && i <= ms; i++) {
+				if(n[i] != n[i + p]) {
+					periodic = false;
+				}
+			}
+			if(periodic) {
+				this.period = p;
+				this.mem0 = l - p;
+			}
+			else {
+				this.period = Math.max(ms + 1, l - ms - 1) + 1;
+				this.mem0 = 0;
+			}
+			this.ms = ms;
+		}
+
+
+		/** Compute the maximal suffix of a pattern using either '<' or '>' character ordering
+		 * @return {@code [index of the last char before the maximal suffix (may be -1), period of the maximal suffix]}
+		 */
+		private static int[] maximalSuffix(char[] n, boolean greater) {
+			int l = n.length;
+			int ip = -1;
+			int jp = 0;
+			int k = 1;
+			int p = 1;
+			while(jp + k < l) {
+				char a = n[ip + k];
+				char b = n[jp + k];
+				if(a == b) {
+					if(k == p) {
+						jp += p;
+						k = 1;
+					}
+					else {
+						k++;
+					}
+				}
+				else if(greater ? a < b : a > b) {
+					jp += k;
+					k = 1;
+					p = jp - ip;
+				}
+				else {
+					ip = jp++;
+					k = p = 1;
+				}
+			}
+			return new int[] { ip, p };
+		}
+
+	}
+
+}
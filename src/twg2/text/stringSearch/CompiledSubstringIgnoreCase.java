@@ -0,0 +1,144 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+
+/** An immutable, precompiled case-insensitive sub-string search pattern, the case-insensitive equivalent of {@link CompiledSubstring}.<br>
+ * The pattern is case-folded once (see {@link StringIgnoreCase#fold(char)}) and searched for using a Boyer-Moore-Horspool
+ * skip table built from the folded pattern, each text character is folded as it is read so the text is never copied.<br>
+ * Methods follow the same offset/length conventions as {@link StringIndex}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class CompiledSubstringIgnoreCase {
+	/** the number of skip table buckets, folded chars are mapped to buckets by their low bits */
+	private static final int SKIP_TABLE_SIZE = 256;
+	private static final int SKIP_TABLE_MASK = SKIP_TABLE_SIZE - 1;
+
+	private final char[] pattern;
+	/** the distance from each bucket's last occurrence in the pattern (excluding the last char) to the end of the pattern */
+	private final int[] shift;
+
+
+	/** Compile a case-insensitive search pattern
+	 * @param pattern the characters to search for
+	 */
+	public CompiledSubstringIgnoreCase(CharSequence pattern) {
+		int len = pattern.length();
+		char[] pat = new char[len];
+		for(int i = 0; i < len; i++) {
+			pat[i] = StringIgnoreCase.fold(pattern.charAt(i));
+		}
+		int[] shift = new int[SKIP_TABLE_SIZE];
+		Arrays.fill(shift, Math.max(len, 1));
+		for(int i = 0; i < len - 1; i++) {
+			shift[pat[i] & SKIP_TABLE_MASK] = len - 1 - i;
+		}
+		this.pattern = pat;
+		this.shift = shift;
+	}
+
+
+	/**
+	 * @return the number of characters in this pattern
+	 */
+	public int length() {
+		return pattern.length;
+	}
+
+
+	/**
+	 * @return this pattern's case-folded characters
+	 */
+	@Override
+	public String toString() {
+		return new String(pattern);
+	}
+
+
+	/**
+	 * @return true if {@code str} contains this pattern ignoring case
+	 */
+	public boolean containedIn(CharSequence str) {
+		return indexOf(str, 0, str.length()) > -1;
+	}
+
+
+	/** Search for this pattern ignoring case and return the absolute index where the first match begins
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the index of the first match, or -1 if this pattern could not be found, an empty pattern matches at {@code strOff}
+	 */
+	public int indexOf(CharSequence str, int strOff, int strLen) {
+		char[] pat = this.pattern;
+		int[] shift = this.shift;
+		int m = pat.length;
+		if(m == 0) { return strOff; }
+
+		char last = pat[m - 1];
+		for(int i = strOff + m - 1, end = strOff + strLen; i < end; ) {
+			char ch = StringIgnoreCase.fold(str.charAt(i));
+			if(ch == last) {
+				int start = i - m + 1;
+				int k = m - 2;
+				while(k >= 0 && StringIgnoreCase.fold(str.charAt(start + k)) == pat[k]) {
+					k--;
+				}
+				if(k < 0) {
+					return start;
+				}
+			}
+			i += shift[ch & SKIP_TABLE_MASK];
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOf(CharSequence, int, int)
+	 */
+	public int indexOf(char[] str, int strOff, int strLen) {
+		char[] pat = this.pattern;
+		int[] shift = this.shift;
+		int m = pat.length;
+		if(m == 0) { return strOff; }
+
+		char last = pat[m - 1];
+		for(int i = strOff + m - 1, end = strOff + strLen; i < end; ) {
+			char ch = StringIgnoreCase.fold(str[i]);
+			if(ch == last) {
+				int start = i - m + 1;
+				int k = m - 2;
+				while(k >= 0 && StringIgnoreCase.fold(str[start + k]) == pat[k]) {
+					k--;
+				}
+				if(k < 0) {
+					return start;
+				}
+			}
+			i += shift[ch & SKIP_TABLE_MASK];
+		}
+		return -1;
+	}
+
+
+	/** Count the number of non-overlapping matches of this pattern ignoring case
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @return the number of non-overlapping matches found, or 0 if this pattern is empty
+	 */
+	public int countMatches(CharSequence str, int strOff, int strLen) {
+		int m = pattern.length;
+		if(m == 0) {
+			return 0;
+		}
+		int count = 0;
+		int end = strOff + strLen;
+		for(int i = indexOf(str, strOff, strLen); i > -1; i = indexOf(str, i + m, end - i - m)) {
+			count++;
+		}
+		return count;
+	}
+
+}
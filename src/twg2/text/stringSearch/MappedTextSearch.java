@@ -0,0 +1,379 @@
+package twg2.text.stringSearch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/** Search a memory-mapped file for bytes, byte sequences, strings, and sets of strings without decoding the file.<br>
+ * The file is mapped read-only in segments (so files larger than 2GB can be searched), each segment overlaps
+ * the next by {@code maxNeedleLength - 1} bytes so that a match which starts in one segment always ends within
+ * the same mapped segment.<br>
+ * String needles are encoded to bytes using a {@link Charset} and matched byte-for-byte, this finds exactly the
+ * matching characters when the file and needle use the same ASCII, Latin-1 (ISO-8859-1), or UTF-8 encoding,
+ * since a UTF-8 encoded needle can only match at a character boundary. Other multi-byte encodings such as UTF-16
+ * can produce false matches which span two characters.<br>
+ * All offsets are absolute byte offsets from the start of the file.<br>
+ * Note: the mapped segments are released when they are garbage collected, {@link #close()} only closes the file channel.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class MappedTextSearch implements Closeable {
+	/** the default maximum number of bytes mapped per segment, excluding overlap */
+	public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+	/** the default maximum needle length in bytes */
+	public static final int DEFAULT_MAX_NEEDLE_LENGTH = 1 << 16;
+
+	private final FileChannel channel;
+	private final long fileSize;
+	private final int segmentSize;
+	private final int maxNeedleLength;
+	private final MappedByteBuffer[] segments;
+
+
+	/**
+	 * @see #MappedTextSearch(Path, int, int)
+	 */
+	public MappedTextSearch(Path file) throws IOException {
+		this(file, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_NEEDLE_LENGTH);
+	}
+
+
+	/** Memory-map a file for searching
+	 * @param file the file to search
+	 * @param segmentSize the number of bytes of the file covered by each mapped segment, excluding the overlap with the next segment
+	 * @param maxNeedleLength the maximum length, in bytes, of needles which can be searched for,
+	 * each segment is mapped with {@code maxNeedleLength - 1} extra bytes which overlap the next segment
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public MappedTextSearch(Path file, int segmentSize, int maxNeedleLength) throws IOException {
+		if(segmentSize < 1 || maxNeedleLength < 1 || (long)segmentSize + maxNeedleLength - 1 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("segmentSize (" + segmentSize + ") and maxNeedleLength (" + maxNeedleLength + ") must be positive " +
+					"and their sum must not exceed " + Integer.MAX_VALUE);
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long fileSize = channel.size();
+			int segmentCount = (int)((fileSize + segmentSize - 1) / segmentSize);
+			MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+			for(int i = 0; i < segmentCount; i++) {
+				long start = (long)i * segmentSize;
+				long size = Math.min(fileSize - start, (long)segmentSize + maxNeedleLength - 1);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+			}
+			this.channel = channel;
+			this.fileSize = fileSize;
+			this.segmentSize = segmentSize;
+			this.maxNeedleLength = maxNeedleLength;
+			this.segments = segments;
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+
+	/**
+	 * @return the size of the file in bytes
+	 */
+	public long size() {
+		return fileSize;
+	}
+
+
+	/**
+	 * @return the maximum needle length in bytes
+	 */
+	public int getMaxNeedleLength() {
+		return maxNeedleLength;
+	}
+
+
+	/**
+	 * @param pos the absolute offset of the byte in the file
+	 * @return the byte at {@code pos}
+	 */
+	public byte byteAt(long pos) {
+		if(pos < 0 || pos >= fileSize) {
+			throw new IndexOutOfBoundsException("pos " + pos + ", file size " + fileSize);
+		}
+		return segments[(int)(pos / segmentSize)].get((int)(pos % segmentSize));
+	}
+
+
+	/** Search for a byte
+	 * @param b the byte to search for
+	 * @param fromPos the absolute offset in the file at which to start searching
+	 * @return the absolute offset of the first {@code b} at or after {@code fromPos}, or -1 if it does not occur
+	 */
+	public long indexOf(byte b, long fromPos) {
+		for(int seg = segmentIndex(fromPos); seg < segments.length; seg++) {
+			ByteBuffer buf = segments[seg];
+			long segStart = (long)seg * segmentSize;
+			int end = segmentEnd(buf);
+			for(int i = (int)(Math.max(fromPos, segStart) - segStart); i < end; i++) {
+				if(buf.get(i) == b) {
+					return segStart + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOf(byte[], long)
+	 */
+	public long indexOf(String needle, Charset charset, long fromPos) {
+		return indexOf(needle.getBytes(charset), fromPos);
+	}
+
+
+	/** Search for a sequence of bytes using a Boyer-Moore-Horspool skip table
+	 * @param needle the bytes to search for, no longer than {@link #getMaxNeedleLength()}
+	 * @param fromPos the absolute offset in the file at which to start searching
+	 * @return the absolute offset of the first occurrence of {@code needle} at or after {@code fromPos}, or -1 if it does not occur,
+	 * an empty needle matches at {@code fromPos}
+	 */
+	public long indexOf(byte[] needle, long fromPos) {
+		int len = checkNeedle(needle);
+		if(len == 0) {
+			return Math.min(Math.max(fromPos, 0), fileSize);
+		}
+		if(len == 1) {
+			return indexOf(needle[0], fromPos);
+		}
+		int[] shift = skipTable(needle);
+		for(int seg = segmentIndex(fromPos); seg < segments.length; seg++) {
+			long segStart = (long)seg * segmentSize;
+			int idx = indexOf(segments[seg], (int)(Math.max(fromPos, segStart) - segStart), segmentEnd(segments[seg]), needle, shift);
+			if(idx > -1) {
+				return segStart + idx;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Count the number of occurrences of a byte
+	 * @param b the byte to count
+	 * @return the number of times {@code b} appears in the file
+	 */
+	public long countMatches(byte b) {
+		long count = 0;
+		for(int seg = 0; seg < segments.length; seg++) {
+			ByteBuffer buf = segments[seg];
+			for(int i = 0, end = segmentEnd(buf); i < end; i++) {
+				count += (buf.get(i) == b ? 1 : 0);
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #countMatches(byte[])
+	 */
+	public long countMatches(String needle, Charset charset) {
+		return countMatches(needle.getBytes(charset));
+	}
+
+
+	/** Count the number of non-overlapping occurrences of a sequence of bytes, the same way as {@link twg2.text.stringUtils.StringSplit#countMatches(String, String)}
+	 * @param needle the bytes to search for, no longer than {@link #getMaxNeedleLength()}, and not empty
+	 * @return the number of non-overlapping occurrences of {@code needle} in the file
+	 */
+	public long countMatches(byte[] needle) {
+		int len = checkNeedle(needle);
+		if(len == 0) {
+			throw new IllegalArgumentException("cannot count empty needle");
+		}
+		if(len == 1) {
+			return countMatches(needle[0]);
+		}
+		int[] shift = skipTable(needle);
+		long count = 0;
+		// the absolute offset at which the next match can start, matches near the end of a segment extend into its overlap
+		long nextPos = 0;
+		for(int seg = 0; seg < segments.length; seg++) {
+			ByteBuffer buf = segments[seg];
+			long segStart = (long)seg * segmentSize;
+			int end = segmentEnd(buf);
+			int idx = (int)(Math.max(nextPos, segStart) - segStart);
+			while(idx < end && (idx = indexOf(buf, idx, end, needle, shift)) > -1) {
+				count++;
+				idx += len;
+				nextPos = segStart + idx;
+			}
+		}
+		return count;
+	}
+
+
+	/** Compile a set of string needles, encoded with a charset, into a matcher which can be used by
+	 * {@link #indexOfAny(AhoCorasickMatcher, long)} and {@link #forEachMatch(AhoCorasickMatcher, long, MatchHandler)}.<br>
+	 * Each byte of an encoded needle is stored as one char in the range [0, 255].
+	 * @param needles the strings to search for, no longer than {@link #getMaxNeedleLength()} once encoded
+	 * @param charset the encoding of the file being searched
+	 * @return a matcher of the encoded needles, pattern indexes match the iteration order of {@code needles}
+	 */
+	public static AhoCorasickMatcher compileNeedles(Collection<String> needles, Charset charset) {
+		List<String> byteStrs = new ArrayList<>(needles.size());
+		for(String needle : needles) {
+			byteStrs.add(new String(needle.getBytes(charset), StandardCharsets.ISO_8859_1));
+		}
+		return new AhoCorasickMatcher(byteStrs);
+	}
+
+
+	/** Search for the leftmost occurrence of any of a set of needles in a single pass over the file
+	 * @param needles the needles compiled by {@link #compileNeedles(Collection, Charset)}
+	 * @param fromPos the absolute offset in the file at which to start searching
+	 * @return the absolute offset of the earliest starting needle at or after {@code fromPos}, or -1 if none of the needles occur
+	 */
+	public long indexOfAny(AhoCorasickMatcher needles, long fromPos) {
+		int state = needles.getStartState();
+		if(needles.getMatchState(state) != -1) {
+			return Math.min(Math.max(fromPos, 0), fileSize);
+		}
+		long bestStart = -1;
+		for(int seg = segmentIndex(fromPos); seg < segments.length; seg++) {
+			ByteBuffer buf = segments[seg];
+			long segStart = (long)seg * segmentSize;
+			for(int i = (int)(Math.max(fromPos, segStart) - segStart), end = segmentEnd(buf); i < end; i++) {
+				state = needles.nextState(state, (char)(buf.get(i) & 0xFF));
+				long matchEnd = segStart + i + 1;
+				// once the current partial match starts after the best match, no later match can start earlier
+				if(bestStart != -1 && matchEnd - needles.getStateDepth(state) > bestStart) {
+					return bestStart;
+				}
+				for(int s = needles.getMatchState(state); s != -1; s = needles.getNextMatchState(s)) {
+					long start = matchEnd - needles.getStateDepth(s);
+					if(bestStart == -1 || start < bestStart) {
+						bestStart = start;
+					}
+				}
+			}
+		}
+		return bestStart;
+	}
+
+
+	/** Find every occurrence of a set of needles in a single pass over the file
+	 * @param needles the needles compiled by {@link #compileNeedles(Collection, Charset)}
+	 * @param fromPos the absolute offset in the file at which to start searching
+	 * @param handler called for each match, in order of the match end offset, longest match first, return false to stop searching
+	 * @return the number of matches passed to {@code handler}
+	 */
+	public long forEachMatch(AhoCorasickMatcher needles, long fromPos, MatchHandler handler) {
+		long count = 0;
+		int state = needles.getStartState();
+		for(int seg = segmentIndex(fromPos); seg < segments.length; seg++) {
+			ByteBuffer buf = segments[seg];
+			long segStart = (long)seg * segmentSize;
+			for(int i = (int)(Math.max(fromPos, segStart) - segStart), end = segmentEnd(buf); i < end; i++) {
+				state = needles.nextState(state, (char)(buf.get(i) & 0xFF));
+				long matchEnd = segStart + i + 1;
+				// walk the matches ending here from longest to shortest, including identical needles
+				for(int s = needles.getMatchState(state); s != -1; s = needles.getNextMatchState(s)) {
+					long start = matchEnd - needles.getStateDepth(s);
+					for(int p = needles.getMatch(s); p != -1; p = needles.getNextIdenticalPattern(p)) {
+						count++;
+						if(!handler.match(p, start, matchEnd)) {
+							return count;
+						}
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+
+	/** Receives needle matches with {@code long} offsets, found in a file by a {@link MappedTextSearch}
+	 * or in a stream by a {@link StreamingMatcher}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	@FunctionalInterface
+	public static interface MatchHandler {
+
+		/**
+		 * @param needleIdx the index of the matching needle
+		 * @param start the absolute offset in the file (or stream) of the first byte (or char) of the match
+		 * @param end the absolute offset in the file (or stream) just past the last byte (or char) of the match (exclusive)
+		 * @return true to continue searching, false to stop
+		 */
+		public boolean match(int needleIdx, long start, long end);
+
+	}
+
+
+	private int segmentIndex(long pos) {
+		return (int)(Math.max(pos, 0) / segmentSize);
+	}
+
+
+	/** @return the exclusive end of the portion of a segment in which matches can start, the remainder overlaps the next segment */
+	private int segmentEnd(ByteBuffer segment) {
+		return Math.min(segment.limit(), segmentSize);
+	}
+
+
+	private int checkNeedle(byte[] needle) {
+		if(needle.length > maxNeedleLength) {
+			throw new IllegalArgumentException("needle length (" + needle.length + ") cannot be greater than maxNeedleLength (" + maxNeedleLength + ")");
+		}
+		return needle.length;
+	}
+
+
+	private static int[] skipTable(byte[] needle) {
+		int len = needle.length;
+		int[] shift = new int[256];
+		Arrays.fill(shift, len);
+		for(int i = 0; i < len - 1; i++) {
+			shift[needle[i] & 0xFF] = len - 1 - i;
+		}
+		return shift;
+	}
+
+
+	/** Boyer-Moore-Horspool search of a segment, matches must start before {@code maxStart} but may extend into the segment's overlap */
+	private static int indexOf(ByteBuffer buf, int from, int maxStart, byte[] needle, int[] shift) {
+		int last = needle.length - 1;
+		byte lastByte = needle[last];
+		int limit = Math.min(maxStart, buf.limit() - last);
+		int i = from;
+		while(i < limit) {
+			byte b = buf.get(i + last);
+			if(b == lastByte) {
+				int j = 0;
+				while(j < last && buf.get(i + j) == needle[j]) {
+					j++;
+				}
+				if(j == last) {
+					return i;
+				}
+			}
+			i += shift[b & 0xFF];
+		}
+		return -1;
+	}
+
+}
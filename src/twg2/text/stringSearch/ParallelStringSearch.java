@@ -0,0 +1,567 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import twg2.text.stringUtils.StringSplit;
+
+/** Parallel versions of the {@link StringIndex} and {@link StringSplit#countMatches(char[], int, int, char[], int, int)}
+ * char array searches for very large in-memory buffers.<br>
+ * The range of possible match start indices is recursively split into chunks of at most {@code chunkLength} start indices
+ * which are searched by a {@link ForkJoinPool}, each chunk reads up to {@code patternLength - 1} characters past
+ * its end so that matches which cross a chunk boundary are found by exactly one chunk.<br>
+ * Counts and match lists use the same non-overlapping, left to right, semantics as {@code StringSplit.countMatches()},
+ * i.e. {@code "aaaaa"} contains 2 matches of {@code "aa"} at indices 0 and 2. For patterns which can overlap themselves
+ * (i.e. {@code "aa"} or {@code "abab"}) each chunk counts its greedy matches starting from its first match and from the match
+ * after that, and chunks are joined using whichever count begins after the end of the previous chunk's last match, without
+ * storing match indices. {@code indexOfAll()} finds every match of such patterns in parallel and then
+ * selects the non-overlapping matches in a single pass over the match indices.<br>
+ * Ranges shorter than {@code chunkLength} are searched on the calling thread.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class ParallelStringSearch {
+	/** the default maximum number of match start indices searched by one task */
+	public static final int DEFAULT_CHUNK_LENGTH = 1 << 20;
+
+	private final ForkJoinPool pool;
+	private final int chunkLength;
+
+
+	/**
+	 * @see #ParallelStringSearch(ForkJoinPool, int)
+	 */
+	public ParallelStringSearch(ForkJoinPool pool) {
+		this(pool, DEFAULT_CHUNK_LENGTH);
+	}
+
+
+	/** Create a parallel searcher
+	 * @param pool the pool to run search tasks on
+	 * @param chunkLength the maximum number of match start indices searched by one task, must be greater than 0
+	 */
+	public ParallelStringSearch(ForkJoinPool pool, int chunkLength) {
+		if(chunkLength < 1) {
+			throw new IllegalArgumentException("chunk length must be greater than 0: " + chunkLength);
+		}
+		this.pool = pool;
+		this.chunkLength = chunkLength;
+	}
+
+
+	/**
+	 * @see #indexOf(char[], int, int, char[], int, int)
+	 */
+	public int indexOf(char[] str, int strOff, int strLen, char ch) {
+		return indexOf(str, strOff, strLen, new char[] { ch }, 0, 1);
+	}
+
+
+	/** Search for a sub-string in a portion of a char array and return the absolute index of the first match,
+	 * the parallel equivalent of {@link StringIndex#indexOf(char[], int, int, char[], int, int)}
+	 * @param str the characters to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the characters to search for
+	 * @param subStrOff the offset into {@code subStr} at which the sub-string starts
+	 * @param subStrLen the number of characters to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the first match, or -1 if there are no matches, an empty sub-string matches at {@code strOff}
+	 */
+	public int indexOf(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		if(subStrLen == 0) {
+			return strOff;
+		}
+		if(subStrLen > strLen) {
+			return -1;
+		}
+		return invoke(new IndexOfTask(str, subStr, subStrOff, subStrLen, chunkLength, strOff, strOff + strLen - subStrLen + 1, false));
+	}
+
+
+	/**
+	 * @see #lastIndexOf(char[], int, int, char[], int, int)
+	 */
+	public int lastIndexOf(char[] str, int strOff, int strLen, char ch) {
+		return lastIndexOf(str, strOff, strLen, new char[] { ch }, 0, 1);
+	}
+
+
+	/** Search for a sub-string in a portion of a char array and return the absolute index of the last match,
+	 * the parallel equivalent of {@link StringIndex#lastIndexOf(char[], int, int, char[], int, int)}
+	 * @param str the characters to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the characters to search for
+	 * @param subStrOff the offset into {@code subStr} at which the sub-string starts
+	 * @param subStrLen the number of characters to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the last match, or -1 if there are no matches, an empty sub-string matches at {@code strOff + strLen}
+	 */
+	public int lastIndexOf(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		if(subStrLen == 0) {
+			return strOff + strLen;
+		}
+		if(subStrLen > strLen) {
+			return -1;
+		}
+		return invoke(new IndexOfTask(str, subStr, subStrOff, subStrLen, chunkLength, strOff, strOff + strLen - subStrLen + 1, true));
+	}
+
+
+	/**
+	 * @see #countMatches(char[], int, int, char[], int, int)
+	 */
+	public int countMatches(char[] str, int strOff, int strLen, char ch) {
+		return countMatches(str, strOff, strLen, new char[] { ch }, 0, 1);
+	}
+
+
+	/** Count the number of non-overlapping matches of a sub-string in a portion of a char array
+	 * @param str the characters to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the characters to search for
+	 * @param subStrOff the offset into {@code subStr} at which the sub-string starts
+	 * @param subStrLen the number of characters to search for starting at {@code subStrOff} in {@code subStr}, must be greater than 0
+	 * @return the number of non-overlapping matches
+	 */
+	public int countMatches(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		checkSubStrLen(subStrLen);
+		if(subStrLen > strLen) {
+			return 0;
+		}
+		if(isSelfOverlapping(subStr, subStrOff, subStrLen)) {
+			OverlappingCounts res = invoke(new OverlappingCountTask(str, subStr, subStrOff, subStrLen, chunkLength, strOff, strOff + strLen - subStrLen + 1));
+			return res.firstCount;
+		}
+		return invoke(new CountTask(str, subStr, subStrOff, subStrLen, chunkLength, strOff, strOff + strLen - subStrLen + 1));
+	}
+
+
+	/**
+	 * @see #indexOfAll(char[], int, int, char[], int, int)
+	 */
+	public int[] indexOfAll(char[] str, int strOff, int strLen, char ch) {
+		return indexOfAll(str, strOff, strLen, new char[] { ch }, 0, 1);
+	}
+
+
+	/** Find the indices of all non-overlapping matches of a sub-string in a portion of a char array
+	 * @param str the characters to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the characters to search for
+	 * @param subStrOff the offset into {@code subStr} at which the sub-string starts
+	 * @param subStrLen the number of characters to search for starting at {@code subStrOff} in {@code subStr}, must be greater than 0
+	 * @return the ascending, absolute indices of the non-overlapping matches, the same matches counted
+	 * by {@link #countMatches(char[], int, int, char[], int, int)}
+	 */
+	public int[] indexOfAll(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		checkSubStrLen(subStrLen);
+		if(subStrLen > strLen) {
+			return new int[0];
+		}
+		boolean overlapping = isSelfOverlapping(subStr, subStrOff, subStrLen);
+		int startsEnd = strOff + strLen - subStrLen + 1;
+		int[][] chunks = new int[(int)(((long)startsEnd - strOff + chunkLength - 1) / chunkLength)][];
+		int total = invoke(new IndexOfAllTask(str, subStr, subStrOff, subStrLen, chunkLength, strOff, startsEnd, overlapping, chunks, strOff));
+
+		// concatenate the chunks' matches once, selecting the non-overlapping matches from left to right if matches can overlap
+		int[] matches = new int[total];
+		int count = 0;
+		int nextStart = Integer.MIN_VALUE;
+		for(int[] chunk : chunks) {
+			if(!overlapping) {
+				System.arraycopy(chunk, 0, matches, count, chunk.length);
+				count += chunk.length;
+				continue;
+			}
+			for(int i = 0; i < chunk.length; i++) {
+				if(chunk[i] >= nextStart) {
+					matches[count++] = chunk[i];
+					nextStart = chunk[i] + subStrLen;
+				}
+			}
+		}
+		return count < total ? Arrays.copyOf(matches, count) : matches;
+	}
+
+
+	private <T> T invoke(ChunkTask<T> task) {
+		// small ranges are searched on the calling thread without the overhead of submitting to the pool
+		return task.startsEnd - task.startsOff <= chunkLength ? task.invoke() : pool.invoke(task);
+	}
+
+
+	private static void checkSubStrLen(int subStrLen) {
+		if(subStrLen == 0) {
+			throw new IllegalArgumentException("sub-string cannot be empty");
+		}
+	}
+
+
+	/**
+	 * @return true if a proper suffix of the sub-string is also a prefix of it, meaning two matches can overlap
+	 */
+	private static boolean isSelfOverlapping(char[] subStr, int subStrOff, int subStrLen) {
+		// the last value of the Knuth-Morris-Pratt failure function is the length of the longest proper border
+		int[] border = new int[subStrLen];
+		int k = 0;
+		for(int i = 1; i < subStrLen; i++) {
+			char ch = subStr[subStrOff + i];
+			while(k > 0 && subStr[subStrOff + k] != ch) {
+				k = border[k - 1];
+			}
+			if(subStr[subStrOff + k] == ch) {
+				k++;
+			}
+			border[i] = k;
+		}
+		return subStrLen > 1 && border[subStrLen - 1] > 0;
+	}
+
+
+	/** A task searching for matches which start within {@code [startsOff, startsEnd)}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static abstract class ChunkTask<T> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+
+		final char[] str;
+		final char[] subStr;
+		final int subStrOff;
+		final int subStrLen;
+		final int chunkLength;
+		final int startsOff;
+		final int startsEnd;
+
+
+		ChunkTask(char[] str, char[] subStr, int subStrOff, int subStrLen, int chunkLength, int startsOff, int startsEnd) {
+			this.str = str;
+			this.subStr = subStr;
+			this.subStrOff = subStrOff;
+			this.subStrLen = subStrLen;
+			this.chunkLength = chunkLength;
+			this.startsOff = startsOff;
+			this.startsEnd = startsEnd;
+		}
+
+
+		/**
+		 * @return the number of characters to search, the chunk's start indices plus the {@code subStrLen - 1} overlap
+		 */
+		final int searchLen() {
+			return startsEnd - startsOff + subStrLen - 1;
+		}
+
+
+		final int indexOf(int off, int len) {
+			return subStrLen == 1 ? StringIndex.indexOf(str, off, len, subStr[subStrOff]) : StringIndex.indexOf(str, off, len, subStr, subStrOff, subStrLen);
+		}
+
+
+		/**
+		 * @return the index of the first match starting in {@code [from, end)}, or -1 if there are none
+		 */
+		final int indexOfStart(int from, int end) {
+			return from < end ? indexOf(from, end + subStrLen - 1 - from) : -1;
+		}
+
+
+		final int lastIndexOf(int off, int len) {
+			return subStrLen == 1 ? StringIndex.lastIndexOf(str, off, len, subStr[subStrOff]) : StringIndex.lastIndexOf(str, off, len, subStr, subStrOff, subStrLen);
+		}
+	}
+
+
+	/** Find the first or last match
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class IndexOfTask extends ChunkTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final boolean last;
+
+
+		IndexOfTask(char[] str, char[] subStr, int subStrOff, int subStrLen, int chunkLength, int startsOff, int startsEnd, boolean last) {
+			super(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, startsEnd);
+			this.last = last;
+		}
+
+
+		@Override
+		protected Integer compute() {
+			if(startsEnd - startsOff <= chunkLength) {
+				return last ? lastIndexOf(startsOff, searchLen()) : indexOf(startsOff, searchLen());
+			}
+			int mid = (startsOff + startsEnd) >>> 1;
+			IndexOfTask first = new IndexOfTask(str, subStr, subStrOff, subStrLen, chunkLength, last ? mid : startsOff, last ? startsEnd : mid, last);
+			IndexOfTask second = new IndexOfTask(str, subStr, subStrOff, subStrLen, chunkLength, last ? startsOff : mid, last ? mid : startsEnd, last);
+			second.fork();
+			int res = first.compute();
+			if(res != -1) {
+				// the first half's match wins, skip the second half if it has not started yet
+				second.cancel(false);
+				return res;
+			}
+			return second.join();
+		}
+	}
+
+
+	/** Count the matches of a sub-string which cannot overlap itself
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class CountTask extends ChunkTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+
+		CountTask(char[] str, char[] subStr, int subStrOff, int subStrLen, int chunkLength, int startsOff, int startsEnd) {
+			super(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, startsEnd);
+		}
+
+
+		@Override
+		protected Integer compute() {
+			if(startsEnd - startsOff <= chunkLength) {
+				if(subStrLen == 1) {
+					return StringSplit.countMatches(str, startsOff, startsEnd - startsOff, subStr[subStrOff]);
+				}
+				int count = 0;
+				int end = startsOff + searchLen();
+				for(int i = indexOf(startsOff, end - startsOff); i > -1; i = indexOf(i + subStrLen, end - i - subStrLen)) {
+					count++;
+				}
+				return count;
+			}
+			int mid = (startsOff + startsEnd) >>> 1;
+			CountTask right = new CountTask(str, subStr, subStrOff, subStrLen, chunkLength, mid, startsEnd);
+			right.fork();
+			int leftCount = new CountTask(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, mid).compute();
+			return leftCount + right.join();
+		}
+	}
+
+
+	/** Count the non-overlapping matches of a sub-string which can overlap itself, without storing match indices.<br>
+	 * Where the greedy, left to right, matches of a chunk begin depends on where the previous chunk's last match ends,
+	 * so each chunk counts two chains of greedy matches: one from its first match and one from the first match after that.
+	 * A chunk entered after its first match continues with the second chain. A chunk entered after both is re-counted from
+	 * the entry point until its matches line up with the second chain, which only happens for patterns of 3 or more characters
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class OverlappingCountTask extends ChunkTask<OverlappingCounts> {
+		private static final long serialVersionUID = 1L;
+
+
+		OverlappingCountTask(char[] str, char[] subStr, int subStrOff, int subStrLen, int chunkLength, int startsOff, int startsEnd) {
+			super(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, startsEnd);
+		}
+
+
+		@Override
+		protected OverlappingCounts compute() {
+			if(startsEnd - startsOff <= chunkLength) {
+				int first = indexOfStart(startsOff, startsEnd);
+				if(first == -1) {
+					return new OverlappingCounts(-1, -1, 0, startsOff, 0, startsOff);
+				}
+				int second = indexOfStart(first + 1, startsEnd);
+				// walk both chains, advancing whichever is behind, until they land on the same match or end
+				int a = first;
+				int b = second;
+				int aCount = 0;
+				int bCount = 0;
+				int aNext = startsOff;
+				int bNext = startsOff;
+				while(a > -1 && b > -1 && a != b) {
+					if(a < b) {
+						aCount++;
+						aNext = a + subStrLen;
+						a = indexOfStart(aNext, startsEnd);
+					}
+					else {
+						bCount++;
+						bNext = b + subStrLen;
+						b = indexOfStart(bNext, startsEnd);
+					}
+				}
+				// the remainder of the chains is shared if they met
+				long aRest = a > -1 ? countFrom(a, -1, 0, 0, startsEnd) : result(0, aNext);
+				long bRest = b == -1 ? result(0, bNext) : (b == a ? aRest : countFrom(b, -1, 0, 0, startsEnd));
+				return new OverlappingCounts(first, second, aCount + count(aRest), next(aRest), bCount + count(bRest), next(bRest));
+			}
+			int mid = (startsOff + startsEnd) >>> 1;
+			OverlappingCountTask right = new OverlappingCountTask(str, subStr, subStrOff, subStrLen, chunkLength, mid, startsEnd);
+			right.fork();
+			OverlappingCounts leftRes = new OverlappingCountTask(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, mid).compute();
+			OverlappingCounts rightRes = right.join();
+			if(leftRes.first == -1) {
+				return rightRes;
+			}
+
+			long firstChain = enter(rightRes, leftRes.firstNext, startsEnd);
+			int firstCount = leftRes.firstCount + count(firstChain);
+			if(leftRes.second == -1) {
+				// the first match after the left half's only match is the right half's first match
+				return new OverlappingCounts(leftRes.first, rightRes.first, firstCount, next(firstChain), rightRes.firstCount, rightRes.firstNext);
+			}
+			long secondChain = enter(rightRes, leftRes.secondNext, startsEnd);
+			return new OverlappingCounts(leftRes.first, leftRes.second, firstCount, next(firstChain), leftRes.secondCount + count(secondChain), next(secondChain));
+		}
+
+
+		/** Continue a chain of greedy matches into the right half of this task's range
+		 * @param res the right half's counts
+		 * @param from the index at which the next match may start, the end of the previous match
+		 * @return the {@link #result(int, int)} of the chain in the right half
+		 */
+		private long enter(OverlappingCounts res, int from, int end) {
+			if(res.first == -1 || from <= res.first) {
+				return res.first == -1 ? result(0, from) : result(res.firstCount, res.firstNext);
+			}
+			if(res.second == -1 || from <= res.second) {
+				return res.second == -1 ? result(0, from) : result(res.secondCount, res.secondNext);
+			}
+			return countFrom(from, res.second, res.secondCount, res.secondNext, end);
+		}
+
+
+		/** Count the greedy matches starting at or after {@code from} alongside a known chain of greedy matches until both land
+		 * on the same match, from there on both chains are the same
+		 * @param from the index at which to start searching
+		 * @param known the index of the first match of the known chain, or -1 if there is no known chain
+		 * @param knownCount the number of matches in the known chain
+		 * @param knownNext the end of the known chain's last match
+		 * @param end the exclusive end of the range of match start indices
+		 * @return the {@link #result(int, int)} of the chain starting at {@code from}
+		 */
+		private long countFrom(int from, int known, int knownCount, int knownNext, int end) {
+			int knownSkipped = 0;
+			int count = 0;
+			int next = from;
+			for(int i = indexOfStart(from, end); i > -1; ) {
+				if(known == i) {
+					return result(count + knownCount - knownSkipped, knownNext);
+				}
+				if(known > -1 && known < i) {
+					knownSkipped++;
+					known = indexOfStart(known + subStrLen, end);
+				}
+				else {
+					count++;
+					next = i + subStrLen;
+					i = indexOfStart(next, end);
+				}
+			}
+			return result(count, next);
+		}
+
+
+		/**
+		 * @return a match count in the upper 32 bits and the index at which the next match may start in the lower 32 bits
+		 */
+		private static long result(int count, int next) {
+			return ((long)count << 32) | (next & 0xFFFFFFFFL);
+		}
+
+
+		private static int count(long result) {
+			return (int)(result >>> 32);
+		}
+
+
+		private static int next(long result) {
+			return (int)result;
+		}
+	}
+
+
+
+
+	/** The two chains of greedy matches in a range of match start indices counted by an {@link OverlappingCountTask}
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class OverlappingCounts {
+		/** the index of the first match, or -1 if there are no matches */
+		final int first;
+		/** the index of the first match after {@code first}, including matches overlapping {@code first}, or -1 if there are none */
+		final int second;
+		/** the number of greedy matches starting with {@code first} */
+		final int firstCount;
+		/** the end of the last greedy match starting with {@code first} */
+		final int firstNext;
+		/** the number of greedy matches starting with {@code second} */
+		final int secondCount;
+		/** the end of the last greedy match starting with {@code second} */
+		final int secondNext;
+
+
+		OverlappingCounts(int first, int second, int firstCount, int firstNext, int secondCount, int secondNext) {
+			this.first = first;
+			this.second = second;
+			this.firstCount = firstCount;
+			this.firstNext = firstNext;
+			this.secondCount = secondCount;
+			this.secondNext = secondNext;
+		}
+	}
+
+
+
+
+	/** Find the indices of all matches, including overlapping matches if {@code overlapping} is true.
+	 * The range is split at multiples of {@code chunkLength} from {@code rootOff} and each chunk's matches are stored
+	 * in {@code chunks} at the chunk's index, so that the caller can concatenate them once
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class IndexOfAllTask extends ChunkTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final boolean overlapping;
+		private final int[][] chunks;
+		private final int rootOff;
+
+
+		IndexOfAllTask(char[] str, char[] subStr, int subStrOff, int subStrLen, int chunkLength, int startsOff, int startsEnd, boolean overlapping, int[][] chunks, int rootOff) {
+			super(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, startsEnd);
+			this.overlapping = overlapping;
+			this.chunks = chunks;
+			this.rootOff = rootOff;
+		}
+
+
+		/**
+		 * @return the number of matches found
+		 */
+		@Override
+		protected Integer compute() {
+			int chunkCount = (int)(((long)startsEnd - startsOff + chunkLength - 1) / chunkLength);
+			if(chunkCount <= 1) {
+				int[] matches = new int[8];
+				int count = 0;
+				int step = overlapping ? 1 : subStrLen;
+				for(int i = indexOfStart(startsOff, startsEnd); i > -1; i = indexOfStart(i + step, startsEnd)) {
+					if(count == matches.length) {
+						matches = Arrays.copyOf(matches, count * 2);
+					}
+					matches[count++] = i;
+				}
+				chunks[(startsOff - rootOff) / chunkLength] = Arrays.copyOf(matches, count);
+				return count;
+			}
+			int mid = startsOff + (chunkCount >>> 1) * chunkLength;
+			IndexOfAllTask right = new IndexOfAllTask(str, subStr, subStrOff, subStrLen, chunkLength, mid, startsEnd, overlapping, chunks, rootOff);
+			right.fork();
+			int leftCount = new IndexOfAllTask(str, subStr, subStrOff, subStrLen, chunkLength, startsOff, mid, overlapping, chunks, rootOff).compute();
+			return leftCount + right.join();
+		}
+	}
+
+}
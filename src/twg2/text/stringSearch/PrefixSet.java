@@ -0,0 +1,92 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/** An immutable, compiled set of prefixes which checks which prefixes a string starts with, the compiled equivalent of
+ * {@link StringCompare#startsWithAny(String, String...)}.<br>
+ * The prefixes are compiled into a {@link RadixTrie} once, each lookup walks the trie along the start of the string
+ * so it runs in time proportional to the length of the longest matching prefix, regardless of the number of prefixes,
+ * and does not allocate.<br>
+ * Prefix indices refer to the order of the prefixes passed to the constructor, if a prefix appears more than once
+ * only the index of its first occurrence is reported. An empty prefix matches every string.
+ * @see SuffixSet
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class PrefixSet extends AffixSet {
+
+	/**
+	 * @see #PrefixSet(Collection)
+	 */
+	public PrefixSet(String... prefixes) {
+		this(Arrays.asList(prefixes));
+	}
+
+
+	/** Compile a set of prefixes
+	 * @param prefixes the prefixes to compare to the start of strings, may not contain nulls
+	 */
+	public PrefixSet(Collection<String> prefixes) {
+		super(prefixes, false, "prefix");
+	}
+
+
+	/**
+	 * @param idx the index of the prefix
+	 * @return the prefix at {@code idx}
+	 */
+	public String getPrefix(int idx) {
+		return get(idx);
+	}
+
+
+	/**
+	 * @return true if {@code str} starts with any of the prefixes in this set
+	 */
+	public boolean startsWithAny(CharSequence str) {
+		return matchesAny(str);
+	}
+
+
+	/**
+	 * @see #longestMatch(CharSequence, int, int)
+	 */
+	public int longestMatch(CharSequence str) {
+		return longestMatch(str, 0, str.length());
+	}
+
+
+	/** Find the longest prefix in this set which a portion of a char sequence starts with
+	 * @param str the char sequence to compare prefixes to
+	 * @param strOff the offset into {@code str} at which prefixes must start
+	 * @param strLen the number of chars in the portion of {@code str} starting at {@code strOff}
+	 * @return the index of the longest prefix which the {@code [strOff, strOff + strLen)} portion of {@code str} starts with,
+	 * or -1 if it does not start with any of the prefixes
+	 */
+	public int longestMatch(CharSequence str, int strOff, int strLen) {
+		return longestMatchIdx(str, strOff, strLen);
+	}
+
+
+	/**
+	 * @see #forEachMatch(CharSequence, int, int, IntConsumer)
+	 */
+	public int forEachMatch(CharSequence str, IntConsumer dst) {
+		return forEachMatch(str, 0, str.length(), dst);
+	}
+
+
+	/** Find all of the prefixes in this set which a portion of a char sequence starts with
+	 * @param str the char sequence to compare prefixes to
+	 * @param strOff the offset into {@code str} at which prefixes must start
+	 * @param strLen the number of chars in the portion of {@code str} starting at {@code strOff}
+	 * @param dst passed the index of each matching prefix, from shortest to longest
+	 * @return the number of matching prefixes
+	 */
+	public int forEachMatch(CharSequence str, int strOff, int strLen, IntConsumer dst) {
+		return forEachMatchIdx(str, strOff, strLen, dst);
+	}
+
+}
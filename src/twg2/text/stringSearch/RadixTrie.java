@@ -0,0 +1,286 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/** An immutable, compiled radix trie (compressed prefix tree) of string keys and values for finding the longest key
+ * which matches the text at an offset, i.e. for token replacement with {@code StringReplace.replaceTokens()}.<br>
+ * A lookup walks the trie once, comparing each text character at most once, and does not allocate,
+ * compared to {@link StringCompare#closestMatch(CharSequence, int, Map.Entry[], boolean)} which binary searches
+ * the keys again for each additional matching character.<br>
+ * Nodes are packed into primitive arrays, the children of each node are stored contiguously and sorted by the first
+ * character of their edge labels, and edge labels are stored in a single {@code char[]}.<br>
+ * Entry indices refer to the order of the entries passed to the constructor, if a key appears more than once
+ * the first entry with that key is used.
+ * @param <T> the type of values
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class RadixTrie<T> {
+	static final int WALK_LONGEST = 0;
+	static final int WALK_SHORTEST = 1;
+	static final int WALK_ALL = 2;
+
+	private final Map.Entry<String, T>[] entries;
+	/** all node edge labels, concatenated */
+	private final char[] labels;
+	/** the offset into {@link #labels} of each node's edge label (the edge from the parent to the node) */
+	private final int[] labelOff;
+	private final int[] labelLen;
+	/** the first char of each node's edge label, the children of a node are sorted by this */
+	private final char[] firstChar;
+	/** the node index of each node's first child, children are stored contiguously */
+	private final int[] childStart;
+	private final int[] childCount;
+	/** the entry index of the key which ends at each node, or -1 */
+	private final int[] entryIdx;
+
+
+	/** Compile a trie from an array of entries
+	 * @param entries the keys and values, the keys may not be null or empty
+	 */
+	public RadixTrie(Map.Entry<String, T>[] entries) {
+		int entryCount = entries.length;
+		for(int i = 0; i < entryCount; i++) {
+			String key = entries[i].getKey();
+			if(key == null || key.length() == 0) {
+				throw new IllegalArgumentException("keys cannot be null or empty, entry " + i);
+			}
+		}
+		this.entries = entries.clone();
+
+		// sort the entry indices by key, the sort is stable so duplicate keys are sorted by entry index
+		Integer[] order = new Integer[entryCount];
+		for(int i = 0; i < entryCount; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> this.entries[a].getKey().compareTo(this.entries[b].getKey()));
+		String[] keys = new String[entryCount];
+		int[] keyEntries = new int[entryCount];
+		for(int i = 0; i < entryCount; i++) {
+			keys[i] = this.entries[order[i]].getKey();
+			keyEntries[i] = order[i];
+		}
+
+		// a radix trie has at most one node per key plus one branch node per key, plus the root
+		int maxNodes = 2 * entryCount + 1;
+		int[] labelOff = new int[maxNodes];
+		int[] labelLen = new int[maxNodes];
+		char[] firstChar = new char[maxNodes];
+		int[] childStart = new int[maxNodes];
+		int[] childCount = new int[maxNodes];
+		int[] entryIdx = new int[maxNodes];
+		// the sorted key range and depth of each node, so nodes can be expanded in breadth first order
+		int[] nodeLo = new int[maxNodes];
+		int[] nodeHi = new int[maxNodes];
+		int[] nodeDepth = new int[maxNodes];
+		StringBuilder labelBuf = new StringBuilder();
+
+		int nodeCount = 1;
+		nodeHi[0] = entryCount;
+		for(int node = 0; node < nodeCount; node++) {
+			int lo = nodeLo[node];
+			int hi = nodeHi[node];
+			int depth = nodeDepth[node];
+			entryIdx[node] = -1;
+			// keys which end at this node sort first, the first of them has the lowest entry index
+			if(lo < hi && keys[lo].length() == depth) {
+				entryIdx[node] = keyEntries[lo];
+				while(lo < hi && keys[lo].length() == depth) {
+					lo++;
+				}
+			}
+
+			childStart[node] = nodeCount;
+			while(lo < hi) {
+				char ch = keys[lo].charAt(depth);
+				int groupHi = lo + 1;
+				while(groupHi < hi && keys[groupHi].charAt(depth) == ch) {
+					groupHi++;
+				}
+				// the keys are sorted, so the common prefix of the first and last key is common to the whole group
+				int childDepth = depth + StringCompare.compareEqualCount(keys[lo], depth, keys[groupHi - 1], depth);
+				int child = nodeCount++;
+				labelOff[child] = labelBuf.length();
+				labelLen[child] = childDepth - depth;
+				firstChar[child] = ch;
+				labelBuf.append(keys[lo], depth, childDepth);
+				nodeLo[child] = lo;
+				nodeHi[child] = groupHi;
+				nodeDepth[child] = childDepth;
+				lo = groupHi;
+			}
+			childCount[node] = nodeCount - childStart[node];
+		}
+
+		this.labels = labelBuf.toString().toCharArray();
+		this.labelOff = Arrays.copyOf(labelOff, nodeCount);
+		this.labelLen = Arrays.copyOf(labelLen, nodeCount);
+		this.firstChar = Arrays.copyOf(firstChar, nodeCount);
+		this.childStart = Arrays.copyOf(childStart, nodeCount);
+		this.childCount = Arrays.copyOf(childCount, nodeCount);
+		this.entryIdx = Arrays.copyOf(entryIdx, nodeCount);
+	}
+
+
+	/**
+	 * @return the number of entries in this trie, including entries with duplicate keys
+	 */
+	public int size() {
+		return entries.length;
+	}
+
+
+	/**
+	 * @return the number of nodes in this trie, including the root
+	 */
+	public int getNodeCount() {
+		return entryIdx.length;
+	}
+
+
+	/**
+	 * @param entryIdx the index of the entry
+	 * @return the entry at {@code entryIdx}
+	 */
+	public Map.Entry<String, T> getEntry(int entryIdx) {
+		return entries[entryIdx];
+	}
+
+
+	/**
+	 * @see #longestMatch(CharSequence, int, int)
+	 */
+	public Map.Entry<String, T> longestMatchEntry(CharSequence text, int textOff) {
+		int idx = longestMatch(text, textOff, text.length() - textOff);
+		return idx > -1 ? entries[idx] : null;
+	}
+
+
+	/** Find the longest key which matches the text at an offset
+	 * @param text the text to match
+	 * @param textOff the offset into {@code text} at which keys must start
+	 * @param textLen the maximum number of characters from {@code text} to match
+	 * @return the index of the entry with the longest key equal to the characters of {@code text} starting at {@code textOff},
+	 * or -1 if no key matches
+	 */
+	public int longestMatch(CharSequence text, int textOff, int textLen) {
+		return walk(text, textOff, textLen, false, WALK_LONGEST, null, null);
+	}
+
+
+	/** Find the shortest key which matches the text at an offset, the walk stops as soon as any key matches
+	 * @see #longestMatch(CharSequence, int, int)
+	 */
+	public int shortestMatch(CharSequence text, int textOff, int textLen) {
+		return walk(text, textOff, textLen, false, WALK_SHORTEST, null, null);
+	}
+
+
+	/** Find all of the keys which match the text at an offset
+	 * @param text the text to match
+	 * @param textOff the offset into {@code text} at which keys must start
+	 * @param textLen the maximum number of characters from {@code text} to match
+	 * @param dst passed the entry index of each matching key, from shortest to longest
+	 * @return the number of matching keys
+	 */
+	public int forEachMatch(CharSequence text, int textOff, int textLen, IntConsumer dst) {
+		return walk(text, textOff, textLen, false, WALK_ALL, null, dst);
+	}
+
+
+	/** Walk the trie along the text, package-private so that {@link AffixSet} can walk a trie of reversed keys backward
+	 * @param reverse true to read the text backward starting from {@code text[textOff + textLen - 1]}
+	 * @param mode {@link #WALK_LONGEST}, {@link #WALK_SHORTEST}, or {@link #WALK_ALL}
+	 * @param idxMap optional, maps entry indices to the values passed to {@code dst}, so callers do not need a wrapper consumer
+	 * @param dst passed the entry index (or its {@code idxMap} value) of each matching key if {@code mode} is {@link #WALK_ALL}
+	 * @return the matching entry index for {@code WALK_LONGEST} and {@code WALK_SHORTEST} (or -1 if no key matches),
+	 * the number of matching keys for {@code WALK_ALL}
+	 */
+	int walk(CharSequence text, int textOff, int textLen, boolean reverse, int mode, int[] idxMap, IntConsumer dst) {
+		int best = -1;
+		int count = 0;
+		int node = 0;
+		// the number of text characters matched so far
+		int pos = 0;
+		int last = textOff + textLen - 1;
+		while(pos < textLen) {
+			node = findChild(node, text.charAt(reverse ? last - pos : textOff + pos));
+			if(node == -1) {
+				break;
+			}
+			int len = labelLen[node];
+			if(len > textLen - pos) {
+				break;
+			}
+			// the first label char was matched by findChild()
+			for(int i = labelOff[node] + 1, j = pos + 1, maxI = labelOff[node] + len; i < maxI; i++, j++) {
+				if(labels[i] != text.charAt(reverse ? last - j : textOff + j)) {
+					return mode == WALK_ALL ? count : best;
+				}
+			}
+			pos += len;
+			int idx = entryIdx[node];
+			if(idx != -1) {
+				if(mode == WALK_SHORTEST) {
+					return idx;
+				}
+				if(mode == WALK_ALL) {
+					dst.accept(idxMap != null ? idxMap[idx] : idx);
+					count++;
+				}
+				best = idx;
+			}
+		}
+		return mode == WALK_ALL ? count : best;
+	}
+
+
+	/**
+	 * @see #longestMatch(CharSequence, int, int)
+	 */
+	public int longestMatch(char[] text, int textOff, int textLen) {
+		int best = -1;
+		int node = 0;
+		int pos = textOff;
+		int end = textOff + textLen;
+		while(pos < end) {
+			node = findChild(node, text[pos]);
+			if(node == -1) {
+				break;
+			}
+			int len = labelLen[node];
+			if(len > end - pos) {
+				break;
+			}
+			for(int i = labelOff[node] + 1, j = pos + 1, maxI = labelOff[node] + len; i < maxI; i++, j++) {
+				if(labels[i] != text[j]) {
+					return best;
+				}
+			}
+			pos += len;
+			if(entryIdx[node] != -1) {
+				best = entryIdx[node];
+			}
+		}
+		return best;
+	}
+
+
+	private int findChild(int node, char ch) {
+		int start = childStart[node];
+		int count = childCount[node];
+		if(count < 8) {
+			for(int i = start, end = start + count; i < end; i++) {
+				if(firstChar[i] == ch) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		int idx = Arrays.binarySearch(firstChar, start, start + count, ch);
+		return idx > -1 ? idx : -1;
+	}
+
+}
@@ -0,0 +1,206 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** An immutable index over a sorted array of strings which finds the {@code [from, to)} range of strings that start with
+ * a prefix using two binary searches, the O(log n) equivalent of {@link StringCompare#anyStartWith(List, CharSequence, int)}
+ * and {@link StringIndex#startsWithIndex(List, CharSequence, int)} for large, sorted lists, i.e. autocomplete terms.<br>
+ * Because the strings are sorted, all of the strings which start with a prefix are contiguous.
+ * Prefixes are compared char by char against the strings, so lookups do not allocate.<br>
+ * Strings must be sorted in {@link String#compareTo(String)} order, duplicate strings are allowed.
+ * An empty prefix matches every string.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SortedPrefixIndex {
+	private final String[] strs;
+
+
+	/**
+	 * @see #SortedPrefixIndex(String[])
+	 */
+	public SortedPrefixIndex(List<String> sortedStrs) {
+		this(sortedStrs.toArray(new String[sortedStrs.size()]));
+	}
+
+
+	/** Create an index from a sorted array of strings, the array is copied
+	 * @param sortedStrs the strings, sorted in {@link String#compareTo(String)} order, may not contain nulls
+	 */
+	public SortedPrefixIndex(String[] sortedStrs) {
+		String[] strs = sortedStrs.clone();
+		for(int i = 0; i < strs.length; i++) {
+			if(strs[i] == null) {
+				throw new IllegalArgumentException("strings cannot be null, string " + i);
+			}
+			if(i > 0 && strs[i - 1].compareTo(strs[i]) > 0) {
+				throw new IllegalArgumentException("strings must be sorted, string " + i + " '" + strs[i] + "' is less than the previous string");
+			}
+		}
+		this.strs = strs;
+	}
+
+
+	/**
+	 * @return the number of strings in this index
+	 */
+	public int size() {
+		return strs.length;
+	}
+
+
+	/**
+	 * @param idx the index of the string
+	 * @return the string at {@code idx}
+	 */
+	public String get(int idx) {
+		return strs[idx];
+	}
+
+
+	/**
+	 * @return true if any of the strings in this index start with {@code prefix}
+	 */
+	public boolean anyStartWith(CharSequence prefix) {
+		return startsWithIndex(prefix, 0, prefix.length()) > -1;
+	}
+
+
+	/** Find the first string which starts with a prefix
+	 * @param prefix the char sequence containing the prefix
+	 * @param prefixOff the offset into {@code prefix} at which the prefix starts
+	 * @param prefixLen the number of chars in the prefix
+	 * @return the index of the first string (in sorted order) which starts with the prefix, or -1 if none of the strings start with it
+	 */
+	public int startsWithIndex(CharSequence prefix, int prefixOff, int prefixLen) {
+		int from = fromIndex(prefix, prefixOff, prefixLen);
+		return from < strs.length && compareStartsWith(strs[from], prefix, prefixOff, prefixLen) == 0 ? from : -1;
+	}
+
+
+	/**
+	 * @return the number of strings in this index which start with {@code prefix}
+	 */
+	public int count(CharSequence prefix) {
+		int len = prefix.length();
+		int from = fromIndex(prefix, 0, len);
+		return toIndex(from, prefix, 0, len) - from;
+	}
+
+
+	/** Find the index of the first string which is greater than or equal to a prefix,
+	 * this is the index of the first string which starts with the prefix if any do
+	 * @param prefix the char sequence containing the prefix
+	 * @param prefixOff the offset into {@code prefix} at which the prefix starts
+	 * @param prefixLen the number of chars in the prefix
+	 * @return the inclusive start of the range of strings which start with the prefix
+	 */
+	public int fromIndex(CharSequence prefix, int prefixOff, int prefixLen) {
+		return search(0, prefix, prefixOff, prefixLen, false);
+	}
+
+
+	/** Find the index of the first string which is greater than a prefix and does not start with it
+	 * @param prefix the char sequence containing the prefix
+	 * @param prefixOff the offset into {@code prefix} at which the prefix starts
+	 * @param prefixLen the number of chars in the prefix
+	 * @return the exclusive end of the range of strings which start with the prefix
+	 */
+	public int toIndex(CharSequence prefix, int prefixOff, int prefixLen) {
+		return search(0, prefix, prefixOff, prefixLen, true);
+	}
+
+
+	/** The same as {@link #toIndex(CharSequence, int, int)} except the search starts at {@code fromIndex},
+	 * the result of a previous {@link #fromIndex(CharSequence, int, int)} call with the same prefix
+	 */
+	public int toIndex(int fromIndex, CharSequence prefix, int prefixOff, int prefixLen) {
+		return search(fromIndex, prefix, prefixOff, prefixLen, true);
+	}
+
+
+	/**
+	 * @see #startingWith(CharSequence, int, int, int)
+	 */
+	public List<String> startingWith(CharSequence prefix, int limit) {
+		return startingWith(prefix, 0, prefix.length(), limit);
+	}
+
+
+	/** Get the first {@code limit} strings (in sorted order) which start with a prefix
+	 * @param prefix the char sequence containing the prefix
+	 * @param prefixOff the offset into {@code prefix} at which the prefix starts
+	 * @param prefixLen the number of chars in the prefix
+	 * @param limit the maximum number of strings to return
+	 * @return an unmodifiable view of the matching strings in this index, the strings are not copied
+	 */
+	public List<String> startingWith(CharSequence prefix, int prefixOff, int prefixLen, int limit) {
+		if(limit < 0) {
+			throw new IllegalArgumentException("limit cannot be negative: " + limit);
+		}
+		int from = fromIndex(prefix, prefixOff, prefixLen);
+		int to = toIndex(from, prefix, prefixOff, prefixLen);
+		to = from + Math.min(limit, to - from);
+		return Collections.unmodifiableList(Arrays.asList(strs).subList(from, to));
+	}
+
+
+	/** Pass the first {@code limit} strings (in sorted order) which start with a prefix to a consumer
+	 * @param prefix the prefix
+	 * @param limit the maximum number of strings to pass to {@code dst}
+	 * @param dst passed each matching string
+	 * @return the number of strings passed to {@code dst}
+	 */
+	public int forEachStartingWith(CharSequence prefix, int limit, Consumer<String> dst) {
+		int len = prefix.length();
+		int from = fromIndex(prefix, 0, len);
+		int to = toIndex(from, prefix, 0, len);
+		int count = Math.min(limit, to - from);
+		for(int i = from, end = from + count; i < end; i++) {
+			dst.accept(strs[i]);
+		}
+		return Math.max(count, 0);
+	}
+
+
+	/** Binary search for the first string which compares greater than or equal to the prefix (or greater than if {@code after} is true),
+	 * strings which start with the prefix compare equal to it
+	 */
+	private int search(int lo, CharSequence prefix, int prefixOff, int prefixLen, boolean after) {
+		String[] strs = this.strs;
+		int hi = strs.length;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			int cmp = compareStartsWith(strs[mid], prefix, prefixOff, prefixLen);
+			if(cmp < 0 || (after && cmp == 0)) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+
+	/**
+	 * @return 0 if {@code str} starts with the prefix, less than 0 if {@code str} is less than the prefix,
+	 * greater than 0 if {@code str} is greater than the prefix and does not start with it
+	 */
+	private static int compareStartsWith(String str, CharSequence prefix, int prefixOff, int prefixLen) {
+		int strLen = str.length();
+		int len = strLen < prefixLen ? strLen : prefixLen;
+		for(int i = 0; i < len; i++) {
+			char c1 = str.charAt(i);
+			char c2 = prefix.charAt(prefixOff + i);
+			if(c1 != c2) {
+				return c1 - c2;
+			}
+		}
+		return strLen < prefixLen ? -1 : 0;
+	}
+
+}
@@ -0,0 +1,184 @@
+package twg2.text.stringSearch;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Collection;
+
+/** A resumable, push-based search for one or more patterns in an unbounded stream of characters which arrives in chunks,
+ * i.e. from a socket or a {@link Reader}.<br>
+ * Each chunk is passed to one of the {@code feed()} methods and every match, including matches which span chunk boundaries,
+ * is reported to a {@link MappedTextSearch.MatchHandler} with its absolute offset in the stream.
+ * No text is buffered between chunks, the only state kept is the current {@link AhoCorasickMatcher} state
+ * (which encodes the longest pattern prefix read so far) and the stream position, so memory use is constant.<br>
+ * Matches are reported in the same order as {@link AhoCorasickMatcher#forEachMatch(char[], int, int, AhoCorasickMatcher.MatchHandler)},
+ * by end offset and then from longest to shortest, and may overlap.<br>
+ * Instances are not thread safe.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StreamingMatcher {
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private final AhoCorasickMatcher matcher;
+	private final MappedTextSearch.MatchHandler handler;
+	private int state;
+	private long position;
+	private long matchCount;
+	private boolean stopped;
+
+
+	/**
+	 * @see #StreamingMatcher(AhoCorasickMatcher, MappedTextSearch.MatchHandler)
+	 */
+	public StreamingMatcher(Collection<String> patterns, MappedTextSearch.MatchHandler handler) {
+		this(new AhoCorasickMatcher(patterns), handler);
+	}
+
+
+	/** Create a streaming matcher positioned at the start of a stream
+	 * @param matcher the compiled patterns to search for, none of which may be empty
+	 * @param handler called with each match, return false to stop searching
+	 */
+	public StreamingMatcher(AhoCorasickMatcher matcher, MappedTextSearch.MatchHandler handler) {
+		for(int i = 0, size = matcher.getPatternCount(); i < size; i++) {
+			if(matcher.getPattern(i).length() == 0) {
+				throw new IllegalArgumentException("patterns cannot be empty, pattern " + i);
+			}
+		}
+		this.matcher = matcher;
+		this.handler = handler;
+		this.state = matcher.getStartState();
+	}
+
+
+	/**
+	 * @return the patterns this matcher searches for
+	 */
+	public AhoCorasickMatcher getMatcher() {
+		return matcher;
+	}
+
+
+	/**
+	 * @return the number of characters fed to this matcher since it was created or last reset, the stream offset of the next character
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+
+	/**
+	 * @return the number of matches passed to the handler since this matcher was created or last reset
+	 */
+	public long getMatchCount() {
+		return matchCount;
+	}
+
+
+	/**
+	 * @return true if the handler returned false, in which case further {@code feed()} calls are ignored until {@link #reset()}
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
+
+	/** Reset this matcher to the start of a new stream
+	 */
+	public void reset() {
+		this.state = matcher.getStartState();
+		this.position = 0;
+		this.matchCount = 0;
+		this.stopped = false;
+	}
+
+
+	/** Search the next chunk of the stream
+	 * @param buf the buffer containing the chunk
+	 * @param off the offset into {@code buf} at which the chunk starts
+	 * @param len the number of characters in the chunk
+	 * @return false if the handler stopped the search, true otherwise
+	 */
+	public boolean feed(char[] buf, int off, int len) {
+		if(stopped) {
+			return false;
+		}
+		AhoCorasickMatcher matcher = this.matcher;
+		int state = this.state;
+		// the stream offset of buf[0], so that 'pos + i + 1' is the stream offset just past buf[i]
+		long pos = this.position - off;
+		for(int i = off, end = off + len; i < end; i++) {
+			state = matcher.nextState(state, buf[i]);
+			if(matcher.getMatchState(state) != -1 && !reportMatches(state, pos + i + 1)) {
+				this.state = state;
+				this.position = pos + i + 1;
+				return false;
+			}
+		}
+		this.state = state;
+		this.position = pos + off + len;
+		return true;
+	}
+
+
+	/** Search the next chunk of the stream
+	 * @param chunk the chunk
+	 * @param off the offset into {@code chunk} at which the chunk starts
+	 * @param len the number of characters in the chunk
+	 * @return false if the handler stopped the search, true otherwise
+	 */
+	public boolean feed(CharSequence chunk, int off, int len) {
+		if(stopped) {
+			return false;
+		}
+		AhoCorasickMatcher matcher = this.matcher;
+		int state = this.state;
+		long pos = this.position - off;
+		for(int i = off, end = off + len; i < end; i++) {
+			state = matcher.nextState(state, chunk.charAt(i));
+			if(matcher.getMatchState(state) != -1 && !reportMatches(state, pos + i + 1)) {
+				this.state = state;
+				this.position = pos + i + 1;
+				return false;
+			}
+		}
+		this.state = state;
+		this.position = pos + off + len;
+		return true;
+	}
+
+
+	/** Read and search a {@link Reader} until the end of its input or until the handler stops the search.
+	 * The reader is not closed
+	 * @param in the reader to read chunks from
+	 * @return false if the handler stopped the search, true if the end of the input was reached
+	 */
+	public boolean feed(Reader in) throws IOException {
+		char[] buf = new char[READ_BUFFER_SIZE];
+		int read;
+		while((read = in.read(buf, 0, buf.length)) != -1) {
+			if(!feed(buf, 0, read)) {
+				return false;
+			}
+		}
+		return !stopped;
+	}
+
+
+	private boolean reportMatches(int state, long end) {
+		AhoCorasickMatcher matcher = this.matcher;
+		for(int s = matcher.getMatchState(state); s != -1; s = matcher.getNextMatchState(s)) {
+			long start = end - matcher.getStateDepth(s);
+			// identical patterns share a state, report each of them
+			for(int p = matcher.getMatch(s); p != -1; p = matcher.getNextIdenticalPattern(p)) {
+				matchCount++;
+				if(!handler.match(p, start, end)) {
+					stopped = true;
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+}
@@ -1,14 +1,22 @@
 package twg2.text.stringSearch;
 
+import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /** Find common or shared characteristics among groups of strings.
- * For example find the common suffix shared by a list of strings.
+ * For example find the common suffix shared by a list of strings,
+ * or the longest sub-string shared by a list of strings ({@link #longestCommonSubstring(List)}).
  * @author TeamworkGuy2
  * @since 2014-12-19
  */
 public class StringCommonality {
+	/** the default maximum number of strings compared by one {@link #commonPrefixLength(int, List, ForkJoinPool)} task */
+	public static final int PARALLEL_CHUNK_LENGTH = 1 << 14;
 
 	private StringCommonality() { throw new AssertionError("cannot instantiate static class StringCommonality"); }
 
@@ -150,38 +158,236 @@ public class StringCommonality {
 	}
 
 
+	/** Find the longest sub-string which occurs in all of a group of strings
+	 * @param strs the strings to search
+	 * @return the longest common sub-string, the first occurrence in {@code strs.get(0)} if there is more than one, or an empty string
+	 * @see #longestCommonSubstringRange(List)
+	 */
+	public static String longestCommonSubstring(List<String> strs) {
+		Map.Entry<Integer, Integer> range = longestCommonSubstringRange(strs);
+		int off = range.getKey();
+		return range.getValue() > 0 ? strs.get(0).substring(off, off + range.getValue()) : "";
+	}
+
+
+	/** Find the longest sub-string which occurs in all of a group of strings.<br>
+	 * A suffix automaton of the first string is built, then each other string is run through the automaton once to find
+	 * the longest match ending at each automaton state, so this runs in time roughly proportional to the total length of the strings
+	 * and does not copy or concatenate the strings.
+	 * @param strs the strings to search
+	 * @return the offset into {@code strs.get(0)} of the longest common sub-string (the first occurrence if there is more
+	 * than one sub-string or occurrence of the longest length) and the sub-string's length, or {@code (0, 0)} if there is no common sub-string
+	 */
+	public static Map.Entry<Integer, Integer> longestCommonSubstringRange(List<String> strs) {
+		int size = strs.size();
+		if(size == 0) {
+			return new AbstractMap.SimpleImmutableEntry<>(0, 0);
+		}
+		String first = strs.get(0);
+		if(size == 1) {
+			return new AbstractMap.SimpleImmutableEntry<>(0, first.length());
+		}
+
+		SuffixAutomaton sam = new SuffixAutomaton(first);
+		int stateCount = sam.stateCount;
+		int[] stateLen = sam.len;
+		int[] link = sam.link;
+		int[] order = sam.statesByLenDescending();
+		// the longest sub-string ending at each state which all of the strings checked so far contain
+		int[] common = Arrays.copyOf(stateLen, stateCount);
+		int[] cur = new int[stateCount];
+
+		for(int k = 1; k < size; k++) {
+			String str = strs.get(k);
+			Arrays.fill(cur, 0);
+			int state = 0;
+			int len = 0;
+			for(int i = 0, n = str.length(); i < n; i++) {
+				char ch = str.charAt(i);
+				int next;
+				while((next = sam.transition(state, ch)) == -1 && state != 0) {
+					state = link[state];
+					len = stateLen[state];
+				}
+				if(next != -1) {
+					state = next;
+					len++;
+				}
+				if(len > cur[state]) {
+					cur[state] = len;
+				}
+			}
+			// a match ending at a state also matches the whole of each shorter state on its suffix link path
+			int best = 0;
+			for(int i = 0; i < order.length; i++) {
+				int s = order[i];
+				int parent = link[s];
+				if(cur[s] > 0 && parent > 0) {
+					cur[parent] = stateLen[parent];
+				}
+				if(cur[s] < common[s]) {
+					common[s] = cur[s];
+				}
+				best = Math.max(best, common[s]);
+			}
+			if(best == 0) {
+				return new AbstractMap.SimpleImmutableEntry<>(0, 0);
+			}
+		}
+
+		int bestLen = 0;
+		int bestOff = 0;
+		for(int s = 1; s < stateCount; s++) {
+			int len = common[s];
+			int off = sam.firstEnd[s] - len + 1;
+			if(len > bestLen || (len == bestLen && len > 0 && off < bestOff)) {
+				bestLen = len;
+				bestOff = off;
+			}
+		}
+		return new AbstractMap.SimpleImmutableEntry<>(bestLen > 0 ? bestOff : 0, bestLen);
+	}
+
+
 	/** Check for a common prefix among the keys an array of {@link java.util.Map.Entry Map.Entry} values
 	 * @param offset the offset into each key string to start comparing values
 	 * @param strs an array of map entries to compare the keys of
 	 * @return the common string prefix of all of the map entry keys
+	 * @see #commonPrefixLength(int, Map.Entry[], boolean)
 	 */
 	public static <T> String findPrefix(int offset, Map.Entry<String, T>[] strs) {
-		StringBuilder sb = new StringBuilder();
-		String firstString = strs[0].getKey();
+		int count = commonPrefixLength(offset, strs, false);
+		return count > 0 ? strs[0].getKey().substring(offset, offset + count) : "";
+	}
+
+
+	/** Find the length of the common prefix of the keys of an array of {@link java.util.Map.Entry Map.Entry} values without allocating.<br>
+	 * If the keys are sorted, the common prefix of all of the keys is the common prefix of the first and last key,
+	 * so only those two keys are compared
+	 * @param offset the offset into each key string to start comparing values
+	 * @param strs an array of map entries to compare the keys of
+	 * @param isSorted true if {@code strs} is sorted by key in {@link String#compareTo(String)} order
+	 * @return the length of the common prefix starting at {@code offset} of all of the map entry keys,
+	 * 0 if {@code strs} is empty or {@code offset} is past the end of any key
+	 */
+	public static <T> int commonPrefixLength(int offset, Map.Entry<String, T>[] strs, boolean isSorted) {
 		int size = strs.length;
-		for(int i = offset; ; i++) {
-			boolean match = true;
-			if(i >= firstString.length()) {
-				return sb.toString();
+		if(size == 0) {
+			return 0;
+		}
+		String first = strs[0].getKey();
+		if(isSorted) {
+			// sorted keys only share the order of their suffixes past 'offset' if they all share the first 'offset' chars
+			int count = compareEqualCount(first, strs[size - 1].getKey(), 0, Integer.MAX_VALUE);
+			if(count >= offset) {
+				return count - offset;
 			}
-			char c = firstString.charAt(i);
-			for(int ii = 0; ii < size; ii++) {
-				String str = strs[ii].getKey();
-				if(i >= str.length()) {
-					return sb.toString();
-				}
-				if(str.charAt(i) != c) {
-					match = false;
+		}
+		int count = Math.max(first.length() - offset, 0);
+		for(int i = 1; i < size && count > 0; i++) {
+			count = compareEqualCount(first, strs[i].getKey(), offset, count);
+		}
+		return count;
+	}
+
+
+	/** Find the length of the common prefix of a list of strings without allocating
+	 * @param offset the offset into each string to start comparing values
+	 * @param strs the strings to compare
+	 * @param isSorted true if {@code strs} is sorted in {@link String#compareTo(String)} order, in which case
+	 * only the first and last strings are compared
+	 * @return the length of the common prefix starting at {@code offset} of all of the strings,
+	 * 0 if {@code strs} is empty or {@code offset} is past the end of any string
+	 * @see #commonPrefixLength(int, Map.Entry[], boolean)
+	 */
+	public static int commonPrefixLength(int offset, List<String> strs, boolean isSorted) {
+		int size = strs.size();
+		if(size == 0) {
+			return 0;
+		}
+		String first = strs.get(0);
+		if(isSorted) {
+			int count = compareEqualCount(first, strs.get(size - 1), 0, Integer.MAX_VALUE);
+			if(count >= offset) {
+				return count - offset;
+			}
+		}
+		if(!(strs instanceof RandomAccess)) {
+			int count = Math.max(first.length() - offset, 0);
+			for(String str : strs) {
+				if(count == 0) {
 					break;
 				}
+				count = compareEqualCount(first, str, offset, count);
 			}
-			if(match) {
-				sb.append(c);
-			}
-			else {
-				return sb.toString();
-			}
+			return count;
+		}
+		return minCommonPrefix(first, strs, offset, 1, size, Math.max(first.length() - offset, 0));
+	}
+
+
+	/**
+	 * @see #commonPrefixLength(int, List, ForkJoinPool, int)
+	 */
+	public static int commonPrefixLength(int offset, List<String> strs, ForkJoinPool pool) {
+		return commonPrefixLength(offset, strs, pool, PARALLEL_CHUNK_LENGTH);
+	}
+
+
+	/** Find the length of the common prefix of a large, unsorted list of strings in parallel.
+	 * The list is split into ranges of at most {@code chunkLength} strings and the common prefix length of each range
+	 * with the first string is computed by a {@link ForkJoinPool}, the result is the minimum of the ranges' lengths
+	 * @param offset the offset into each string to start comparing values
+	 * @param strs the strings to compare
+	 * @param pool the pool to run tasks on
+	 * @param chunkLength the maximum number of strings compared by one task, must be greater than 0,
+	 * lists with {@code chunkLength} or fewer strings are compared on the calling thread
+	 * @return the length of the common prefix starting at {@code offset} of all of the strings,
+	 * 0 if {@code strs} is empty or {@code offset} is past the end of any string
+	 */
+	public static int commonPrefixLength(int offset, List<String> strs, ForkJoinPool pool, int chunkLength) {
+		if(chunkLength < 1) {
+			throw new IllegalArgumentException("chunk length must be greater than 0: " + chunkLength);
+		}
+		if(!(strs instanceof RandomAccess)) {
+			strs = Arrays.asList(strs.toArray(new String[strs.size()]));
+		}
+		int size = strs.size();
+		if(size == 0) {
+			return 0;
+		}
+		String first = strs.get(0);
+		int maxCount = Math.max(first.length() - offset, 0);
+		if(size <= chunkLength) {
+			return minCommonPrefix(first, strs, offset, 1, size, maxCount);
 		}
+		return pool.invoke(new CommonPrefixTask(first, strs, offset, chunkLength, 1, size, maxCount));
+	}
+
+
+	/**
+	 * @return the minimum of {@code maxCount} and the common prefix length starting at {@code offset} of {@code first}
+	 * and each string in {@code strs} in {@code [off, end)}
+	 */
+	private static int minCommonPrefix(String first, List<String> strs, int offset, int off, int end, int maxCount) {
+		int count = maxCount;
+		for(int i = off; i < end && count > 0; i++) {
+			count = compareEqualCount(first, strs.get(i), offset, count);
+		}
+		return count;
+	}
+
+
+	/**
+	 * @return the number of equal chars in {@code str1} and {@code str2} starting at {@code offset}, at most {@code maxCount}
+	 */
+	private static int compareEqualCount(String str1, String str2, int offset, int maxCount) {
+		int len = Math.min(Math.min(str1.length(), str2.length()) - offset, maxCount);
+		int i = 0;
+		while(i < len && str1.charAt(offset + i) == str2.charAt(offset + i)) {
+			i++;
+		}
+		return i;
 	}
 
 
@@ -415,4 +621,199 @@ public class StringCommonality {
 		}
 	}
 */
+
+
+
+
+	/** Computes the minimum common prefix length of the strings in {@code [off, end)} and the first string
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class CommonPrefixTask extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = 1L;
+
+		private final String first;
+		private final List<String> strs;
+		private final int offset;
+		private final int chunkLength;
+		private final int off;
+		private final int end;
+		private final int maxCount;
+
+
+		CommonPrefixTask(String first, List<String> strs, int offset, int chunkLength, int off, int end, int maxCount) {
+			this.first = first;
+			this.strs = strs;
+			this.offset = offset;
+			this.chunkLength = chunkLength;
+			this.off = off;
+			this.end = end;
+			this.maxCount = maxCount;
+		}
+
+
+		@Override
+		protected Integer compute() {
+			if(end - off <= chunkLength) {
+				return minCommonPrefix(first, strs, offset, off, end, maxCount);
+			}
+			int mid = (off + end) >>> 1;
+			CommonPrefixTask right = new CommonPrefixTask(first, strs, offset, chunkLength, mid, end, maxCount);
+			right.fork();
+			int leftCount = new CommonPrefixTask(first, strs, offset, chunkLength, off, mid, maxCount).compute();
+			if(leftCount == 0) {
+				// the result cannot be less than 0, skip the right half if it has not started yet
+				right.cancel(false);
+				return 0;
+			}
+			return Math.min(leftCount, right.join());
+		}
+	}
+
+
+
+
+	/** A suffix automaton (the minimal automaton accepting all suffixes) of a string, with transitions stored
+	 * in per-state linked lists in primitive arrays
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class SuffixAutomaton {
+		int stateCount;
+		/** the length of the longest string which reaches each state */
+		final int[] len;
+		/** the suffix link of each state, -1 for the initial state */
+		final int[] link;
+		/** the end index in the source string of the first occurrence of each state's strings */
+		final int[] firstEnd;
+		/** the first transition of each state, or -1 */
+		final int[] head;
+		int edgeCount;
+		char[] edgeChar;
+		int[] edgeTarget;
+		int[] edgeNext;
+
+
+		SuffixAutomaton(String str) {
+			int n = str.length();
+			// a suffix automaton has at most 2n - 1 states and 3n - 4 transitions
+			int maxStates = Math.max(2 * n, 2);
+			this.len = new int[maxStates];
+			this.link = new int[maxStates];
+			this.firstEnd = new int[maxStates];
+			this.head = new int[maxStates];
+			this.edgeChar = new char[Math.max(3 * n, 4)];
+			this.edgeTarget = new int[edgeChar.length];
+			this.edgeNext = new int[edgeChar.length];
+			Arrays.fill(head, -1);
+			link[0] = -1;
+			stateCount = 1;
+
+			int last = 0;
+			for(int i = 0; i < n; i++) {
+				char ch = str.charAt(i);
+				int cur = stateCount++;
+				len[cur] = len[last] + 1;
+				firstEnd[cur] = i;
+				int p = last;
+				while(p != -1 && transition(p, ch) == -1) {
+					addTransition(p, ch, cur);
+					p = link[p];
+				}
+				if(p == -1) {
+					link[cur] = 0;
+				}
+				else {
+					int q = transition(p, ch);
+					if(len[p] + 1 == len[q]) {
+						link[cur] = q;
+					}
+					else {
+						int clone = stateCount++;
+						len[clone] = len[p] + 1;
+						link[clone] = link[q];
+						firstEnd[clone] = firstEnd[q];
+						for(int e = head[q]; e != -1; e = edgeNext[e]) {
+							addTransition(clone, edgeChar[e], edgeTarget[e]);
+						}
+						while(p != -1 && setTransition(p, ch, q, clone)) {
+							p = link[p];
+						}
+						link[q] = clone;
+						link[cur] = clone;
+					}
+				}
+				last = cur;
+			}
+		}
+
+
+		/**
+		 * @return the state reached from {@code state} by {@code ch}, or -1 if there is no such transition
+		 */
+		int transition(int state, char ch) {
+			for(int e = head[state]; e != -1; e = edgeNext[e]) {
+				if(edgeChar[e] == ch) {
+					return edgeTarget[e];
+				}
+			}
+			return -1;
+		}
+
+
+		/**
+		 * @return the non-initial states sorted by {@link #len}, longest first, using a counting sort
+		 */
+		int[] statesByLenDescending() {
+			int maxLen = 0;
+			for(int s = 0; s < stateCount; s++) {
+				maxLen = Math.max(maxLen, len[s]);
+			}
+			int[] counts = new int[maxLen + 2];
+			for(int s = 1; s < stateCount; s++) {
+				counts[maxLen - len[s] + 1]++;
+			}
+			for(int i = 1; i < counts.length; i++) {
+				counts[i] += counts[i - 1];
+			}
+			int[] order = new int[stateCount - 1];
+			for(int s = 1; s < stateCount; s++) {
+				order[counts[maxLen - len[s]]++] = s;
+			}
+			return order;
+		}
+
+
+		private void addTransition(int state, char ch, int target) {
+			int e = edgeCount++;
+			if(e == edgeChar.length) {
+				int newLen = e * 2;
+				edgeChar = Arrays.copyOf(edgeChar, newLen);
+				edgeTarget = Arrays.copyOf(edgeTarget, newLen);
+				edgeNext = Arrays.copyOf(edgeNext, newLen);
+			}
+			edgeChar[e] = ch;
+			edgeTarget[e] = target;
+			edgeNext[e] = head[state];
+			head[state] = e;
+		}
+
+
+		/**
+		 * @return true if {@code state}'s {@code ch} transition pointed to {@code expect} and was redirected to {@code target}
+		 */
+		private boolean setTransition(int state, char ch, int expect, int target) {
+			for(int e = head[state]; e != -1; e = edgeNext[e]) {
+				if(edgeChar[e] == ch) {
+					if(edgeTarget[e] != expect) {
+						return false;
+					}
+					edgeTarget[e] = target;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 }
@@ -1,7 +1,6 @@
 package twg2.text.stringSearch;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.RandomAccess;
 
@@ -25,6 +24,7 @@ public class StringCompare {
 	 * @param str the main string to compare prefixes to
 	 * @param prefixes the set of prefixes to compare to the beginning of {@code str}
 	 * @return true if {@code str} starts with any one of the {@code prefixes}
+	 * @see PrefixSet
 	 */
 	public static boolean startsWithAny(String str, final String... prefixes) {
 		if(prefixes != null) {
@@ -42,6 +42,7 @@ public class StringCompare {
 	 * @param str the main string to compare suffixes to
 	 * @param suffixes the set of suffixes to compare to the end of {@code str}
 	 * @return true if {@code str} ends with any one of the {@code suffixes}
+	 * @see SuffixSet
 	 */
 	public static boolean endsWithAny(String str, final String... suffixes) {
 		if(suffixes != null) {
@@ -84,6 +85,7 @@ public class StringCompare {
 	 * @param startStr compare this char sequence to the start of each string
 	 * @return true if any of the strings in {@code strs} starts with the contents of {@code startStr},
 	 * false if none of the strings start with {@code startStr}
+	 * @see SortedPrefixIndex
 	 */
 	public static boolean anyStartWith(List<String> strs, CharSequence startStr) {
 		for(int i = 0, len = strs.size(); i < len; i++) {
@@ -101,6 +103,7 @@ public class StringCompare {
 	 * @param startStrOffset the offset into the char sequence at which to start comparing characters to strings from {@code strs}
 	 * @return true if any of the strings in {@code strs} starts with the contents of {@code startStr},
 	 * false if none of the strings start with {@code startStr}
+	 * @see SortedPrefixIndex
 	 */
 	public static boolean anyStartWith(List<String> strs, CharSequence startStr, int startStrOffset) {
 		for(int i = 0, len = strs.size(); i < len; i++) {
@@ -200,6 +203,7 @@ public class StringCompare {
 
 
 	/** Check if {@code src} contains all {@code subStrs}
+	 * @see SubstringSet for checking the same sub-strings against many strings
 	 */
 	public static boolean containsAll(String src, final String[] subStrs) {
 		for(String subStr : subStrs) {
@@ -240,10 +244,8 @@ public class StringCompare {
 	/** Check if {@code src} contains all {@code subStrs} ignore case
 	 */
 	public static boolean containsAllIgnoreCase(String src, final String[] subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
 		for(String subStr : subStrs) {
-			if(srcUpper.indexOf(subStr.toUpperCase(locale)) == -1) {
+			if(!StringIgnoreCase.contains(src, subStr)) {
 				return false;
 			}
 		}
@@ -254,15 +256,13 @@ public class StringCompare {
 	/** Check if {@code src} contains all {@code subStrs} ignore case
 	 */
 	public static boolean containsAllIgnoreCase(String src, Iterable<String> subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
 		boolean any = false;
 		if(subStrs instanceof RandomAccess && subStrs instanceof List) {
 			List<String> strsList = (List<String>)subStrs;
 			for(int i = 0, size = strsList.size(); i < size; i++) {
 				String s = strsList.get(i);
 				any = true;
-				if(srcUpper.indexOf(s.toUpperCase(locale)) == -1) {
+				if(!StringIgnoreCase.contains(src, s)) {
 					return false;
 				}
 			}
@@ -270,7 +270,7 @@ public class StringCompare {
 		else {
 			for(String subStr : subStrs) {
 				any = true;
-				if(srcUpper.indexOf(subStr.toUpperCase(locale)) == -1) {
+				if(!StringIgnoreCase.contains(src, subStr)) {
 					return false;
 				}
 			}
@@ -317,10 +317,8 @@ public class StringCompare {
 	/** Check if {@code src} contains any {@code subStrs} ignore case
 	 */
 	public static boolean containsAnyIgnoreCase(String src, final String[] subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
 		for(String subStr : subStrs) {
-			if(srcUpper.indexOf(subStr.toUpperCase(locale)) > -1) {
+			if(StringIgnoreCase.contains(src, subStr)) {
 				return true;
 			}
 		}
@@ -331,21 +329,18 @@ public class StringCompare {
 	/** Check if {@code src} contains any {@code subStrs} ignore case
 	 */
 	public static boolean containsAnyIgnoreCase(String src, Iterable<String> subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
-
 		if(subStrs instanceof RandomAccess && subStrs instanceof List) {
 			List<String> strsList = (List<String>)subStrs;
 			for(int i = 0, size = strsList.size(); i < size; i++) {
 				String s = strsList.get(i);
-				if(srcUpper.indexOf(s.toUpperCase(locale)) > -1) {
+				if(StringIgnoreCase.contains(src, s)) {
 					return true;
 				}
 			}
 		}
 		else {
 			for(String subStr : subStrs) {
-				if(srcUpper.indexOf(subStr.toUpperCase(locale)) > -1) {
+				if(StringIgnoreCase.contains(src, subStr)) {
 					return true;
 				}
 			}
@@ -394,11 +389,9 @@ public class StringCompare {
 	/** Count {@code subStrs} contained in {@code src} ignore case
 	 */
 	public static int containsIgnoreCaseCount(String src, final String[] subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
 		int cnt = 0;
 		for(String subStr : subStrs) {
-			if(srcUpper.indexOf(subStr.toUpperCase(locale)) > -1) {
+			if(StringIgnoreCase.contains(src, subStr)) {
 				cnt++;
 			}
 		}
@@ -409,21 +402,19 @@ public class StringCompare {
 	/** Count {@code subStrs} contained in {@code src} ignore case
 	 */
 	public static int containsIgnoreCaseCount(String src, Iterable<String> subStrs) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String srcUpper = src.toUpperCase(locale);
 		int cnt = 0;
 		if(subStrs instanceof RandomAccess && subStrs instanceof List) {
 			List<String> strsList = (List<String>)subStrs;
 			for(int i = 0, size = strsList.size(); i < size; i++) {
 				String s = strsList.get(i);
-				if(srcUpper.indexOf(s.toUpperCase(locale)) > -1) {
+				if(StringIgnoreCase.contains(src, s)) {
 					cnt++;
 				}
 			}
 		}
 		else {
 			for(String subStr : subStrs) {
-				if(srcUpper.indexOf(subStr.toUpperCase(locale)) > -1) {
+				if(StringIgnoreCase.contains(src, subStr)) {
 					cnt++;
 				}
 			}
@@ -435,7 +426,7 @@ public class StringCompare {
 	/** Check if {@code str} contains {@code searchStr} ignore case
 	 */
 	public static boolean containsIgnoreCase(String str, String searchStr) {
-		return indexOfIgnoreCase(str, 0, str.length(), searchStr, 0, searchStr.length(), 0) > -1;
+		return StringIgnoreCase.contains(str, searchStr);
 	}
 
 
@@ -477,10 +468,9 @@ public class StringCompare {
 	/** Check if any {@code strs} contain {@code searchStr} ignore case
 	 */
 	public static boolean containsIgnoreCase(final String[] strs, String searchStr) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String searchStrUpper = searchStr.toUpperCase(locale);
+		CompiledSubstringIgnoreCase searchStrFolded = new CompiledSubstringIgnoreCase(searchStr);
 		for(int i = 0, size = strs.length; i < size; i++) {
-			if(strs[i] != null && strs[i].toUpperCase(locale).indexOf(searchStrUpper) > -1) {
+			if(strs[i] != null && searchStrFolded.containedIn(strs[i])) {
 				return true;
 			}
 		}
@@ -491,20 +481,19 @@ public class StringCompare {
 	/** Check if any {@code strs} contain {@code searchStr} ignore case
 	 */
 	public static boolean containsIgnoreCase(Iterable<String> strs, String searchStr) {
-		Locale locale = Locale.getDefault(); // cached for performance
-		String searchStrUpper = searchStr.toUpperCase(locale);
+		CompiledSubstringIgnoreCase searchStrFolded = new CompiledSubstringIgnoreCase(searchStr);
 		if(strs instanceof RandomAccess && strs instanceof List) {
 			List<String> strList = (List<String>)strs;
 			for(int i = 0, size = strList.size(); i < size; i++) {
 				String s = strList.get(i);
-				if(s != null && s.toUpperCase(locale).indexOf(searchStrUpper) > -1) {
+				if(s != null && searchStrFolded.containedIn(s)) {
 					return true;
 				}
 			}
 		}
 		else {
 			for(String s : strs) {
-				if(s != null && s.toUpperCase(locale).indexOf(searchStrUpper) > -1) {
+				if(s != null && searchStrFolded.containedIn(s)) {
 					return true;
 				}
 			}
@@ -597,6 +586,20 @@ public class StringCompare {
 	}
 
 
+	/** Find the longest key in a compiled {@link RadixTrie} which matches {@code chseq} at an offset.<br>
+	 * Unlike {@link #closestMatch(CharSequence, int, Map.Entry[], boolean)} only keys which fully match are returned,
+	 * and the search walks the trie once without allocating
+	 * @param chseq the char sequence to find a key that matches
+	 * @param chseqOffset the offset into {@code chseq} at which the key must start
+	 * @param searchEntries the compiled keys and values to search
+	 * @return the entry with the longest key equal to the characters of {@code chseq} starting at {@code chseqOffset},
+	 * or null if no key matches
+	 */
+	public static <T> Map.Entry<String, T> closestMatch(CharSequence chseq, int chseqOffset, RadixTrie<T> searchEntries) {
+		return searchEntries.longestMatchEntry(chseq, chseqOffset);
+	}
+
+
 	/** Compare how many characters in the two strings are equal before a pair of
 	 * unequal characters are encountered.
 	 * @param str1 the first char sequence
@@ -653,42 +656,5 @@ public class StringCompare {
 		}
 		return size - offset1;
 	}
-
-
-	static int indexOfIgnoreCase(String source, int sourceOffset, int sourceCount,
-			String target, int targetOffset, int targetCount, int fromIndex) {
-		if (fromIndex >= sourceCount) {
-			return (targetCount == 0 ? sourceCount : -1);
-		}
-		if (fromIndex < 0) {
-			fromIndex = 0;
-		}
-		if (targetCount == 0) {
-			return fromIndex;
-		}
-
-		int first = Character.toUpperCase((int)target.charAt(targetOffset));
-		int max = sourceOffset + (sourceCount - targetCount);
-
-		for (int i = sourceOffset + fromIndex; i <= max; i++) {
-			/* Look for first character. */
-			if (Character.toUpperCase((int)source.charAt(i)) != first) {
-				while (++i <= max && Character.toUpperCase((int)source.charAt(i)) != first);
-			}
-
-			/* Found first character, now look at the rest of v2 */
-			if (i <= max) {
-				int j = i + 1;
-				int end = j + targetCount - 1;
-				for (int k = targetOffset + 1; j < end && Character.toUpperCase((int)source.charAt(j)) == Character.toUpperCase((int)target.charAt(k)); j++, k++);
-
-				if (j == end) {
-					/* Found whole string. */
-					return i - sourceOffset;
-				}
-			}
-		}
-		return -1;
-	}
    
 }
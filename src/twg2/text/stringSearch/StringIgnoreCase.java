@@ -0,0 +1,196 @@
+package twg2.text.stringSearch;
+
+/** Case-insensitive equals, startsWith, endsWith, and indexOf methods for {@link CharSequence} (including {@link String})
+ * and {@code char[]} which do not allocate upper or lower case copies of their arguments.<br>
+ * Characters are compared one at a time after folding them through a precomputed table, two characters are equal ignoring case
+ * if {@code Character.toLowerCase(Character.toUpperCase(ch))} is the same for both, the same as {@link String#equalsIgnoreCase(String)}
+ * and {@link String#regionMatches(boolean, int, String, int, int)}, so results do not depend on the default locale.
+ * ASCII characters are folded using a small table, the table for the rest of the BMP is only built the first time
+ * a non-ASCII character is folded. Surrogate chars are compared exactly.<br>
+ * Methods follow the same offset/length conventions as {@link StringIndex}.
+ * @see CompiledSubstringIgnoreCase
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringIgnoreCase {
+	private static final char[] ASCII_FOLD = new char[128];
+
+	static {
+		for(int i = 0; i < 128; i++) {
+			ASCII_FOLD[i] = (char)(i >= 'A' && i <= 'Z' ? i + ('a' - 'A') : i);
+		}
+	}
+
+
+	private StringIgnoreCase() { throw new AssertionError("cannot instantiate static class StringIgnoreCase"); }
+
+
+	/** Fold a character's case
+	 * @param ch the character
+	 * @return the case-folded character, {@code Character.toLowerCase(Character.toUpperCase(ch))}
+	 */
+	public static char fold(char ch) {
+		return ch < 128 ? ASCII_FOLD[ch] : BmpFold.TABLE[ch];
+	}
+
+
+	/**
+	 * @return true if {@code str1} and {@code str2} are the same length and equal ignoring case
+	 */
+	public static boolean equals(CharSequence str1, CharSequence str2) {
+		int len = str1.length();
+		return len == str2.length() && regionMatches(str1, 0, str2, 0, len);
+	}
+
+
+	/** Compare a portion of two char sequences ignoring case
+	 * @param str1 the first char sequence
+	 * @param off1 the offset into {@code str1} at which to start comparing
+	 * @param str2 the second char sequence
+	 * @param off2 the offset into {@code str2} at which to start comparing
+	 * @param len the number of chars to compare
+	 * @return true if the {@code len} chars of {@code str1} starting at {@code off1} equal the {@code len} chars
+	 * of {@code str2} starting at {@code off2} ignoring case, false if they differ or either range is out of bounds
+	 */
+	public static boolean regionMatches(CharSequence str1, int off1, CharSequence str2, int off2, int len) {
+		if(off1 < 0 || off2 < 0 || len < 0 || off1 > str1.length() - len || off2 > str2.length() - len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			char ch1 = str1.charAt(off1 + i);
+			char ch2 = str2.charAt(off2 + i);
+			if(ch1 != ch2 && fold(ch1) != fold(ch2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @see #regionMatches(CharSequence, int, CharSequence, int, int)
+	 */
+	public static boolean regionMatches(char[] str1, int off1, char[] str2, int off2, int len) {
+		if(off1 < 0 || off2 < 0 || len < 0 || off1 > str1.length - len || off2 > str2.length - len) {
+			return false;
+		}
+		for(int i = 0; i < len; i++) {
+			char ch1 = str1[off1 + i];
+			char ch2 = str2[off2 + i];
+			if(ch1 != ch2 && fold(ch1) != fold(ch2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @return true if {@code str} starts with {@code prefix} ignoring case
+	 */
+	public static boolean startsWith(CharSequence str, CharSequence prefix) {
+		return regionMatches(str, 0, prefix, 0, prefix.length());
+	}
+
+
+	/**
+	 * @return true if the {@code [strOff, strOff + strLen)} portion of {@code str} starts with {@code prefix} ignoring case
+	 */
+	public static boolean startsWith(char[] str, int strOff, int strLen, char[] prefix) {
+		return prefix.length <= strLen && regionMatches(str, strOff, prefix, 0, prefix.length);
+	}
+
+
+	/**
+	 * @return true if {@code str} ends with {@code suffix} ignoring case
+	 */
+	public static boolean endsWith(CharSequence str, CharSequence suffix) {
+		int suffixLen = suffix.length();
+		return regionMatches(str, str.length() - suffixLen, suffix, 0, suffixLen);
+	}
+
+
+	/**
+	 * @return true if the {@code [strOff, strOff + strLen)} portion of {@code str} ends with {@code suffix} ignoring case
+	 */
+	public static boolean endsWith(char[] str, int strOff, int strLen, char[] suffix) {
+		return suffix.length <= strLen && regionMatches(str, strOff + strLen - suffix.length, suffix, 0, suffix.length);
+	}
+
+
+	/**
+	 * @return true if {@code str} contains {@code subStr} ignoring case
+	 */
+	public static boolean contains(CharSequence str, CharSequence subStr) {
+		return indexOf(str, 0, str.length(), subStr) > -1;
+	}
+
+
+	/** Search for a sub string ignoring case and return the absolute index where the first instance of the sub string begins
+	 * @param str the char sequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for
+	 * @return the index of the found sub string, from index 0, or -1 if the sub string could not be found,
+	 * an empty sub string matches at {@code strOff}
+	 */
+	public static int indexOf(CharSequence str, int strOff, int strLen, CharSequence subStr) {
+		int subStrLen = subStr.length();
+		if(subStrLen == 0) { return strOff; }
+
+		char first = fold(subStr.charAt(0));
+		for(int i = strOff, maxI = strOff + strLen - subStrLen; i <= maxI; i++) {
+			if(fold(str.charAt(i)) == first) {
+				int k = 1;
+				while(k < subStrLen && fold(str.charAt(i + k)) == fold(subStr.charAt(k))) {
+					k++;
+				}
+				if(k == subStrLen) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+	/**
+	 * @see #indexOf(CharSequence, int, int, CharSequence)
+	 */
+	public static int indexOf(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		if(subStrLen == 0) { return strOff; }
+
+		char first = fold(subStr[subStrOff]);
+		for(int i = strOff, maxI = strOff + strLen - subStrLen; i <= maxI; i++) {
+			if(fold(str[i]) == first) {
+				int k = 1;
+				while(k < subStrLen && fold(str[i + k]) == fold(subStr[subStrOff + k])) {
+					k++;
+				}
+				if(k == subStrLen) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+
+
+
+	/** Lazily initialized fold table for all BMP chars, only loaded the first time a non-ASCII char is folded
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class BmpFold {
+		static final char[] TABLE = new char[Character.MAX_VALUE + 1];
+
+		static {
+			for(int i = 0; i <= Character.MAX_VALUE; i++) {
+				char ch = (char)i;
+				TABLE[i] = Character.isSurrogate(ch) ? ch : Character.toLowerCase(Character.toUpperCase(ch));
+			}
+		}
+	}
+
+}
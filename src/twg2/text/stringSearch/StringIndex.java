@@ -1,7 +1,10 @@
 package twg2.text.stringSearch;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.function.IntConsumer;
 
 /** Methods for finding the index of a specific character, string, or value
  * within a string
@@ -11,9 +14,45 @@ import java.util.RandomAccess;
 @javax.annotation.Generated("StringTemplate")
 public class StringIndex {
 
+	/** the minimum number of patterns for which {@code indexOfMatch()} may search using an {@link AhoCorasickMatcher} rather than searching for each pattern separately */
+	private static final int MULTI_PATTERN_MIN_COUNT = 8;
+	/** the minimum ratio of search range length to combined pattern length for which {@code indexOfMatch()} searches using an {@link AhoCorasickMatcher},
+	 * building the matcher costs time proportional to the combined pattern length, so the single pass only pays off on much longer text */
+	private static final int MULTI_PATTERN_MIN_TEXT_RATIO = 64;
+	/** the minimum search range length for which {@code lastIndexOf()} builds a sub string skip table, shorter ranges are searched for the sub string's first character */
+	private static final int SKIP_TABLE_MIN_STR_LENGTH = 1024;
+	/** the minimum sub string length for which {@code lastIndexOf()} builds a skip table, shorter sub strings can't skip far enough to pay for building the table */
+	private static final int SKIP_TABLE_MIN_SUB_STR_LENGTH = 32;
+	/** the number of skip table buckets, chars are mapped to buckets by their low bits */
+	private static final int SKIP_TABLE_SIZE = 256;
+	private static final int SKIP_TABLE_MASK = SKIP_TABLE_SIZE - 1;
+
+
 	private StringIndex() { throw new AssertionError("cannot instantiate static class StringIndex"); }
 
 
+	/** A growable int array used to collect match indices without boxing them
+	 */
+	private static class IntArrayBuilder implements IntConsumer {
+		private int[] values = new int[16];
+		private int size;
+
+
+		@Override
+		public void accept(int value) {
+			if(size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+
+		public int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+
 	/**
 	 * @see #indexOf(String, int, int, int)
 	 */
@@ -32,10 +71,21 @@ public class StringIndex {
 	 */
 	public static int indexOf(String str, int strOff, int strLen, int matchChar) {
 		int strLength = strOff + strLen;
+		// String.indexOf() is a JVM intrinsic (vectorized on most platforms), so use it when the search range extends to the end of the string
+		if(strLength == str.length()) {
+			return str.indexOf(matchChar, strOff);
+		}
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strOff; i < strLength; i++) {
+			// search for the first matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strOff;
+			for(int maxI = strLength - 3; i < maxI; i += 4) {
+				if(str.charAt(i) == matchChar) { return i; }
+				if(str.charAt(i + 1) == matchChar) { return i + 1; }
+				if(str.charAt(i + 2) == matchChar) { return i + 2; }
+				if(str.charAt(i + 3) == matchChar) { return i + 3; }
+			}
+			for(; i < strLength; i++) {
 				if(str.charAt(i) == matchChar) {
 					return i;
 				}
@@ -60,8 +110,18 @@ public class StringIndex {
 		int strLength = strOff + strLen;
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strLength - 1; i >= strOff; i--) {
+			if(strOff == 0) {
+				return str.lastIndexOf(matchChar, strLength - 1);
+			}
+			// search for the last matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strLength - 1;
+			for(int minI = strOff + 3; i >= minI; i -= 4) {
+				if(str.charAt(i) == matchChar) { return i; }
+				if(str.charAt(i - 1) == matchChar) { return i - 1; }
+				if(str.charAt(i - 2) == matchChar) { return i - 2; }
+				if(str.charAt(i - 3) == matchChar) { return i - 3; }
+			}
+			for(; i >= strOff; i--) {
 				if(str.charAt(i) == matchChar) {
 					return i;
 				}
@@ -76,6 +136,189 @@ public class StringIndex {
 	}
 
 
+	/**
+	 * @see #lastIndexOf(String, int, int, String, int, int)
+	 */
+	public static int lastIndexOf(String str, String subStr) {
+		return lastIndexOf(str, 0, str.length(), subStr, 0, subStr.length());
+	}
+
+
+	/**
+	 * @see #lastIndexOf(String, int, int, String, int, int)
+	 */
+	public static int lastIndexOf(String str, int strOff, int strLen, String subStr) {
+		return lastIndexOf(str, strOff, strLen, subStr, 0, subStr.length());
+	}
+
+
+	/** Search for a sub string in a portion of a String and return the absolute index
+	 * where the last instance of the sub string begins, or -1 if the sub string does not exist in the search range.<br>
+	 * Long sub strings in long search ranges are searched using a reverse Boyer-Moore-Horspool skip table, which moves the search window
+	 * left so that the character at the start of the window lines up with the nearest matching character in the sub string,
+	 * other searches find each occurrence of the sub string's first character using the unrolled single character {@code lastIndexOf()}.
+	 * @param str the String to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sub string, from index 0, or -1 if the sub string could not be found,
+	 * an empty sub string matches at {@code strOff + strLen}
+	 */
+	public static int lastIndexOf(String str, int strOff, int strLen, String subStr, int subStrOff, int subStrLen) {
+		// if the sub string has a length of zero, it matches at the end of the search range, no comparison needed
+		if(subStrLen == 0) { return strOff + strLen; }
+		if(subStrLen > strLen) { return -1; }
+
+		char firstChar = subStr.charAt(subStrOff);
+		int maxK = subStrOff + subStrLen;
+		int i = strOff + strLen - subStrLen;
+
+		if(subStrLen >= SKIP_TABLE_MIN_SUB_STR_LENGTH && strLen >= SKIP_TABLE_MIN_STR_LENGTH) {
+			// shift distances are the distance from the start of the sub string to the nearest following char in the same bucket
+			int[] shift = new int[SKIP_TABLE_SIZE];
+			Arrays.fill(shift, subStrLen);
+			for(int k = subStrLen - 1; k > 0; k--) {
+				shift[subStr.charAt(subStrOff + k) & SKIP_TABLE_MASK] = k;
+			}
+
+			while(i >= strOff) {
+				char ch = str.charAt(i);
+				if(ch == firstChar) {
+					int j = i + 1;
+					for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+					}
+					if(j == i + subStrLen) {
+						return i;
+					}
+				}
+				i -= shift[ch & SKIP_TABLE_MASK];
+			}
+			return -1;
+		}
+
+		for(; i >= strOff; i--) {
+			// search for the last matching first character using the unrolled single character search
+			i = lastIndexOf(str, strOff, i - strOff + 1, firstChar);
+			if(i == -1) {
+				return -1;
+			}
+			// j and k have + 1 because the first character was already matched
+			int j = i + 1;
+			for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+			}
+			if(j == i + subStrLen) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find all matches of a character in a portion of a String and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the String to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param ch the character to search for in {@code str}
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(String str, int strOff, int strLen, char ch, IntConsumer dst) {
+		int count = 0;
+		// String.indexOf() is a JVM intrinsic, so use it when the search range extends to the end of the string
+		if(strOff + strLen == str.length()) {
+			for(int i = str.indexOf(ch, strOff); i > -1; i = str.indexOf(ch, i + 1)) {
+				dst.accept(i);
+				count++;
+			}
+			return count;
+		}
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			if(str.charAt(i) == ch) {
+				dst.accept(i);
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(String, int, int, char, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(String str, int strOff, int strLen, char ch) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, ch, dst);
+		return dst.toArray();
+	}
+
+
+	/** Find all matches of a sub string in a portion of a String and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the String to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}, must be greater than 0
+	 * @param overlapping true to find every match, i.e. {@code "aa"} matches {@code "aaa"} at 0 and 1,
+	 * false to resume searching after the end of each match, the same as {@code StringSplit.countMatches()},
+	 * i.e. {@code "aa"} only matches {@code "aaa"} at 0
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(String str, int strOff, int strLen, String subStr, int subStrOff, int subStrLen, boolean overlapping, IntConsumer dst) {
+		if(subStrLen == 0) {
+			throw new IllegalArgumentException("sub string cannot be empty");
+		}
+		int step = overlapping ? 1 : subStrLen;
+		int count = 0;
+		// String.indexOf() is a JVM intrinsic, so use it when searching for an entire string to the end of the string
+		if(strOff + strLen == str.length() && subStrOff == 0 && subStrLen == subStr.length()) {
+			for(int i = str.indexOf(subStr, strOff); i > -1; i = str.indexOf(subStr, i + step)) {
+				dst.accept(i);
+				count++;
+			}
+			return count;
+		}
+		char firstChar = subStr.charAt(subStrOff);
+		int maxK = subStrOff + subStrLen;
+		int maxI = strOff + strLen - subStrLen;
+		int i = strOff;
+
+		while(i <= maxI) {
+			if(str.charAt(i) == firstChar) {
+				// j and k have + 1 because the first character was already matched
+				int j = i + 1;
+				for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+				}
+				if(j == i + subStrLen) {
+					dst.accept(i);
+					count++;
+					i += step;
+					continue;
+				}
+			}
+			i++;
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(String, int, int, String, int, int, boolean, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(String str, int strOff, int strLen, String subStr, boolean overlapping) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, subStr, 0, subStr.length(), overlapping, dst);
+		return dst.toArray();
+	}
+
+
 	/** Search for the index of a supplementary character in an array of characters
 	 * @param str the array of characters to search
 	 * @param strOff the offset into {@code str} at which to start comparing characters
@@ -118,8 +361,15 @@ public class StringIndex {
 		int strLength = strOff + strLen;
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strOff; i < strLength; i++) {
+			// search for the first matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strOff;
+			for(int maxI = strLength - 3; i < maxI; i += 4) {
+				if(str[i] == matchChar) { return i; }
+				if(str[i + 1] == matchChar) { return i + 1; }
+				if(str[i + 2] == matchChar) { return i + 2; }
+				if(str[i + 3] == matchChar) { return i + 3; }
+			}
+			for(; i < strLength; i++) {
 				if(str[i] == matchChar) {
 					return i;
 				}
@@ -144,8 +394,15 @@ public class StringIndex {
 		int strLength = strOff + strLen;
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strLength - 1; i >= strOff; i--) {
+			// search for the last matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strLength - 1;
+			for(int minI = strOff + 3; i >= minI; i -= 4) {
+				if(str[i] == matchChar) { return i; }
+				if(str[i - 1] == matchChar) { return i - 1; }
+				if(str[i - 2] == matchChar) { return i - 2; }
+				if(str[i - 3] == matchChar) { return i - 3; }
+			}
+			for(; i >= strOff; i--) {
 				if(str[i] == matchChar) {
 					return i;
 				}
@@ -160,6 +417,173 @@ public class StringIndex {
 	}
 
 
+	/**
+	 * @see #lastIndexOf(char[], int, int, char[], int, int)
+	 */
+	public static int lastIndexOf(char[] str, char[] subStr) {
+		return lastIndexOf(str, 0, str.length, subStr, 0, subStr.length);
+	}
+
+
+	/**
+	 * @see #lastIndexOf(char[], int, int, char[], int, int)
+	 */
+	public static int lastIndexOf(char[] str, int strOff, int strLen, char[] subStr) {
+		return lastIndexOf(str, strOff, strLen, subStr, 0, subStr.length);
+	}
+
+
+	/** Search for a sub string in a portion of a char[] and return the absolute index
+	 * where the last instance of the sub string begins, or -1 if the sub string does not exist in the search range.<br>
+	 * Long sub strings in long search ranges are searched using a reverse Boyer-Moore-Horspool skip table, which moves the search window
+	 * left so that the character at the start of the window lines up with the nearest matching character in the sub string,
+	 * other searches find each occurrence of the sub string's first character using the unrolled single character {@code lastIndexOf()}.
+	 * @param str the char[] to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sub string, from index 0, or -1 if the sub string could not be found,
+	 * an empty sub string matches at {@code strOff + strLen}
+	 */
+	public static int lastIndexOf(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen) {
+		// if the sub string has a length of zero, it matches at the end of the search range, no comparison needed
+		if(subStrLen == 0) { return strOff + strLen; }
+		if(subStrLen > strLen) { return -1; }
+
+		char firstChar = subStr[subStrOff];
+		int maxK = subStrOff + subStrLen;
+		int i = strOff + strLen - subStrLen;
+
+		if(subStrLen >= SKIP_TABLE_MIN_SUB_STR_LENGTH && strLen >= SKIP_TABLE_MIN_STR_LENGTH) {
+			// shift distances are the distance from the start of the sub string to the nearest following char in the same bucket
+			int[] shift = new int[SKIP_TABLE_SIZE];
+			Arrays.fill(shift, subStrLen);
+			for(int k = subStrLen - 1; k > 0; k--) {
+				shift[subStr[subStrOff + k] & SKIP_TABLE_MASK] = k;
+			}
+
+			while(i >= strOff) {
+				char ch = str[i];
+				if(ch == firstChar) {
+					int j = i + 1;
+					for(int k = subStrOff + 1; k < maxK && str[j] == subStr[k]; j++, k++) {
+					}
+					if(j == i + subStrLen) {
+						return i;
+					}
+				}
+				i -= shift[ch & SKIP_TABLE_MASK];
+			}
+			return -1;
+		}
+
+		for(; i >= strOff; i--) {
+			// search for the last matching first character using the unrolled single character search
+			i = lastIndexOf(str, strOff, i - strOff + 1, firstChar);
+			if(i == -1) {
+				return -1;
+			}
+			// j and k have + 1 because the first character was already matched
+			int j = i + 1;
+			for(int k = subStrOff + 1; k < maxK && str[j] == subStr[k]; j++, k++) {
+			}
+			if(j == i + subStrLen) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find all matches of a character in a portion of a char[] and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the char[] to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param ch the character to search for in {@code str}
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(char[] str, int strOff, int strLen, char ch, IntConsumer dst) {
+		int count = 0;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			if(str[i] == ch) {
+				dst.accept(i);
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(char[], int, int, char, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(char[] str, int strOff, int strLen, char ch) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, ch, dst);
+		return dst.toArray();
+	}
+
+
+	/** Find all matches of a sub string in a portion of a char[] and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the char[] to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}, must be greater than 0
+	 * @param overlapping true to find every match, i.e. {@code "aa"} matches {@code "aaa"} at 0 and 1,
+	 * false to resume searching after the end of each match, the same as {@code StringSplit.countMatches()},
+	 * i.e. {@code "aa"} only matches {@code "aaa"} at 0
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(char[] str, int strOff, int strLen, char[] subStr, int subStrOff, int subStrLen, boolean overlapping, IntConsumer dst) {
+		if(subStrLen == 0) {
+			throw new IllegalArgumentException("sub string cannot be empty");
+		}
+		int step = overlapping ? 1 : subStrLen;
+		int count = 0;
+		char firstChar = subStr[subStrOff];
+		int maxK = subStrOff + subStrLen;
+		int maxI = strOff + strLen - subStrLen;
+		int i = strOff;
+
+		while(i <= maxI) {
+			if(str[i] == firstChar) {
+				// j and k have + 1 because the first character was already matched
+				int j = i + 1;
+				for(int k = subStrOff + 1; k < maxK && str[j] == subStr[k]; j++, k++) {
+				}
+				if(j == i + subStrLen) {
+					dst.accept(i);
+					count++;
+					i += step;
+					continue;
+				}
+			}
+			i++;
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(char[], int, int, char[], int, int, boolean, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(char[] str, int strOff, int strLen, char[] subStr, boolean overlapping) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, subStr, 0, subStr.length, overlapping, dst);
+		return dst.toArray();
+	}
+
+
 	/** Search for the index of a supplementary character in an array of characters
 	 * @param str the array of characters to search
 	 * @param strOff the offset into {@code str} at which to start comparing characters
@@ -202,8 +626,15 @@ public class StringIndex {
 		int strLength = strOff + strLen;
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strOff; i < strLength; i++) {
+			// search for the first matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strOff;
+			for(int maxI = strLength - 3; i < maxI; i += 4) {
+				if(str.charAt(i) == matchChar) { return i; }
+				if(str.charAt(i + 1) == matchChar) { return i + 1; }
+				if(str.charAt(i + 2) == matchChar) { return i + 2; }
+				if(str.charAt(i + 3) == matchChar) { return i + 3; }
+			}
+			for(; i < strLength; i++) {
 				if(str.charAt(i) == matchChar) {
 					return i;
 				}
@@ -228,8 +659,15 @@ public class StringIndex {
 		int strLength = strOff + strLen;
 
 		if(matchChar < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
-			// search for the first matching character
-			for(int i = strLength - 1; i >= strOff; i--) {
+			// search for the last matching character, 4 characters per iteration, then the remaining 0-3 characters
+			int i = strLength - 1;
+			for(int minI = strOff + 3; i >= minI; i -= 4) {
+				if(str.charAt(i) == matchChar) { return i; }
+				if(str.charAt(i - 1) == matchChar) { return i - 1; }
+				if(str.charAt(i - 2) == matchChar) { return i - 2; }
+				if(str.charAt(i - 3) == matchChar) { return i - 3; }
+			}
+			for(; i >= strOff; i--) {
 				if(str.charAt(i) == matchChar) {
 					return i;
 				}
@@ -244,6 +682,173 @@ public class StringIndex {
 	}
 
 
+	/**
+	 * @see #lastIndexOf(CharSequence, int, int, CharSequence, int, int)
+	 */
+	public static int lastIndexOf(CharSequence str, CharSequence subStr) {
+		return lastIndexOf(str, 0, str.length(), subStr, 0, subStr.length());
+	}
+
+
+	/**
+	 * @see #lastIndexOf(CharSequence, int, int, CharSequence, int, int)
+	 */
+	public static int lastIndexOf(CharSequence str, int strOff, int strLen, CharSequence subStr) {
+		return lastIndexOf(str, strOff, strLen, subStr, 0, subStr.length());
+	}
+
+
+	/** Search for a sub string in a portion of a CharSequence and return the absolute index
+	 * where the last instance of the sub string begins, or -1 if the sub string does not exist in the search range.<br>
+	 * Long sub strings in long search ranges are searched using a reverse Boyer-Moore-Horspool skip table, which moves the search window
+	 * left so that the character at the start of the window lines up with the nearest matching character in the sub string,
+	 * other searches find each occurrence of the sub string's first character using the unrolled single character {@code lastIndexOf()}.
+	 * @param str the CharSequence to search
+	 * @param strOff the offset into {@code str} of the start of the range to search
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}
+	 * @return the index of the found sub string, from index 0, or -1 if the sub string could not be found,
+	 * an empty sub string matches at {@code strOff + strLen}
+	 */
+	public static int lastIndexOf(CharSequence str, int strOff, int strLen, CharSequence subStr, int subStrOff, int subStrLen) {
+		// if the sub string has a length of zero, it matches at the end of the search range, no comparison needed
+		if(subStrLen == 0) { return strOff + strLen; }
+		if(subStrLen > strLen) { return -1; }
+
+		char firstChar = subStr.charAt(subStrOff);
+		int maxK = subStrOff + subStrLen;
+		int i = strOff + strLen - subStrLen;
+
+		if(subStrLen >= SKIP_TABLE_MIN_SUB_STR_LENGTH && strLen >= SKIP_TABLE_MIN_STR_LENGTH) {
+			// shift distances are the distance from the start of the sub string to the nearest following char in the same bucket
+			int[] shift = new int[SKIP_TABLE_SIZE];
+			Arrays.fill(shift, subStrLen);
+			for(int k = subStrLen - 1; k > 0; k--) {
+				shift[subStr.charAt(subStrOff + k) & SKIP_TABLE_MASK] = k;
+			}
+
+			while(i >= strOff) {
+				char ch = str.charAt(i);
+				if(ch == firstChar) {
+					int j = i + 1;
+					for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+					}
+					if(j == i + subStrLen) {
+						return i;
+					}
+				}
+				i -= shift[ch & SKIP_TABLE_MASK];
+			}
+			return -1;
+		}
+
+		for(; i >= strOff; i--) {
+			// search for the last matching first character using the unrolled single character search
+			i = lastIndexOf(str, strOff, i - strOff + 1, firstChar);
+			if(i == -1) {
+				return -1;
+			}
+			// j and k have + 1 because the first character was already matched
+			int j = i + 1;
+			for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+			}
+			if(j == i + subStrLen) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/** Find all matches of a character in a portion of a CharSequence and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the CharSequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param ch the character to search for in {@code str}
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(CharSequence str, int strOff, int strLen, char ch, IntConsumer dst) {
+		int count = 0;
+		for(int i = strOff, size = strOff + strLen; i < size; i++) {
+			if(str.charAt(i) == ch) {
+				dst.accept(i);
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(CharSequence, int, int, char, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(CharSequence str, int strOff, int strLen, char ch) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, ch, dst);
+		return dst.toArray();
+	}
+
+
+	/** Find all matches of a sub string in a portion of a CharSequence and pass each match index to a consumer,
+	 * without boxing the indices
+	 * @param str the CharSequence to search
+	 * @param strOff the offset into {@code str} at which to start searching
+	 * @param strLen the number of chars to search starting at {@code strOff} in {@code str}
+	 * @param subStr the sub string to search for in {@code str}
+	 * @param subStrOff the offset into {@code subStr} at which the sub string starts
+	 * @param subStrLen the number of chars to search for starting at {@code subStrOff} in {@code subStr}, must be greater than 0
+	 * @param overlapping true to find every match, i.e. {@code "aa"} matches {@code "aaa"} at 0 and 1,
+	 * false to resume searching after the end of each match, the same as {@code StringSplit.countMatches()},
+	 * i.e. {@code "aa"} only matches {@code "aaa"} at 0
+	 * @param dst the consumer which is passed the absolute index of each match, in ascending order
+	 * @return the number of matches found
+	 */
+	public static int indexOfAll(CharSequence str, int strOff, int strLen, CharSequence subStr, int subStrOff, int subStrLen, boolean overlapping, IntConsumer dst) {
+		if(subStrLen == 0) {
+			throw new IllegalArgumentException("sub string cannot be empty");
+		}
+		int step = overlapping ? 1 : subStrLen;
+		int count = 0;
+		char firstChar = subStr.charAt(subStrOff);
+		int maxK = subStrOff + subStrLen;
+		int maxI = strOff + strLen - subStrLen;
+		int i = strOff;
+
+		while(i <= maxI) {
+			if(str.charAt(i) == firstChar) {
+				// j and k have + 1 because the first character was already matched
+				int j = i + 1;
+				for(int k = subStrOff + 1; k < maxK && str.charAt(j) == subStr.charAt(k); j++, k++) {
+				}
+				if(j == i + subStrLen) {
+					dst.accept(i);
+					count++;
+					i += step;
+					continue;
+				}
+			}
+			i++;
+		}
+		return count;
+	}
+
+
+	/**
+	 * @see #indexOfAll(CharSequence, int, int, CharSequence, int, int, boolean, IntConsumer)
+	 * @return the ascending indices of the matches
+	 */
+	public static int[] indexOfAll(CharSequence str, int strOff, int strLen, CharSequence subStr, boolean overlapping) {
+		IntArrayBuilder dst = new IntArrayBuilder();
+		indexOfAll(str, strOff, strLen, subStr, 0, subStr.length(), overlapping, dst);
+		return dst.toArray();
+	}
+
+
 	/** Search for the index of a supplementary character in an array of characters
 	 * @param str the array of characters to search
 	 * @param strOff the offset into {@code str} at which to start comparing characters
@@ -724,8 +1329,13 @@ public class StringIndex {
 	 * @param matchStrs the list of string to search for in {@code str}
 	 * @return the index of the found sub-string, in the range {@code [0, matchStrs.size()-1]},
 	 * or -1 if the sub-string could not be found
+	 * @see AhoCorasickMatcher#indexOfMatch(char[], int, int) to repeatedly search for the same, large set of sub-strings
 	 */
 	public static int indexOfMatch(char[] str, int strOff, Iterable<String> matchStrs) {
+		// for large numbers of patterns and long text, compile the patterns and search for all of them in a single pass
+		if(matchStrs instanceof Collection && isMultiPatternSearchFaster(str.length - strOff, (Collection<String>)matchStrs)) {
+			return new AhoCorasickMatcher((Collection<String>)matchStrs).indexOfMatch(str, strOff, str.length - strOff);
+		}
 		int matchStrIndex = -1;
 		if(matchStrs instanceof RandomAccess && matchStrs instanceof List) {
 			List<String> strList = (List<String>)matchStrs;
@@ -756,8 +1366,12 @@ public class StringIndex {
 	 * @param matchStrs the array of string to search for in {@code str}
 	 * @return the index of the found sub-string, in the range {@code [0, matchStrs.size()-1]},
 	 * or -1 if the sub-string could not be found
+	 * @see AhoCorasickMatcher#indexOfMatch(char[], int, int) to repeatedly search for the same, large set of sub-strings
 	 */
 	public static int indexOfMatch(char[] str, int strOff, String[] matchStrs) {
+		if(isMultiPatternSearchFaster(str.length - strOff, matchStrs)) {
+			return new AhoCorasickMatcher(matchStrs).indexOfMatch(str, strOff, str.length - strOff);
+		}
 		int matchStrIndex = -1;
 		for(int i = 0, size = matchStrs.length; i < size; i++) {
 			if(StringIndex.indexOf(str, strOff, matchStrs[i], 0) != -1) {
@@ -775,8 +1389,12 @@ public class StringIndex {
 	 * @param matchStrs the list of string to search for in {@code str}
 	 * @return the index of the found sub-string, in the range {@code [0, matchStrs.size()-1]},
 	 * or -1 if the sub-string could not be found
+	 * @see AhoCorasickMatcher#indexOfMatchNotPrefixedBy(char[], int, int, char[], int) to repeatedly search for the same, large set of sub-strings
 	 */
 	public static int indexOfMatchNotPrefixedBy(char[] str, int strOff, Iterable<String> matchStrs, char[] prefix, int prefixOff) {
+		if(matchStrs instanceof Collection && isMultiPatternSearchFaster(str.length - strOff, (Collection<String>)matchStrs)) {
+			return new AhoCorasickMatcher((Collection<String>)matchStrs).indexOfMatchNotPrefixedBy(str, strOff, str.length - strOff, prefix, prefixOff);
+		}
 		int matchStrIndex = -1;
 		if(matchStrs instanceof RandomAccess && matchStrs instanceof List) {
 			List<String> strList = (List<String>)matchStrs;
@@ -801,6 +1419,43 @@ public class StringIndex {
 	}
 
 
+	/** Check whether compiling a set of patterns into an {@link AhoCorasickMatcher} and searching a range of text once is likely
+	 * faster than searching the range once per pattern, which requires many patterns and text much longer than the patterns combined
+	 */
+	private static boolean isMultiPatternSearchFaster(int strLen, Collection<String> matchStrs) {
+		if(matchStrs.size() < MULTI_PATTERN_MIN_COUNT) {
+			return false;
+		}
+		long maxPatternsLen = strLen / MULTI_PATTERN_MIN_TEXT_RATIO;
+		long patternsLen = 0;
+		for(String matchStr : matchStrs) {
+			patternsLen += matchStr.length();
+			if(patternsLen > maxPatternsLen) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** @see #isMultiPatternSearchFaster(int, Collection)
+	 */
+	private static boolean isMultiPatternSearchFaster(int strLen, String[] matchStrs) {
+		if(matchStrs.length < MULTI_PATTERN_MIN_COUNT) {
+			return false;
+		}
+		long maxPatternsLen = strLen / MULTI_PATTERN_MIN_TEXT_RATIO;
+		long patternsLen = 0;
+		for(int i = 0, size = matchStrs.length; i < size; i++) {
+			patternsLen += matchStrs[i].length();
+			if(patternsLen > maxPatternsLen) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
 	/** Search for a sub string of characters in an array of characters and return the absolute index
 	 * where the sub string begins, or -1 if the sub string does not exist in the main array
 	 * @param str the char sequence to search
@@ -844,6 +1499,7 @@ public class StringIndex {
 	 * comparing characters to strings from {@code strs}
 	 * @return the {@code str} index of the string that starts with the contents of {@code startStr},
 	 * -1 if none of the strings start with {@code startStr}
+	 * @see SortedPrefixIndex
 	 */
 	public static int startsWithIndex(List<String> strs, CharSequence startStr, int startStrOffset) {
 		for(int i = 0, len = strs.size(); i < len; i++) {
@@ -0,0 +1,246 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** A {@link StringSearchOp} and search string compiled once and applied to every string in a large collection,
+ * i.e. to filter an in-memory table column, producing a {@link BitSet} or {@code int[]} of the indices of the matching strings.<br>
+ * {@link StringSearchOp#CONTAINS} searches use {@link String#indexOf(int)} for single character search strings
+ * and {@link String#indexOf(String)} otherwise.<br>
+ * Collections can be filtered on the calling thread or in parallel on a {@link ForkJoinPool}, parallel filters split the
+ * collection into ranges of at most {@code chunkLength} strings, aligned to multiples of 64 so that each range's results are
+ * written directly to separate words of the result bit set.<br>
+ * Null strings in a collection match only a null search string. A null search string matches only null strings
+ * (unlike {@link StringSearchOp#test(String, String)} which throws a {@code NullPointerException} for
+ * {@code CONTAINS}, {@code STARTS_WITH}, and {@code ENDS_WITH}).
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringSearchFilter {
+	/** the default maximum number of strings tested by one task */
+	public static final int DEFAULT_CHUNK_LENGTH = 1 << 14;
+
+	private final StringSearchOp op;
+	private final String searchStr;
+
+
+	/** Compile a search operation
+	 * @param op the search operation, see {@link StringSearchOp#test(String, String)}
+	 * @param searchStr the string passed as the second argument to {@code op}, may be null
+	 */
+	public StringSearchFilter(StringSearchOp op, String searchStr) {
+		if(op == null) {
+			throw new IllegalArgumentException("search op cannot be null");
+		}
+		this.op = op;
+		this.searchStr = searchStr;
+	}
+
+
+	public StringSearchOp getOp() {
+		return op;
+	}
+
+
+	public String getSearchStr() {
+		return searchStr;
+	}
+
+
+	/**
+	 * @return true if {@code str} matches this filter's search op and search string
+	 */
+	public boolean test(String str) {
+		String searchStr = this.searchStr;
+		if(str == null || searchStr == null) {
+			return str == searchStr;
+		}
+		switch(op) {
+		case EQUALS:
+			return str.equals(searchStr);
+		case CONTAINS:
+			return searchStr.length() == 1 ? str.indexOf(searchStr.charAt(0)) > -1 : str.indexOf(searchStr) > -1;
+		case STARTS_WITH:
+			return str.startsWith(searchStr);
+		case ENDS_WITH:
+			return str.endsWith(searchStr);
+		default:
+			throw new IllegalStateException("unknown search op " + op);
+		}
+	}
+
+
+	/**
+	 * @see #filter(List)
+	 */
+	public BitSet filter(String[] strs) {
+		return filter(Arrays.asList(strs));
+	}
+
+
+	/** Test each string in a list on the calling thread
+	 * @param strs the strings to test
+	 * @return a bit set with the index of each matching string set
+	 */
+	public BitSet filter(List<String> strs) {
+		return BitSet.valueOf(matchWords(strs, null, DEFAULT_CHUNK_LENGTH));
+	}
+
+
+	/**
+	 * @see #filter(List, ForkJoinPool, int)
+	 */
+	public BitSet filter(List<String> strs, ForkJoinPool pool) {
+		return filter(strs, pool, DEFAULT_CHUNK_LENGTH);
+	}
+
+
+	/** Test each string in a list in parallel
+	 * @param strs the strings to test
+	 * @param pool the pool to run filter tasks on
+	 * @param chunkLength the maximum number of strings tested by one task, must be greater than 0,
+	 * lists with {@code chunkLength} or fewer strings are filtered on the calling thread
+	 * @return a bit set with the index of each matching string set
+	 */
+	public BitSet filter(List<String> strs, ForkJoinPool pool, int chunkLength) {
+		return BitSet.valueOf(matchWords(strs, pool, chunkLength));
+	}
+
+
+	/**
+	 * @see #filterIndices(List)
+	 */
+	public int[] filterIndices(String[] strs) {
+		return filterIndices(Arrays.asList(strs));
+	}
+
+
+	/** Test each string in a list on the calling thread
+	 * @param strs the strings to test
+	 * @return the indices of the matching strings, in ascending order
+	 */
+	public int[] filterIndices(List<String> strs) {
+		return toIndices(matchWords(strs, null, DEFAULT_CHUNK_LENGTH));
+	}
+
+
+	/**
+	 * @see #filterIndices(List, ForkJoinPool, int)
+	 */
+	public int[] filterIndices(List<String> strs, ForkJoinPool pool) {
+		return filterIndices(strs, pool, DEFAULT_CHUNK_LENGTH);
+	}
+
+
+	/** Test each string in a list in parallel
+	 * @param strs the strings to test
+	 * @param pool the pool to run filter tasks on
+	 * @param chunkLength the maximum number of strings tested by one task, must be greater than 0,
+	 * lists with {@code chunkLength} or fewer strings are filtered on the calling thread
+	 * @return the indices of the matching strings, in ascending order
+	 */
+	public int[] filterIndices(List<String> strs, ForkJoinPool pool, int chunkLength) {
+		return toIndices(matchWords(strs, pool, chunkLength));
+	}
+
+
+	/**
+	 * @param pool the pool to run tasks on, null to run on the calling thread
+	 * @return the result bit set's words, bit {@code i % 64} of word {@code i / 64} is set if string {@code i} matches
+	 */
+	private long[] matchWords(List<String> strs, ForkJoinPool pool, int chunkLength) {
+		if(chunkLength < 1) {
+			throw new IllegalArgumentException("chunk length must be greater than 0: " + chunkLength);
+		}
+		// linked lists are copied once rather than traversed by index
+		if(!(strs instanceof RandomAccess)) {
+			strs = Arrays.asList(strs.toArray(new String[strs.size()]));
+		}
+		int size = strs.size();
+		long[] words = new long[(size + 63) >>> 6];
+		FilterTask task = new FilterTask(this, strs, words, chunkLength, 0, size);
+		if(pool == null || size <= chunkLength) {
+			task.filterRange();
+		}
+		else {
+			pool.invoke(task);
+		}
+		return words;
+	}
+
+
+	private static int[] toIndices(long[] words) {
+		int count = 0;
+		for(long word : words) {
+			count += Long.bitCount(word);
+		}
+		int[] res = new int[count];
+		int n = 0;
+		for(int i = 0; i < words.length; i++) {
+			for(long word = words[i]; word != 0; word &= word - 1) {
+				res[n++] = (i << 6) + Long.numberOfTrailingZeros(word);
+			}
+		}
+		return res;
+	}
+
+
+
+
+	/** Tests the strings in {@code [off, end)}, {@code off} is always a multiple of 64 so that no two tasks write to the same word
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	private static class FilterTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final StringSearchFilter filter;
+		private final List<String> strs;
+		private final long[] words;
+		private final int chunkLength;
+		private final int off;
+		private final int end;
+
+
+		FilterTask(StringSearchFilter filter, List<String> strs, long[] words, int chunkLength, int off, int end) {
+			this.filter = filter;
+			this.strs = strs;
+			this.words = words;
+			this.chunkLength = chunkLength;
+			this.off = off;
+			this.end = end;
+		}
+
+
+		@Override
+		protected void compute() {
+			// split at a multiple of 64 so each half writes to separate words
+			int mid = ((off + end) >>> 1) & ~63;
+			if(end - off <= chunkLength || mid <= off) {
+				filterRange();
+				return;
+			}
+			FilterTask right = new FilterTask(filter, strs, words, chunkLength, mid, end);
+			right.fork();
+			new FilterTask(filter, strs, words, chunkLength, off, mid).compute();
+			right.join();
+		}
+
+
+		void filterRange() {
+			StringSearchFilter filter = this.filter;
+			List<String> strs = this.strs;
+			long[] words = this.words;
+			for(int i = off; i < end; i++) {
+				if(filter.test(strs.get(i))) {
+					words[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+	}
+
+}
@@ -1,6 +1,7 @@
 package twg2.text.stringSearch;
 
 /**
+ * @see StringSearchFilter
  * @author TeamworkGuy2
  * @since 2016-08-07
  */
@@ -0,0 +1,267 @@
+package twg2.text.stringSearch;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/** An immutable, compiled set of sub-strings which checks whether a string contains all, any, or how many of the sub-strings
+ * in a single pass over the string, the compiled equivalent of {@link StringCompare#containsAll(String, String[])},
+ * {@link StringCompare#containsAny(String, String[])}, and {@link StringCompare#containsCount(String, String[])}.<br>
+ * Compiled once and reused, each call runs in time proportional to the length of the string regardless of the number of
+ * sub-strings, compared to one {@link String#indexOf(String)} call per sub-string, and stops as soon as the result is known.<br>
+ * In ignore case mode each character is folded through {@link StringIgnoreCase#fold(char)} while searching, so no upper or
+ * lower case copy of the string is created and results match {@link StringCompare#containsAllIgnoreCase(String, String[])}.<br>
+ * Sub-string indices refer to the order of the sub-strings passed to the constructor, duplicate sub-strings are counted separately
+ * and empty sub-strings are contained in every string, the same as {@code StringCompare}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SubstringSet {
+	private final AhoCorasickMatcher matcher;
+	private final boolean ignoreCase;
+	private final int count;
+
+
+	/**
+	 * @see #SubstringSet(Collection, boolean)
+	 */
+	public SubstringSet(String... subStrs) {
+		this(Arrays.asList(subStrs), false);
+	}
+
+
+	/** Compile a set of sub-strings
+	 * @param subStrs the sub-strings to search for, may not contain nulls
+	 * @param ignoreCase true to ignore case the same as {@link StringIgnoreCase}, false to match exactly
+	 */
+	public SubstringSet(Collection<String> subStrs, boolean ignoreCase) {
+		String[] patterns = subStrs.toArray(new String[subStrs.size()]);
+		if(ignoreCase) {
+			for(int i = 0; i < patterns.length; i++) {
+				patterns[i] = fold(patterns[i]);
+			}
+		}
+		this.matcher = new AhoCorasickMatcher(patterns);
+		this.ignoreCase = ignoreCase;
+		this.count = patterns.length;
+	}
+
+
+	/**
+	 * @return the number of sub-strings in this set
+	 */
+	public int size() {
+		return count;
+	}
+
+
+	/**
+	 * @return true if this set ignores case
+	 */
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+
+	/**
+	 * @return true if {@code src} contains all of the sub-strings in this set, false if it does not or if this set is empty
+	 */
+	public boolean containsAll(CharSequence src) {
+		return count > 0 && search(src, 0, src.length(), count, null) == count;
+	}
+
+
+	/**
+	 * @return true if {@code src} contains any of the sub-strings in this set
+	 */
+	public boolean containsAny(CharSequence src) {
+		return search(src, 0, src.length(), 1, null) > 0;
+	}
+
+
+	/**
+	 * @return the number of sub-strings in this set which {@code src} contains
+	 */
+	public int containsCount(CharSequence src) {
+		return search(src, 0, src.length(), count, null);
+	}
+
+
+	/**
+	 * @see #containsWhich(CharSequence, int, int, BitSet)
+	 */
+	public BitSet containsWhich(CharSequence src) {
+		BitSet dst = new BitSet(count);
+		search(src, 0, src.length(), count, dst);
+		return dst;
+	}
+
+
+	/**
+	 * @see #containsWhich(CharSequence, int, int, BitSet)
+	 */
+	public int containsWhich(char[] src, int srcOff, int srcLen, BitSet dst) {
+		return search(CharBuffer.wrap(src), srcOff, srcLen, count, dst);
+	}
+
+
+	/** Find which of the sub-strings in this set a portion of a char sequence contains
+	 * @param src the char sequence to search
+	 * @param srcOff the offset into {@code src} at which to start searching
+	 * @param srcLen the number of chars to search starting at {@code srcOff} in {@code src}
+	 * @param dst the bit set to set the index of each contained sub-string in, existing bits are not cleared
+	 * @return the number of sub-strings in this set which the {@code [srcOff, srcOff + srcLen)} portion of {@code src} contains
+	 * @see #searcher() to check many strings without allocating scratch state for each call
+	 */
+	public int containsWhich(CharSequence src, int srcOff, int srcLen, BitSet dst) {
+		return search(src, srcOff, srcLen, count, dst);
+	}
+
+
+	/** Create a searcher which checks strings against this set using scratch state allocated once and reused for each call,
+	 * each of the {@code contains...()} methods of this class otherwise allocates a bit array with one bit per matcher state
+	 * @return a new searcher for this set, which is not thread safe
+	 */
+	public Searcher searcher() {
+		return new Searcher(this);
+	}
+
+
+	private int search(CharSequence src, int srcOff, int srcLen, int stopAt, BitSet dst) {
+		return (count == 0 ? 0 : search(src, srcOff, srcLen, stopAt, dst, newVisited()));
+	}
+
+
+	private long[] newVisited() {
+		return new long[(matcher.getStateCount() + 63) >>> 6];
+	}
+
+
+	/** Search until {@code stopAt} sub-strings have been found or the end of the range is reached
+	 * @param visited a zeroed bit array with one bit per matcher state
+	 * @return the number of sub-strings found
+	 */
+	private int search(CharSequence src, int srcOff, int srcLen, int stopAt, BitSet dst, long[] visited) {
+		AhoCorasickMatcher matcher = this.matcher;
+		boolean ignoreCase = this.ignoreCase;
+		// 'visited' tracks match states already reported, a visited state's entire chain of shorter matches has also been reported
+		int found = 0;
+		int state = matcher.getStartState();
+		int i = srcOff;
+		int end = srcOff + srcLen;
+		while(true) {
+			int s = matcher.getMatchState(state);
+			if(s != -1 && (visited[s >>> 6] & (1L << s)) == 0) {
+				for(; s != -1 && (visited[s >>> 6] & (1L << s)) == 0; s = matcher.getNextMatchState(s)) {
+					visited[s >>> 6] |= (1L << s);
+					for(int p = matcher.getMatch(s); p != -1; p = matcher.getNextIdenticalPattern(p)) {
+						found++;
+						if(dst != null) {
+							dst.set(p);
+						}
+					}
+				}
+				if(found >= stopAt) {
+					return found;
+				}
+			}
+			if(i >= end) {
+				break;
+			}
+			char ch = src.charAt(i);
+			i++;
+			if(ignoreCase) {
+				ch = StringIgnoreCase.fold(ch);
+			}
+			state = matcher.nextState(state, ch);
+		}
+		return found;
+	}
+
+
+	private static String fold(String str) {
+		char[] chars = null;
+		for(int i = 0, size = str.length(); i < size; i++) {
+			char ch = str.charAt(i);
+			char folded = StringIgnoreCase.fold(ch);
+			if(folded != ch) {
+				if(chars == null) {
+					chars = str.toCharArray();
+				}
+				chars[i] = folded;
+			}
+		}
+		return chars != null ? new String(chars) : str;
+	}
+
+
+
+
+	/** Checks strings against a {@link SubstringSet}, reusing the same scratch state for each call.
+	 * Create one per thread with {@link SubstringSet#searcher()} to check many strings without allocating.
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	public static class Searcher {
+		private final SubstringSet set;
+		private final long[] visited;
+
+
+		Searcher(SubstringSet set) {
+			this.set = set;
+			this.visited = set.newVisited();
+		}
+
+
+		/**
+		 * @return the set of sub-strings this searcher checks for
+		 */
+		public SubstringSet getSet() {
+			return set;
+		}
+
+
+		/**
+		 * @see SubstringSet#containsAll(CharSequence)
+		 */
+		public boolean containsAll(CharSequence src) {
+			return set.count > 0 && search(src, 0, src.length(), set.count, null) == set.count;
+		}
+
+
+		/**
+		 * @see SubstringSet#containsAny(CharSequence)
+		 */
+		public boolean containsAny(CharSequence src) {
+			return search(src, 0, src.length(), 1, null) > 0;
+		}
+
+
+		/**
+		 * @see SubstringSet#containsCount(CharSequence)
+		 */
+		public int containsCount(CharSequence src) {
+			return search(src, 0, src.length(), set.count, null);
+		}
+
+
+		/**
+		 * @see SubstringSet#containsWhich(CharSequence, int, int, BitSet)
+		 */
+		public int containsWhich(CharSequence src, int srcOff, int srcLen, BitSet dst) {
+			return search(src, srcOff, srcLen, set.count, dst);
+		}
+
+
+		private int search(CharSequence src, int srcOff, int srcLen, int stopAt, BitSet dst) {
+			if(set.count == 0) {
+				return 0;
+			}
+			Arrays.fill(visited, 0);
+			return set.search(src, srcOff, srcLen, stopAt, dst, visited);
+		}
+
+	}
+
+}
@@ -0,0 +1,440 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+
+import twg2.text.stringUtils.StringSplit;
+
+/** An immutable suffix array over a static text for answering many sub-string queries against the same text,
+ * a build-once, query-many alternative to repeated {@link StringIndex#indexOf(char[], int, int, char[], int, int)} and
+ * {@link StringSplit#countMatches(char[], int, int, char[], int, int)} calls.<br>
+ * The suffix array is built in linear time using the SA-IS (suffix array by induced sorting) algorithm. A query binary searches
+ * the suffix array for the range of suffixes which start with the pattern, so it runs in O(m log n) time for a pattern of length m
+ * plus time proportional to the number of matches it returns.<br>
+ * The LCP (longest common prefix) array is only built the first time it is needed, by {@link #getLcpArray()}
+ * or {@link #longestRepeatedSubstring()}.<br>
+ * Match counts and indices include overlapping matches, except {@link #countMatches(CharSequence)} which uses the same
+ * non-overlapping semantics as {@code StringSplit.countMatches()}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SuffixArrayIndex {
+	/** the number of suffix array entries summarized by each {@link #blockMin} entry */
+	private static final int BLOCK_SHIFT = 6;
+
+	private final char[] text;
+	/** the start index of each suffix of {@link #text}, in sorted order */
+	private final int[] sa;
+	/** the minimum suffix start index in each block of {@code 1 << BLOCK_SHIFT} suffix array entries */
+	private final int[] blockMin;
+	/** lazily built, {@code lcp[i]} is the length of the longest common prefix of suffixes {@code sa[i]} and {@code sa[i + 1]} */
+	private volatile int[] lcp;
+
+
+	/**
+	 * @see #SuffixArrayIndex(char[], int, int)
+	 */
+	public SuffixArrayIndex(String text) {
+		this(text.toCharArray(), 0, text.length());
+	}
+
+
+	/** Build a suffix array over a portion of a char array, the characters are copied,
+	 * the indices returned by queries are relative to {@code off}
+	 * @param text the text to index
+	 * @param off the offset into {@code text} at which the text to index starts
+	 * @param len the number of characters to index
+	 */
+	public SuffixArrayIndex(char[] text, int off, int len) {
+		char[] chars = Arrays.copyOfRange(text, off, off + len);
+
+		// rank the distinct chars so the alphabet (and SA-IS bucket arrays) is no larger than necessary
+		int[] charRank = new int[Character.MAX_VALUE + 1];
+		for(int i = 0; i < len; i++) {
+			charRank[chars[i]] = 1;
+		}
+		int upper = -1;
+		for(int ch = 0; ch <= Character.MAX_VALUE; ch++) {
+			if(charRank[ch] != 0) {
+				charRank[ch] = ++upper;
+			}
+		}
+		int[] s = new int[len];
+		for(int i = 0; i < len; i++) {
+			s[i] = charRank[chars[i]];
+		}
+
+		this.text = chars;
+		this.sa = saIs(s, Math.max(upper, 0));
+		int[] blockMin = new int[(len + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT];
+		Arrays.fill(blockMin, Integer.MAX_VALUE);
+		for(int i = 0; i < len; i++) {
+			int b = i >>> BLOCK_SHIFT;
+			if(sa[i] < blockMin[b]) {
+				blockMin[b] = sa[i];
+			}
+		}
+		this.blockMin = blockMin;
+	}
+
+
+	/**
+	 * @return the number of characters in the indexed text
+	 */
+	public int length() {
+		return text.length;
+	}
+
+
+	/**
+	 * @return a copy of the suffix array, the start index of each suffix of the text in sorted order
+	 */
+	public int[] getSuffixArray() {
+		return sa.clone();
+	}
+
+
+	/**
+	 * @return a copy of the LCP array, element {@code i} is the length of the longest common prefix of the suffixes at
+	 * suffix array indices {@code i} and {@code i + 1}, built the first time this or {@link #longestRepeatedSubstring()} is called
+	 */
+	public int[] getLcpArray() {
+		return lcp().clone();
+	}
+
+
+	/**
+	 * @return true if the text contains {@code pattern}
+	 */
+	public boolean contains(CharSequence pattern) {
+		return count(pattern) > 0;
+	}
+
+
+	/**
+	 * @return the number of (possibly overlapping) occurrences of {@code pattern} in the text
+	 */
+	public int count(CharSequence pattern) {
+		checkPattern(pattern);
+		int lo = lowerBound(pattern);
+		return upperBound(pattern, lo) - lo;
+	}
+
+
+	/**
+	 * @return the number of non-overlapping occurrences of {@code pattern} in the text, counted left to right,
+	 * the same as {@link StringSplit#countMatches(char[], int, int, char[], int, int)}
+	 */
+	public int countMatches(CharSequence pattern) {
+		int[] idxs = indexOfAll(pattern);
+		int patternLen = pattern.length();
+		int count = 0;
+		int nextAllowed = 0;
+		for(int idx : idxs) {
+			if(idx >= nextAllowed) {
+				count++;
+				nextAllowed = idx + patternLen;
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * @return the index of the first occurrence of {@code pattern} in the text, or -1 if the text does not contain it
+	 */
+	public int indexOf(CharSequence pattern) {
+		checkPattern(pattern);
+		int lo = lowerBound(pattern);
+		int hi = upperBound(pattern, lo);
+		if(lo == hi) {
+			return -1;
+		}
+		// scan the partial blocks at either end of the range, and the precomputed minimums of the whole blocks in between
+		int[] sa = this.sa;
+		int min = Integer.MAX_VALUE;
+		int firstFullBlock = (lo + (1 << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT;
+		int lastFullBlock = hi >>> BLOCK_SHIFT;
+		if(firstFullBlock >= lastFullBlock) {
+			for(int i = lo; i < hi; i++) {
+				min = Math.min(min, sa[i]);
+			}
+			return min;
+		}
+		for(int i = lo, end = firstFullBlock << BLOCK_SHIFT; i < end; i++) {
+			min = Math.min(min, sa[i]);
+		}
+		for(int b = firstFullBlock; b < lastFullBlock; b++) {
+			min = Math.min(min, blockMin[b]);
+		}
+		for(int i = lastFullBlock << BLOCK_SHIFT; i < hi; i++) {
+			min = Math.min(min, sa[i]);
+		}
+		return min;
+	}
+
+
+	/**
+	 * @return the ascending indices of all (possibly overlapping) occurrences of {@code pattern} in the text
+	 */
+	public int[] indexOfAll(CharSequence pattern) {
+		checkPattern(pattern);
+		int lo = lowerBound(pattern);
+		int hi = upperBound(pattern, lo);
+		int[] res = Arrays.copyOfRange(sa, lo, hi);
+		Arrays.sort(res);
+		return res;
+	}
+
+
+	/**
+	 * @return the longest sub-string which occurs at least twice in the text (the occurrences may overlap),
+	 * the first such sub-string in suffix order if there is more than one, or an empty string if no character repeats
+	 */
+	public String longestRepeatedSubstring() {
+		int[] lcp = lcp();
+		int best = -1;
+		for(int i = 0; i < lcp.length; i++) {
+			if(best == -1 || lcp[i] > lcp[best]) {
+				best = i;
+			}
+		}
+		return best == -1 || lcp[best] == 0 ? "" : new String(text, sa[best], lcp[best]);
+	}
+
+
+	/**
+	 * @return the first suffix array index whose suffix is greater than or equal to {@code pattern}
+	 */
+	private int lowerBound(CharSequence pattern) {
+		int lo = 0;
+		int hi = sa.length;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(compareSuffix(sa[mid], pattern) < 0) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+
+	/**
+	 * @return the first suffix array index at or after {@code lo} whose suffix does not start with {@code pattern}
+	 */
+	private int upperBound(CharSequence pattern, int lo) {
+		int hi = sa.length;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(compareSuffix(sa[mid], pattern) <= 0) {
+				lo = mid + 1;
+			}
+			else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+
+	/**
+	 * @return 0 if the suffix starts with {@code pattern}, less than 0 if the suffix is less than {@code pattern},
+	 * greater than 0 if the suffix is greater than {@code pattern}
+	 */
+	private int compareSuffix(int suffix, CharSequence pattern) {
+		char[] text = this.text;
+		int patternLen = pattern.length();
+		int len = Math.min(text.length - suffix, patternLen);
+		for(int i = 0; i < len; i++) {
+			char c1 = text[suffix + i];
+			char c2 = pattern.charAt(i);
+			if(c1 != c2) {
+				return c1 - c2;
+			}
+		}
+		return len < patternLen ? -1 : 0;
+	}
+
+
+	private int[] lcp() {
+		int[] lcp = this.lcp;
+		if(lcp == null) {
+			this.lcp = lcp = kasai(text, sa);
+		}
+		return lcp;
+	}
+
+
+	private static void checkPattern(CharSequence pattern) {
+		if(pattern.length() == 0) {
+			throw new IllegalArgumentException("pattern cannot be empty");
+		}
+	}
+
+
+	/** Build the LCP array in linear time using Kasai's algorithm
+	 */
+	private static int[] kasai(char[] text, int[] sa) {
+		int n = sa.length;
+		if(n == 0) {
+			return new int[0];
+		}
+		int[] rank = new int[n];
+		for(int i = 0; i < n; i++) {
+			rank[sa[i]] = i;
+		}
+		int[] lcp = new int[n - 1];
+		int h = 0;
+		for(int i = 0; i < n; i++) {
+			if(h > 0) {
+				h--;
+			}
+			if(rank[i] == 0) {
+				continue;
+			}
+			int j = sa[rank[i] - 1];
+			while(j + h < n && i + h < n && text[j + h] == text[i + h]) {
+				h++;
+			}
+			lcp[rank[i] - 1] = h;
+		}
+		return lcp;
+	}
+
+
+	/** Build a suffix array using SA-IS (Nong, Zhang, and Chan, 2009)
+	 * @param s the string, each value in {@code [0, upper]}
+	 * @param upper the maximum value in {@code s}
+	 * @return the suffix array of {@code s}
+	 */
+	private static int[] saIs(int[] s, int upper) {
+		int n = s.length;
+		if(n == 0) {
+			return new int[0];
+		}
+		if(n == 1) {
+			return new int[] { 0 };
+		}
+		if(n == 2) {
+			return s[0] < s[1] ? new int[] { 0, 1 } : new int[] { 1, 0 };
+		}
+
+		int[] sa = new int[n];
+		// true if the suffix at each index is S-type (less than the following suffix), false if L-type
+		boolean[] ls = new boolean[n];
+		for(int i = n - 2; i >= 0; i--) {
+			ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+		}
+		// the start of each character's S-type and L-type bucket
+		int[] sumL = new int[upper + 1];
+		int[] sumS = new int[upper + 1];
+		for(int i = 0; i < n; i++) {
+			if(!ls[i]) {
+				sumS[s[i]]++;
+			}
+			else if(s[i] + 1 <= upper) {
+				sumL[s[i] + 1]++;
+			}
+		}
+		for(int i = 0; i <= upper; i++) {
+			sumS[i] += sumL[i];
+			if(i < upper) {
+				sumL[i + 1] += sumS[i];
+			}
+		}
+
+		int[] lmsMap = new int[n + 1];
+		Arrays.fill(lmsMap, -1);
+		int m = 0;
+		for(int i = 1; i < n; i++) {
+			if(!ls[i - 1] && ls[i]) {
+				lmsMap[i] = m++;
+			}
+		}
+		int[] lms = new int[m];
+		for(int i = 1, k = 0; i < n; i++) {
+			if(!ls[i - 1] && ls[i]) {
+				lms[k++] = i;
+			}
+		}
+
+		int[] buf = new int[upper + 1];
+		induce(s, sa, ls, sumL, sumS, buf, lms);
+
+		if(m > 0) {
+			// name the LMS substrings in sorted order, equal substrings get the same name
+			int[] sortedLms = new int[m];
+			for(int i = 0, k = 0; i < n; i++) {
+				if(lmsMap[sa[i]] != -1) {
+					sortedLms[k++] = sa[i];
+				}
+			}
+			int[] recS = new int[m];
+			int recUpper = 0;
+			recS[lmsMap[sortedLms[0]]] = 0;
+			for(int i = 1; i < m; i++) {
+				int l = sortedLms[i - 1];
+				int r = sortedLms[i];
+				int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+				int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+				boolean same = true;
+				if(endL - l != endR - r) {
+					same = false;
+				}
+				else {
+					while(l < endL && s[l] == s[r]) {
+						l++;
+						r++;
+					}
+					if(l == n || s[l] != s[r]) {
+						same = false;
+					}
+				}
+				if(!same) {
+					recUpper++;
+				}
+				recS[lmsMap[sortedLms[i]]] = recUpper;
+			}
+
+			// sort the LMS suffixes by recursively building the suffix array of the names, then induce the rest
+			int[] recSa = saIs(recS, recUpper);
+			for(int i = 0; i < m; i++) {
+				sortedLms[i] = lms[recSa[i]];
+			}
+			induce(s, sa, ls, sumL, sumS, buf, sortedLms);
+		}
+		return sa;
+	}
+
+
+	/** Induce the order of all suffixes from the order of the LMS suffixes
+	 */
+	private static void induce(int[] s, int[] sa, boolean[] ls, int[] sumL, int[] sumS, int[] buf, int[] lms) {
+		int n = s.length;
+		Arrays.fill(sa, -1);
+		System.arraycopy(sumS, 0, buf, 0, buf.length);
+		for(int d : lms) {
+			if(d != n) {
+				sa[buf[s[d]]++] = d;
+			}
+		}
+		System.arraycopy(sumL, 0, buf, 0, buf.length);
+		sa[buf[s[n - 1]]++] = n - 1;
+		for(int i = 0; i < n; i++) {
+			int v = sa[i];
+			if(v >= 1 && !ls[v - 1]) {
+				sa[buf[s[v - 1]]++] = v - 1;
+			}
+		}
+		System.arraycopy(sumL, 0, buf, 0, buf.length);
+		for(int i = n - 1; i >= 0; i--) {
+			int v = sa[i];
+			if(v >= 1 && ls[v - 1]) {
+				sa[--buf[s[v - 1] + 1]] = v - 1;
+			}
+		}
+	}
+
+}
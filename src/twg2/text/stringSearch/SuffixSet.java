@@ -0,0 +1,92 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/** An immutable, compiled set of suffixes which checks which suffixes a string ends with, the compiled equivalent of
+ * {@link StringCompare#endsWithAny(String, String...)}.<br>
+ * The reversed suffixes are compiled into a {@link RadixTrie} once, each lookup walks the trie backward from the end
+ * of the string so it runs in time proportional to the length of the longest matching suffix, regardless of the number
+ * of suffixes, and does not allocate.<br>
+ * Suffix indices refer to the order of the suffixes passed to the constructor, if a suffix appears more than once
+ * only the index of its first occurrence is reported. An empty suffix matches every string.
+ * @see PrefixSet
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SuffixSet extends AffixSet {
+
+	/**
+	 * @see #SuffixSet(Collection)
+	 */
+	public SuffixSet(String... suffixes) {
+		this(Arrays.asList(suffixes));
+	}
+
+
+	/** Compile a set of suffixes
+	 * @param suffixes the suffixes to compare to the end of strings, may not contain nulls
+	 */
+	public SuffixSet(Collection<String> suffixes) {
+		super(suffixes, true, "suffix");
+	}
+
+
+	/**
+	 * @param idx the index of the suffix
+	 * @return the suffix at {@code idx}
+	 */
+	public String getSuffix(int idx) {
+		return get(idx);
+	}
+
+
+	/**
+	 * @return true if {@code str} ends with any of the suffixes in this set
+	 */
+	public boolean endsWithAny(CharSequence str) {
+		return matchesAny(str);
+	}
+
+
+	/**
+	 * @see #longestMatch(CharSequence, int, int)
+	 */
+	public int longestMatch(CharSequence str) {
+		return longestMatch(str, 0, str.length());
+	}
+
+
+	/** Find the longest suffix in this set which a portion of a char sequence ends with
+	 * @param str the char sequence to compare suffixes to
+	 * @param strOff the offset into {@code str} at which the portion starts
+	 * @param strLen the number of chars in the portion of {@code str} starting at {@code strOff}
+	 * @return the index of the longest suffix which the {@code [strOff, strOff + strLen)} portion of {@code str} ends with,
+	 * or -1 if it does not end with any of the suffixes
+	 */
+	public int longestMatch(CharSequence str, int strOff, int strLen) {
+		return longestMatchIdx(str, strOff, strLen);
+	}
+
+
+	/**
+	 * @see #forEachMatch(CharSequence, int, int, IntConsumer)
+	 */
+	public int forEachMatch(CharSequence str, IntConsumer dst) {
+		return forEachMatch(str, 0, str.length(), dst);
+	}
+
+
+	/** Find all of the suffixes in this set which a portion of a char sequence ends with
+	 * @param str the char sequence to compare suffixes to
+	 * @param strOff the offset into {@code str} at which the portion starts
+	 * @param strLen the number of chars in the portion of {@code str} starting at {@code strOff}
+	 * @param dst passed the index of each matching suffix, from shortest to longest
+	 * @return the number of matching suffixes
+	 */
+	public int forEachMatch(CharSequence str, int strOff, int strLen, IntConsumer dst) {
+		return forEachMatchIdx(str, strOff, strLen, dst);
+	}
+
+}
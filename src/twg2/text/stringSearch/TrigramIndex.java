@@ -0,0 +1,396 @@
+package twg2.text.stringSearch;
+
+import java.util.Arrays;
+import java.util.List;
+
+/** An append-only trigram (3 character n-gram) inverted index over a collection of strings (rows) for repeated
+ * sub-string searches, i.e. {@link StringSearchOp#CONTAINS} or {@link StringCompare#containsAny(String, String[])} queries
+ * against the same rows.<br>
+ * Each distinct trigram maps to a posting list of the ids of the rows containing it. A search intersects the posting lists
+ * of the query's trigrams to find candidate rows, starting with the shortest list, and then verifies each candidate with
+ * {@link StringIndex#indexOf(String, int, int, String)}, so only rows containing every trigram of the query are searched.<br>
+ * Posting lists are stored as variable length encoded deltas between ascending row ids in primitive {@code byte[]}s,
+ * trigrams are mapped to posting lists by an open addressing hash table of {@code long} keys, nothing is boxed.<br>
+ * Rows can be appended at any time, existing rows cannot be changed or removed. Row ids are assigned in the order rows are added,
+ * starting at 0. Null rows are assigned a row id but never match.
+ * Queries shorter than 3 characters have no trigrams, so they are verified against every row.<br>
+ * Instances are not thread safe while rows are being added, concurrent searches are safe once rows are no longer added.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class TrigramIndex {
+	private static final long EMPTY_KEY = -1;
+
+	private String[] rows;
+	private int rowCount;
+
+	/** hash table of trigram keys, {@link #EMPTY_KEY} marks an empty slot */
+	private long[] keys;
+	/** the posting list index of each hash table slot */
+	private int[] keyPostings;
+	private int trigramCount;
+
+	/** the variable length encoded row id deltas of each posting list */
+	private byte[][] postings;
+	/** the number of bytes used in each {@link #postings} array */
+	private int[] postingBytes;
+	/** the number of row ids in each posting list */
+	private int[] postingCount;
+	/** the last row id added to each posting list */
+	private int[] postingLastRow;
+
+
+	/** Create an empty index
+	 */
+	public TrigramIndex() {
+		this.rows = new String[16];
+		this.keys = new long[64];
+		Arrays.fill(this.keys, EMPTY_KEY);
+		this.keyPostings = new int[64];
+		this.postings = new byte[32][];
+		this.postingBytes = new int[32];
+		this.postingCount = new int[32];
+		this.postingLastRow = new int[32];
+	}
+
+
+	/** Create an index of rows
+	 * @param rows the initial rows, with row ids equal to their list indices
+	 */
+	public TrigramIndex(List<String> rows) {
+		this();
+		addAll(rows);
+	}
+
+
+	/**
+	 * @return the number of rows in this index, including null rows
+	 */
+	public int size() {
+		return rowCount;
+	}
+
+
+	/**
+	 * @param rowId the row id
+	 * @return the row with id {@code rowId}
+	 */
+	public String getRow(int rowId) {
+		if(rowId < 0 || rowId >= rowCount) {
+			throw new IndexOutOfBoundsException("row id " + rowId + ", size " + rowCount);
+		}
+		return rows[rowId];
+	}
+
+
+	/**
+	 * @return the number of distinct trigrams in this index
+	 */
+	public int getTrigramCount() {
+		return trigramCount;
+	}
+
+
+	/** Append rows to this index
+	 * @param rows the rows to add
+	 */
+	public void addAll(List<String> rows) {
+		for(int i = 0, size = rows.size(); i < size; i++) {
+			add(rows.get(i));
+		}
+	}
+
+
+	/** Append a row to this index
+	 * @param row the row to add, may be null
+	 * @return the row's id
+	 */
+	public int add(String row) {
+		int rowId = rowCount;
+		if(rowId == rows.length) {
+			rows = Arrays.copyOf(rows, rowId * 2);
+		}
+		rows[rowId] = row;
+		rowCount++;
+
+		if(row != null) {
+			for(int i = 0, maxI = row.length() - 3; i <= maxI; i++) {
+				int posting = getOrAddPosting(trigram(row, i));
+				// a row's id is only added to a posting list once, even if the row contains the trigram more than once
+				if(postingLastRow[posting] != rowId) {
+					appendRowId(posting, rowId);
+				}
+			}
+		}
+		return rowId;
+	}
+
+
+	/** Find the rows which contain all of the trigrams in a sub-string, a superset of the rows which contain the sub-string
+	 * @param subStr the sub-string
+	 * @return the ascending ids of the candidate rows, every non-null row if {@code subStr} is shorter than 3 characters
+	 */
+	public int[] candidates(CharSequence subStr) {
+		int subStrLen = subStr.length();
+		if(subStrLen < 3) {
+			int[] res = new int[rowCount];
+			int count = 0;
+			for(int i = 0; i < rowCount; i++) {
+				if(rows[i] != null) {
+					res[count++] = i;
+				}
+			}
+			return count < res.length ? Arrays.copyOf(res, count) : res;
+		}
+
+		int trigramCnt = subStrLen - 2;
+		int[] lists = new int[trigramCnt];
+		int listCount = 0;
+		for(int i = 0; i < trigramCnt; i++) {
+			int posting = findPosting(trigram(subStr, i));
+			if(posting == -1) {
+				return new int[0];
+			}
+			lists[listCount++] = posting;
+		}
+
+		// start with the shortest posting list, the candidates can only shrink from there
+		int shortest = 0;
+		for(int i = 1; i < listCount; i++) {
+			if(postingCount[lists[i]] < postingCount[lists[shortest]]) {
+				shortest = i;
+			}
+		}
+		int[] res = decode(lists[shortest]);
+		int count = res.length;
+		for(int i = 0; i < listCount && count > 0; i++) {
+			int posting = lists[i];
+			// repeated trigrams in the query refer to the same posting list
+			if(posting != lists[shortest] && indexOf(lists, 0, i, posting) == -1) {
+				count = intersect(res, count, posting);
+			}
+		}
+		return count < res.length ? Arrays.copyOf(res, count) : res;
+	}
+
+
+	/** Find the rows which contain a sub-string
+	 * @param subStr the sub-string to search for
+	 * @return the ascending ids of the rows containing {@code subStr}
+	 */
+	public int[] search(String subStr) {
+		int[] res = candidates(subStr);
+		int count = 0;
+		for(int i = 0; i < res.length; i++) {
+			String row = rows[res[i]];
+			if(StringIndex.indexOf(row, 0, row.length(), subStr) > -1) {
+				res[count++] = res[i];
+			}
+		}
+		return count < res.length ? Arrays.copyOf(res, count) : res;
+	}
+
+
+	/** Find the rows which contain any of a set of sub-strings
+	 * @param subStrs the sub-strings to search for
+	 * @return the ascending ids of the rows containing at least one of the {@code subStrs}
+	 */
+	public int[] searchAny(String... subStrs) {
+		int[] res = new int[0];
+		for(String subStr : subStrs) {
+			res = union(res, search(subStr));
+		}
+		return res;
+	}
+
+
+	private static long trigram(CharSequence str, int off) {
+		return ((long)str.charAt(off) << 32) | ((long)str.charAt(off + 1) << 16) | str.charAt(off + 2);
+	}
+
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+
+
+	/**
+	 * @return the posting list index of the trigram, or -1 if no row contains it
+	 */
+	private int findPosting(long key) {
+		long[] keys = this.keys;
+		int mask = keys.length - 1;
+		for(int i = hash(key) & mask; ; i = (i + 1) & mask) {
+			long k = keys[i];
+			if(k == key) {
+				return keyPostings[i];
+			}
+			if(k == EMPTY_KEY) {
+				return -1;
+			}
+		}
+	}
+
+
+	private int getOrAddPosting(long key) {
+		long[] keys = this.keys;
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		for(; keys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+			if(keys[i] == key) {
+				return keyPostings[i];
+			}
+		}
+
+		int posting = trigramCount++;
+		if(posting == postings.length) {
+			int newLen = posting * 2;
+			postings = Arrays.copyOf(postings, newLen);
+			postingBytes = Arrays.copyOf(postingBytes, newLen);
+			postingCount = Arrays.copyOf(postingCount, newLen);
+			postingLastRow = Arrays.copyOf(postingLastRow, newLen);
+		}
+		postings[posting] = new byte[4];
+		postingLastRow[posting] = -1;
+		keys[i] = key;
+		keyPostings[i] = posting;
+		// keep the hash table at most half full
+		if(trigramCount * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		return posting;
+	}
+
+
+	private void rehash(int capacity) {
+		long[] oldKeys = this.keys;
+		int[] oldPostings = this.keyPostings;
+		long[] keys = new long[capacity];
+		int[] keyPostings = new int[capacity];
+		Arrays.fill(keys, EMPTY_KEY);
+		int mask = capacity - 1;
+		for(int j = 0; j < oldKeys.length; j++) {
+			long key = oldKeys[j];
+			if(key != EMPTY_KEY) {
+				int i = hash(key) & mask;
+				while(keys[i] != EMPTY_KEY) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = key;
+				keyPostings[i] = oldPostings[j];
+			}
+		}
+		this.keys = keys;
+		this.keyPostings = keyPostings;
+	}
+
+
+	private void appendRowId(int posting, int rowId) {
+		byte[] buf = postings[posting];
+		int len = postingBytes[posting];
+		// a delta needs at most 5 bytes
+		if(len + 5 > buf.length) {
+			buf = postings[posting] = Arrays.copyOf(buf, Math.max(buf.length * 2, len + 5));
+		}
+		int delta = rowId - postingLastRow[posting];
+		while((delta & ~0x7F) != 0) {
+			buf[len++] = (byte)((delta & 0x7F) | 0x80);
+			delta >>>= 7;
+		}
+		buf[len++] = (byte)delta;
+		postingBytes[posting] = len;
+		postingCount[posting]++;
+		postingLastRow[posting] = rowId;
+	}
+
+
+	private int[] decode(int posting) {
+		byte[] buf = postings[posting];
+		int[] res = new int[postingCount[posting]];
+		int rowId = -1;
+		for(int pos = 0, n = 0, len = postingBytes[posting]; pos < len; n++) {
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buf[pos++];
+				delta |= (b & 0x7F) << shift;
+				shift += 7;
+			} while(b < 0);
+			rowId += delta;
+			res[n] = rowId;
+		}
+		return res;
+	}
+
+
+	/** Intersect the first {@code count} ascending row ids in {@code res} with a posting list, in place
+	 * @return the number of row ids remaining in {@code res}
+	 */
+	private int intersect(int[] res, int count, int posting) {
+		byte[] buf = postings[posting];
+		int len = postingBytes[posting];
+		int pos = 0;
+		int rowId = -1;
+		int n = 0;
+		for(int i = 0; i < count; i++) {
+			int target = res[i];
+			// decode the posting list until reaching or passing the target row id
+			while(rowId < target && pos < len) {
+				int delta = 0;
+				int shift = 0;
+				byte b;
+				do {
+					b = buf[pos++];
+					delta |= (b & 0x7F) << shift;
+					shift += 7;
+				} while(b < 0);
+				rowId += delta;
+			}
+			if(rowId == target) {
+				res[n++] = target;
+			}
+			else if(rowId < target) {
+				break;
+			}
+		}
+		return n;
+	}
+
+
+	private static int[] union(int[] a, int[] b) {
+		if(a.length == 0) {
+			return b;
+		}
+		int[] res = new int[a.length + b.length];
+		int i = 0;
+		int j = 0;
+		int n = 0;
+		while(i < a.length && j < b.length) {
+			int va = a[i];
+			int vb = b[j];
+			res[n++] = va <= vb ? va : vb;
+			i += (va <= vb ? 1 : 0);
+			j += (vb <= va ? 1 : 0);
+		}
+		while(i < a.length) {
+			res[n++] = a[i++];
+		}
+		while(j < b.length) {
+			res[n++] = b[j++];
+		}
+		return n < res.length ? Arrays.copyOf(res, n) : res;
+	}
+
+
+	private static int indexOf(int[] ary, int off, int len, int value) {
+		for(int i = off, end = off + len; i < end; i++) {
+			if(ary[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
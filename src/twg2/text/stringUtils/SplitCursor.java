@@ -0,0 +1,399 @@
+package twg2.text.stringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+import twg2.text.stringSearch.StringIndex;
+
+/** A reusable cursor over the fields of a character delimited {@link String}, {@code char[]}, or {@link CharSequence}.<br>
+ * Rather than creating a sub-string for each field, the cursor exposes the current field's start and end offsets
+ * and provides methods to compare, parse, or copy the field in place.<br>
+ * The fields visited are the same as those returned by {@link StringSplit#split(String, char, int, java.util.List)},
+ * i.e. {@code "a,,b,"} contains the four fields {@code "a"}, {@code ""}, {@code "b"}, and {@code ""}.<br>
+ * Instances are not thread safe, the intended use is one instance per thread which is {@code reset()} for each input:
+ * <pre>
+ * cursor.reset(line, ',');
+ * while(cursor.next()) {
+ *   if(cursor.fieldEquals("ERROR")) { ... }
+ * }
+ * </pre>
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SplitCursor {
+	// exactly one of 'str', 'chars', or 'seq' is non-null after reset()
+	private String str;
+	private char[] chars;
+	private CharSequence seq;
+	/** true if 'str' is searched to its end, so {@link String#indexOf(int, int)} can be used */
+	private boolean strToEnd;
+	private char splitAt;
+	private int inputEnd;
+	private int nextStart;
+	private int fieldStart;
+	private int fieldEnd;
+	private int fieldIdx;
+
+
+	/** Create a cursor with no input, call one of the {@code reset()} methods before using it
+	 */
+	public SplitCursor() {
+		reset("", ',');
+	}
+
+
+	/**
+	 * @see #reset(String, int, int, char)
+	 */
+	public SplitCursor reset(String input, char splitAt) {
+		return reset(input, 0, input.length(), splitAt);
+	}
+
+
+	/** Reset this cursor to iterate over the fields of a sub-string
+	 * @param input the string to split
+	 * @param off the offset into {@code input} at which the fields start
+	 * @param len the number of characters from {@code input} to split
+	 * @param splitAt the character which separates fields
+	 * @return this cursor
+	 */
+	public SplitCursor reset(String input, int off, int len, char splitAt) {
+		init(input, null, null, off, len, splitAt);
+		this.strToEnd = (off + len == input.length());
+		return this;
+	}
+
+
+	/** Reset this cursor to iterate over the fields of a portion of a char array
+	 * @param input the characters to split
+	 * @param off the offset into {@code input} at which the fields start
+	 * @param len the number of characters from {@code input} to split
+	 * @param splitAt the character which separates fields
+	 * @return this cursor
+	 */
+	public SplitCursor reset(char[] input, int off, int len, char splitAt) {
+		init(null, input, null, off, len, splitAt);
+		return this;
+	}
+
+
+	/** Reset this cursor to iterate over the fields of a portion of a char sequence
+	 * @param input the characters to split
+	 * @param off the offset into {@code input} at which the fields start
+	 * @param len the number of characters from {@code input} to split
+	 * @param splitAt the character which separates fields
+	 * @return this cursor
+	 */
+	public SplitCursor reset(CharSequence input, int off, int len, char splitAt) {
+		if(input instanceof String) {
+			return reset((String)input, off, len, splitAt);
+		}
+		init(null, null, input, off, len, splitAt);
+		return this;
+	}
+
+
+	private void init(String str, char[] chars, CharSequence seq, int off, int len, char splitAt) {
+		if(off < 0 || len < 0) {
+			throw new IndexOutOfBoundsException("off " + off + ", len " + len);
+		}
+		this.str = str;
+		this.chars = chars;
+		this.seq = seq;
+		this.strToEnd = false;
+		this.splitAt = splitAt;
+		this.inputEnd = off + len;
+		this.nextStart = off;
+		this.fieldStart = off;
+		this.fieldEnd = off;
+		this.fieldIdx = -1;
+	}
+
+
+	/** Advance to the next field
+	 * @return true if the cursor is positioned on a new field, false if there are no more fields
+	 */
+	public boolean next() {
+		int start = this.nextStart;
+		int end = this.inputEnd;
+		if(start > end) {
+			return false;
+		}
+		int idx;
+		if(str != null) {
+			idx = strToEnd ? str.indexOf(splitAt, start) : StringIndex.indexOf(str, start, end - start, splitAt);
+		}
+		else if(chars != null) {
+			idx = StringIndex.indexOf(chars, start, end - start, splitAt);
+		}
+		else {
+			idx = StringIndex.indexOf(seq, start, end - start, splitAt);
+		}
+		if(idx == -1) {
+			idx = end;
+		}
+		this.fieldStart = start;
+		this.fieldEnd = idx;
+		this.nextStart = idx + 1;
+		this.fieldIdx++;
+		return true;
+	}
+
+
+	/** Advance forward to a specific field
+	 * @param fieldIndex the index of the field to advance to, must be greater than or equal to {@link #getFieldIndex()}
+	 * @return true if the cursor is positioned on the requested field, false if the input contains fewer fields
+	 */
+	public boolean advanceTo(int fieldIndex) {
+		if(fieldIndex < this.fieldIdx) {
+			throw new IllegalArgumentException("cannot move backward from field " + this.fieldIdx + " to field " + fieldIndex);
+		}
+		while(this.fieldIdx < fieldIndex) {
+			if(!next()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @return the index of the current field, starting from 0, or -1 if {@link #next()} has not been called since the last reset
+	 */
+	public int getFieldIndex() {
+		return fieldIdx;
+	}
+
+
+	/**
+	 * @return the absolute offset in the input of the current field's first character
+	 */
+	public int getStart() {
+		return fieldStart;
+	}
+
+
+	/**
+	 * @return the absolute offset in the input just past the current field's last character (exclusive)
+	 */
+	public int getEnd() {
+		return fieldEnd;
+	}
+
+
+	/**
+	 * @return the length of the current field
+	 */
+	public int getLength() {
+		return fieldEnd - fieldStart;
+	}
+
+
+	/**
+	 * @param index the index of the character relative to the start of the current field
+	 * @return the character at {@code index} in the current field
+	 */
+	public char charAt(int index) {
+		if(index < 0 || index >= fieldEnd - fieldStart) {
+			throw new IndexOutOfBoundsException("index " + index + ", field length " + (fieldEnd - fieldStart));
+		}
+		return inputCharAt(fieldStart + index);
+	}
+
+
+	/**
+	 * @return true if the current field contains the same characters as {@code str}
+	 */
+	public boolean fieldEquals(CharSequence str) {
+		int len = fieldEnd - fieldStart;
+		if(str.length() != len) {
+			return false;
+		}
+		if(this.str != null && str instanceof String) {
+			return this.str.regionMatches(fieldStart, (String)str, 0, len);
+		}
+		for(int i = 0, off = fieldStart; i < len; i++) {
+			if(inputCharAt(off + i) != str.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * @return true if the current field starts with {@code prefix}
+	 */
+	public boolean fieldStartsWith(CharSequence prefix) {
+		int prefixLen = prefix.length();
+		if(prefixLen > fieldEnd - fieldStart) {
+			return false;
+		}
+		for(int i = 0, off = fieldStart; i < prefixLen; i++) {
+			if(inputCharAt(off + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/** Compare the current field to a string lexicographically, the same way as {@link String#compareTo(String)}
+	 * @return a negative number, zero, or a positive number if the current field is less than, equal to, or greater than {@code str}
+	 */
+	public int compareField(CharSequence str) {
+		int len = fieldEnd - fieldStart;
+		int strLen = str.length();
+		for(int i = 0, off = fieldStart, min = Math.min(len, strLen); i < min; i++) {
+			char ch1 = inputCharAt(off + i);
+			char ch2 = str.charAt(i);
+			if(ch1 != ch2) {
+				return ch1 - ch2;
+			}
+		}
+		return len - strLen;
+	}
+
+
+	/** Parse the current field as a base 10 integer, the same way as {@link Integer#parseInt(String)}
+	 * @return the parsed value
+	 * @throws NumberFormatException if the field is not a valid integer or is out of range
+	 */
+	public int parseInt() {
+		long value = parseLong();
+		if(value != (int)value) {
+			throw new NumberFormatException("For input string: \"" + getString() + "\"");
+		}
+		return (int)value;
+	}
+
+
+	/** Parse the current field as a base 10 long, the same way as {@link Long#parseLong(String)}
+	 * @return the parsed value
+	 * @throws NumberFormatException if the field is not a valid long or is out of range
+	 */
+	public long parseLong() {
+		int i = fieldStart;
+		int end = fieldEnd;
+		if(i >= end) {
+			throw new NumberFormatException("For input string: \"\"");
+		}
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		char first = inputCharAt(i);
+		if(first == '-' || first == '+') {
+			if(first == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			}
+			i++;
+			if(i == end) {
+				throw new NumberFormatException("For input string: \"" + getString() + "\"");
+			}
+		}
+		// accumulate negatively to handle Long.MIN_VALUE, the same way as Long.parseLong()
+		long multMin = limit / 10;
+		long result = 0;
+		for(; i < end; i++) {
+			int digit = Character.digit(inputCharAt(i), 10);
+			if(digit < 0 || result < multMin) {
+				throw new NumberFormatException("For input string: \"" + getString() + "\"");
+			}
+			result *= 10;
+			if(result < limit + digit) {
+				throw new NumberFormatException("For input string: \"" + getString() + "\"");
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+
+	/** Create a string containing the current field, the only method in this class which allocates a string per field
+	 * @return the current field as a new string
+	 */
+	public String getString() {
+		if(str != null) {
+			return str.substring(fieldStart, fieldEnd);
+		}
+		else if(chars != null) {
+			return new String(chars, fieldStart, fieldEnd - fieldStart);
+		}
+		else {
+			return seq.subSequence(fieldStart, fieldEnd).toString();
+		}
+	}
+
+
+	/** Copy the current field into a char array
+	 * @param dst the destination array
+	 * @param dstOff the offset into {@code dst} at which to start writing
+	 * @return the number of characters copied
+	 */
+	public int copyField(char[] dst, int dstOff) {
+		int len = fieldEnd - fieldStart;
+		if(str != null) {
+			str.getChars(fieldStart, fieldEnd, dst, dstOff);
+		}
+		else if(chars != null) {
+			System.arraycopy(chars, fieldStart, dst, dstOff, len);
+		}
+		else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = seq.charAt(fieldStart + i);
+			}
+		}
+		return len;
+	}
+
+
+	/**
+	 * @see #appendField(Appendable)
+	 */
+	public StringBuilder appendField(StringBuilder dst) {
+		try {
+			appendField((Appendable)dst);
+		} catch(IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+		return dst;
+	}
+
+
+	/** Append the current field to a destination
+	 * @param dst the destination to append the current field to
+	 */
+	public void appendField(Appendable dst) throws IOException {
+		if(chars != null) {
+			if(dst instanceof StringBuilder) {
+				((StringBuilder)dst).append(chars, fieldStart, fieldEnd - fieldStart);
+				return;
+			}
+			dst.append(CharBuffer.wrap(chars), fieldStart, fieldEnd);
+		}
+		else {
+			dst.append(str != null ? str : seq, fieldStart, fieldEnd);
+		}
+	}
+
+
+	private char inputCharAt(int index) {
+		if(str != null) {
+			return str.charAt(index);
+		}
+		else if(chars != null) {
+			return chars[index];
+		}
+		else {
+			return seq.charAt(index);
+		}
+	}
+
+
+	@Override
+	public String toString() {
+		return fieldIdx < 0 ? "SplitCursor[]" : ("SplitCursor[" + fieldIdx + ": \"" + getString() + "\"]");
+	}
+
+}
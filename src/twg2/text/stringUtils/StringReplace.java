@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.RandomAccess;
 
+import twg2.text.stringSearch.RadixTrie;
 import twg2.text.stringSearch.StringCommonality;
 import twg2.text.stringSearch.StringCompare;
 import twg2.text.stringSearch.StringIndex;
@@ -124,6 +125,7 @@ public class StringReplace {
 	 * corresponds to an index in {@code searchStrs}
 	 * @return the {@code content} string with matching {@code searchStrs} replaced
 	 * with corresponding {@code replaceStrs}
+	 * @see StringReplacer
 	 */
 	public static String replaceStrings(String content, int contentOffset, Collection<String> searchStrs, Collection<String> replaceStrs) {
 		if(searchStrs.size() != replaceStrs.size()) {
@@ -481,8 +483,10 @@ public class StringReplace {
 			}
 		}
 
-		String prefix = StringCommonality.findPrefix(0, tokens);
-		if(prefix.length() > 0) {
+		// sorted tokens only require comparing the first and last token
+		int prefixLen = StringCommonality.commonPrefixLength(0, tokens, isSorted);
+		if(prefixLen > 0) {
+			String prefix = tokens[0].getKey().substring(0, prefixLen);
 			int index = srcAndDst.indexOf(prefix, 0);
 			while(index > -1) {
 				Map.Entry<String, String> match = StringCompare.closestMatch(srcAndDst, index, tokens, isSorted);
@@ -507,4 +511,48 @@ public class StringReplace {
 		return srcAndDst;
 	}
 
+
+	/**
+	 * @see #replaceTokens(CharSequence, int, int, RadixTrie, StringBuilder)
+	 */
+	public static String replaceTokens(String str, RadixTrie<String> tokens) {
+		StringBuilder dst = new StringBuilder(str.length() + (str.length() >>> 4));
+		int count = replaceTokens(str, 0, str.length(), tokens, dst);
+		return count > 0 ? dst.toString() : str;
+	}
+
+
+	/** Replace the tokens in a portion of a char sequence using a compiled {@link RadixTrie} of tokens
+	 * and write the result to a destination.<br>
+	 * At each index the longest token which fully matches is replaced and searching resumes after the token,
+	 * replacement values are not searched again. Finding the token at each index walks the trie once and does not allocate.
+	 * @param src the text to search and replace tokens in
+	 * @param srcOff the offset into {@code src} at which to start
+	 * @param srcLen the number of characters from {@code src} to search and copy to {@code dst}
+	 * @param tokens the compiled tokens, the keys are the strings to search for and the values are the strings to replace found keys with
+	 * @param dst the destination to write the {@code [srcOff, srcOff + srcLen)} portion of {@code src} to, with tokens replaced
+	 * @return the number of tokens replaced
+	 */
+	public static int replaceTokens(CharSequence src, int srcOff, int srcLen, RadixTrie<String> tokens, StringBuilder dst) {
+		int count = 0;
+		int end = srcOff + srcLen;
+		int copyStart = srcOff;
+		for(int i = srcOff; i < end; ) {
+			int idx = tokens.longestMatch(src, i, end - i);
+			if(idx > -1) {
+				Map.Entry<String, String> token = tokens.getEntry(idx);
+				dst.append(src, copyStart, i);
+				dst.append(token.getValue());
+				i += token.getKey().length();
+				copyStart = i;
+				count++;
+			}
+			else {
+				i++;
+			}
+		}
+		dst.append(src, copyStart, end);
+		return count;
+	}
+
 }
@@ -0,0 +1,186 @@
+package twg2.text.stringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Collection;
+
+import twg2.text.stringSearch.AhoCorasickMatcher;
+
+/** An immutable, precompiled set of search and replace strings which replaces all of the search strings
+ * in a single pass over the input, writing the result to a new destination.<br>
+ * Compared to {@link StringReplace#replaceStrings(String, int, Collection, Collection)}, which searches for each
+ * search string separately and replaces matches in place (shifting the remainder of the buffer on each replacement),
+ * this runs in time proportional to the length of the input plus the length of the output.<br>
+ * Note: replaced text is never searched again, so unlike {@code replaceStrings()}, a replacement string which contains
+ * a later search string is not replaced a second time.<br>
+ * When more than one search string matches, the match which starts first wins, ties between matches starting at the same
+ * index are decided by the {@link MatchMode}.
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringReplacer {
+
+	/** How to choose between search strings which match at the same start index
+	 * @author TeamworkGuy2
+	 * @since 2026-10-18
+	 */
+	public static enum MatchMode {
+		/** the search string which appears first in the list of search strings wins, similar to the order that {@code replaceStrings()} replaces strings in */
+		LEFTMOST_FIRST,
+		/** the longest search string wins */
+		LEFTMOST_LONGEST;
+	}
+
+
+	private final AhoCorasickMatcher matcher;
+	private final String[] replaceStrs;
+	private final boolean longest;
+
+
+	/**
+	 * @see #StringReplacer(Collection, Collection, MatchMode)
+	 */
+	public StringReplacer(Collection<String> searchStrs, Collection<String> replaceStrs) {
+		this(searchStrs, replaceStrs, MatchMode.LEFTMOST_FIRST);
+	}
+
+
+	/** Compile a set of search and replace strings
+	 * @param searchStrs the list of search strings, none of which may be empty
+	 * @param replaceStrs the list of replacement strings, each index in this list
+	 * corresponds to an index in {@code searchStrs}
+	 * @param mode how to choose between search strings which match at the same index
+	 */
+	public StringReplacer(Collection<String> searchStrs, Collection<String> replaceStrs, MatchMode mode) {
+		if(searchStrs.size() != replaceStrs.size()) {
+			throw new IllegalArgumentException("list of search strings must be equal in length to list of replace strings");
+		}
+		for(String search : searchStrs) {
+			if(search.length() == 0) {
+				throw new IllegalArgumentException("search strings cannot be empty");
+			}
+		}
+		this.matcher = new AhoCorasickMatcher(searchStrs);
+		this.replaceStrs = replaceStrs.toArray(new String[replaceStrs.size()]);
+		this.longest = (mode == MatchMode.LEFTMOST_LONGEST);
+	}
+
+
+	/** Replace all of the search strings in a string
+	 * @param content the string to search and replace matching strings in
+	 * @return the {@code content} string with matching search strings replaced with the corresponding replace strings,
+	 * or {@code content} itself if it does not contain any of the search strings
+	 */
+	public String replace(String content) {
+		return replace(content, 0);
+	}
+
+
+	/** Replace all of the search strings in a string starting at an offset
+	 * @param content the string to search and replace matching strings in
+	 * @param contentOffset the offset into {@code content} at which to start replacing
+	 * @return the entire {@code content} string with matching search strings after {@code contentOffset} replaced
+	 * with the corresponding replace strings, or {@code content} itself if it does not contain any of the search strings
+	 */
+	public String replace(String content, int contentOffset) {
+		int end = content.length();
+		long match = findMatch(content, contentOffset, end);
+		if(match == -1) {
+			return content;
+		}
+		// only create the destination once the first match is found, then continue searching after that match
+		int start = (int)(match >>> 32);
+		int idx = (int)match;
+		int matchEnd = start + matcher.getPattern(idx).length();
+		StringBuilder dst = new StringBuilder(content.length() + (content.length() >>> 4));
+		dst.append(content, 0, start);
+		dst.append(replaceStrs[idx]);
+		replace(content, matchEnd, end - matchEnd, dst);
+		return dst.toString();
+	}
+
+
+	/**
+	 * @see #replace(CharSequence, int, int, Appendable)
+	 */
+	public int replace(char[] content, int off, int len, StringBuilder dst) {
+		return replace(CharBuffer.wrap(content), off, len, dst);
+	}
+
+
+	/**
+	 * @see #replace(CharSequence, int, int, Appendable)
+	 */
+	public int replace(CharSequence content, int off, int len, StringBuilder dst) {
+		try {
+			return replace(content, off, len, (Appendable)dst);
+		} catch(IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+
+	/** Replace all of the search strings in a portion of a char sequence and write the result to a destination
+	 * @param content the char sequence to search and replace matching strings in
+	 * @param off the offset into {@code content} at which to start
+	 * @param len the number of characters from {@code content} to search and copy to {@code dst}
+	 * @param dst the destination to write the {@code [off, off + len)} portion of {@code content} to,
+	 * with matching search strings replaced by the corresponding replace strings
+	 * @return the number of replacements made
+	 */
+	public int replace(CharSequence content, int off, int len, Appendable dst) throws IOException {
+		int end = off + len;
+		int pos = off;
+		int count = 0;
+		long match;
+
+		while(pos < end && (match = findMatch(content, pos, end)) != -1) {
+			int start = (int)(match >>> 32);
+			int idx = (int)match;
+			dst.append(content, pos, start);
+			dst.append(replaceStrs[idx]);
+			pos = start + matcher.getPattern(idx).length();
+			count++;
+		}
+
+		dst.append(content, pos, end);
+		return count;
+	}
+
+
+	/** Find the leftmost match starting at or after an offset
+	 * @param content the char sequence to search
+	 * @param pos the offset into {@code content} at which to start searching
+	 * @param end the exclusive end of the range to search in {@code content}
+	 * @return the start index of the match in the upper 32 bits and the index of the matching search string
+	 * in the lower 32 bits, or -1 if no search string occurs in the range
+	 */
+	private long findMatch(CharSequence content, int pos, int end) {
+		AhoCorasickMatcher matcher = this.matcher;
+		int bestStart = -1;
+		int bestEnd = -1;
+		int bestIdx = -1;
+		int state = matcher.getStartState();
+		for(int i = pos; i < end; i++) {
+			state = matcher.nextState(state, content.charAt(i));
+			int matchEnd = i + 1;
+			// once no partial match could start at or before the best match, the best match is final
+			if(bestStart != -1 && matchEnd - matcher.getStateDepth(state) > bestStart) {
+				break;
+			}
+			for(int s = matcher.getMatchState(state); s != -1; s = matcher.getNextMatchState(s)) {
+				int start = matchEnd - matcher.getStateDepth(s);
+				int idx = matcher.getMatch(s);
+				if(bestStart == -1 || start < bestStart ||
+						(start == bestStart && (longest ? matchEnd > bestEnd : idx < bestIdx))) {
+					bestStart = start;
+					bestEnd = matchEnd;
+					bestIdx = idx;
+				}
+			}
+		}
+		return (bestStart != -1 ? ((long)bestStart << 32) | bestIdx : -1);
+	}
+
+}
@@ -2,6 +2,7 @@ package twg2.text.stringUtils;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -208,6 +209,7 @@ public class StringSplit {
 	 * an infinite number of splits can occur
 	 * @param dst the destination list to add the split strings to
 	 * @return the {@code dst} list with the split strings added to it
+	 * @see SplitCursor
 	 */
 	public static List<String> split(String input, char splitAt, int limit, List<String> dst) {
 		if(input == null) {
@@ -317,6 +319,105 @@ public class StringSplit {
 	}
 
 
+	/** Split a string on a character and retrieve only specific fields. The input is scanned once
+	 * and scanning stops as soon as the last requested field is found.<br>
+	 * For example, {@code splitFields("a,b,c,d", ',', new int[] { 1, 3 }, dst)} sets {@code dst} to {@code ["b", "d"]}.
+	 * @param input the input string to split
+	 * @param splitAt the exact character to find and split around
+	 * @param fieldIdxs the indices of the fields to retrieve, in ascending order, with no duplicates
+	 * @param dst the destination array, at least as long as {@code fieldIdxs}, {@code dst[i]} is set to the
+	 * field at index {@code fieldIdxs[i]} or null if the input contains fewer fields
+	 * @return the number of requested fields found
+	 * @see #splitFieldOffsets(String, char, int[], int[])
+	 */
+	public static int splitFields(String input, char splitAt, int[] fieldIdxs, String[] dst) {
+		return splitFields(input, splitAt, fieldIdxs, dst, null);
+	}
+
+
+	/** Split a string on a character and retrieve only the fields marked in a {@link BitSet}.
+	 * @param input the input string to split
+	 * @param splitAt the exact character to find and split around
+	 * @param fields the indices of the fields to retrieve
+	 * @param dst the destination array, at least as long as {@code fields.cardinality()}, the Nth set bit
+	 * in {@code fields} is stored in {@code dst[N]}, or null if the input contains fewer fields
+	 * @return the number of requested fields found
+	 * @see #splitFields(String, char, int[], String[])
+	 */
+	public static int splitFields(String input, char splitAt, BitSet fields, String[] dst) {
+		return splitFields(input, splitAt, fields.stream().toArray(), dst, null);
+	}
+
+
+	/** Split a string on a character and retrieve the start and end offsets of specific fields without creating sub-strings.
+	 * The input is scanned once and scanning stops as soon as the last requested field is found.
+	 * @param input the input string to split
+	 * @param splitAt the exact character to find and split around
+	 * @param fieldIdxs the indices of the fields to retrieve, in ascending order, with no duplicates
+	 * @param dstOffsets the destination array, at least twice as long as {@code fieldIdxs},
+	 * {@code dstOffsets[i * 2]} and {@code dstOffsets[i * 2 + 1]} are set to the start (inclusive) and end (exclusive)
+	 * offsets of the field at index {@code fieldIdxs[i]}, or -1 if the input contains fewer fields
+	 * @return the number of requested fields found
+	 */
+	public static int splitFieldOffsets(String input, char splitAt, int[] fieldIdxs, int[] dstOffsets) {
+		return splitFields(input, splitAt, fieldIdxs, null, dstOffsets);
+	}
+
+
+	private static int splitFields(String input, char splitAt, int[] fieldIdxs, String[] dst, int[] dstOffsets) {
+		int fieldCount = fieldIdxs.length;
+		// validate all of the field indices up front, scanning can stop before reaching the last of them
+		for(int i = 0, prevFieldIdx = -1; i < fieldCount; i++) {
+			int fieldIdx = fieldIdxs[i];
+			if(fieldIdx <= prevFieldIdx) {
+				throw new IllegalArgumentException("field indices must be in ascending order without duplicates, found " + fieldIdx + " after " + prevFieldIdx);
+			}
+			prevFieldIdx = fieldIdx;
+		}
+
+		int inputSize = input.length();
+		int start = 0;
+		int field = 0;
+		int found = 0;
+
+		for(; found < fieldCount; found++) {
+			int fieldIdx = fieldIdxs[found];
+			// skip the fields between the previous requested field and this one
+			while(field < fieldIdx && start <= inputSize) {
+				int nextIndex = input.indexOf(splitAt, start);
+				start = (nextIndex == -1) ? inputSize + 1 : nextIndex + 1;
+				field++;
+			}
+			if(start > inputSize) {
+				break;
+			}
+			int end = input.indexOf(splitAt, start);
+			end = (end == -1) ? inputSize : end;
+			if(dst != null) {
+				dst[found] = input.substring(start, end);
+			}
+			if(dstOffsets != null) {
+				dstOffsets[found * 2] = start;
+				dstOffsets[found * 2 + 1] = end;
+			}
+			start = end + 1;
+			field++;
+		}
+
+		// mark requested fields which do not exist
+		for(int i = found; i < fieldCount; i++) {
+			if(dst != null) {
+				dst[i] = null;
+			}
+			if(dstOffsets != null) {
+				dstOffsets[i * 2] = -1;
+				dstOffsets[i * 2 + 1] = -1;
+			}
+		}
+		return found;
+	}
+
+
 
 	/** A slightly faster version of {@link String#split(String)} that does not
 	 * used {@link Pattern}, instead the pattern is interpreted literally
@@ -392,6 +493,44 @@ public class StringSplit {
 	}
 
 
+	/** Count the number of occurrences of a character in a string
+	 * @param src the string to search
+	 * @param ch the character to count
+	 * @return the number of times {@code ch} appears in {@code src}
+	 */
+	public static int countMatches(String src, char ch) {
+		if(src == null) {
+			return 0;
+		}
+		// String.indexOf() is a JVM intrinsic (vectorized on most platforms) and is faster than a charAt() loop when matches are sparse
+		int matchingCount = 0;
+		for(int index = src.indexOf(ch); index > -1; index = src.indexOf(ch, index + 1)) {
+			matchingCount++;
+		}
+		return matchingCount;
+	}
+
+
+	/** Count the number of occurrences of a character in a portion of a char array
+	 * @param src the characters to search
+	 * @param srcOff the offset into {@code src} at which to start counting
+	 * @param srcLen the number of characters from {@code src} to search
+	 * @param ch the character to count
+	 * @return the number of times {@code ch} appears in {@code src}
+	 */
+	public static int countMatches(char[] src, int srcOff, int srcLen, char ch) {
+		if(src == null) {
+			return 0;
+		}
+		// branch free, so the count doesn't depend on branch prediction
+		int matchingCount = 0;
+		for(int i = srcOff, size = srcOff + srcLen; i < size; i++) {
+			matchingCount += (src[i] == ch ? 1 : 0);
+		}
+		return matchingCount;
+	}
+
+
 	public static int countMatches(String src, String pattern) {
 		if(src == null || pattern == null) {
 			return 0;
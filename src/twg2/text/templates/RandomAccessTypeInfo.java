@@ -13,5 +13,7 @@ public class RandomAccessTypeInfo extends PrimitiveTypeClassTemplate {
 	public String getLength;
 	public String getElement;
 	public String getElementEnd;
+	/** true if the type is a {@link String}, whose intrinsic {@code indexOf()} and {@code lastIndexOf()} are used for single character searches */
+	public boolean nativeIndexOf;
 
 }
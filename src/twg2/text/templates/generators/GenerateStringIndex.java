@@ -35,6 +35,7 @@ public class GenerateStringIndex {
 		stringType.getLength = ".length()";
 		stringType.getElement = ".charAt(";
 		stringType.getElementEnd = ")";
+		stringType.nativeIndexOf = true;
 
 		RandomAccessTypeInfo stringBuilderType = new RandomAccessTypeInfo();
 		stringBuilderType.type = "CharSequence";
@@ -64,8 +65,38 @@ public class GenerateStringIndex {
 	}
 
 
+	public static final void generateByteIndex() throws IOException {
+		RandomAccessTypeInfo byteArrayType = new RandomAccessTypeInfo();
+		byteArrayType.type = "byte[]";
+		byteArrayType.getLength = ".length";
+		byteArrayType.getElement = "[";
+		byteArrayType.getElementEnd = "]";
+
+		// absolute get(int) works for both heap and direct buffers and does not modify the buffer's position
+		RandomAccessTypeInfo byteBufferType = new RandomAccessTypeInfo();
+		byteBufferType.type = "ByteBuffer";
+		byteBufferType.getLength = ".limit()";
+		byteBufferType.getElement = ".get(";
+		byteBufferType.getElementEnd = ")";
+
+		MultiTypeInfo<RandomAccessTypeInfo> info = new MultiTypeInfo<>();
+		info.className = "ByteIndex";
+		info.packageName = pkgName;
+
+		Writer out = new FileWriter(TemplateFilesIo.getDefaultInst().getSrcRelativePath(info).toFile());
+		ST stTmpl = STTemplates.fromFile(tmplDir + "TByteIndex.stg", "TByteIndex", TemplateImports.emptyInst());
+		TemplateRenderBuilder.newInst()
+				.addParam("var", info)
+				.addParam("singleTypes", Arrays.asList(byteArrayType, byteBufferType))
+				.writeDst(out)
+				.render(stTmpl);
+		out.close();
+	}
+
+
 	public static void main(String[] args) throws IOException {
 		generateStringIndex();
+		generateByteIndex();
 	}
 
 }
@@ -0,0 +1,126 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.AhoCorasickMatcher;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class AhoCorasickMatcherTest {
+
+	@Test
+	public void indexOfTest() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("he", "she", "his", "hers", "\u2460\u2461");
+		String[] strs =    { "ushers", "this", "a he", "none", "", "x\u2460\u2461" };
+		Integer[] expect = { 1,        1,      2,      -1,     -1, 1 };
+
+		CheckTask.assertTests(strs, expect, (s) -> matcher.indexOf(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s) -> matcher.indexOf(s, 0, s.length()));
+
+		Assert.assertEquals(2, matcher.indexOf("ushers", 2, 4));
+		Assert.assertEquals(-1, matcher.indexOf("ushers", 2, 1));
+	}
+
+
+	@Test
+	public void indexOfMatchTest() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("hers", "his", "she", "he", "he");
+		String[] strs =    { "ushers", "this", "a he", "none", "" };
+		Integer[] expect = { 0,        1,      3,      -1,     -1 };
+
+		CheckTask.assertTests(strs, expect, (s) -> matcher.indexOfMatch(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s) -> matcher.indexOfMatch(s, 0, s.length()));
+
+		AhoCorasickMatcher emptyMatcher = new AhoCorasickMatcher("abc", "");
+		Assert.assertEquals(1, emptyMatcher.indexOfMatch("", 0, 0));
+		Assert.assertEquals(0, emptyMatcher.indexOfMatch("-abc", 0, 4));
+	}
+
+
+	@Test
+	public void indexOfMatchNotPrefixedByTest() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("C style", "comment");
+		char[] prefix = "//".toCharArray();
+
+		Assert.assertEquals(0, matcher.indexOfMatchNotPrefixedBy("//C style string containing a C style comment".toCharArray(), 0, 45, prefix, 0));
+		Assert.assertEquals(1, matcher.indexOfMatchNotPrefixedBy("//C style string containing a //C style comment".toCharArray(), 0, 47, prefix, 0));
+		Assert.assertEquals(-1, matcher.indexOfMatchNotPrefixedBy("//C style //comment".toCharArray(), 0, 19, prefix, 0));
+		// matches at the start of the search range can't be preceded by the prefix
+		Assert.assertEquals(0, matcher.indexOfMatchNotPrefixedBy("//C style".toCharArray(), 2, 7, prefix, 0));
+	}
+
+
+	@Test
+	public void forEachMatchTest() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("he", "she", "his", "hers", "he");
+		List<String> matches = new ArrayList<>();
+		int count = matcher.forEachMatch("ushers", 0, 6, (patternIdx, start, end) -> {
+			matches.add(patternIdx + ":" + start + "-" + end);
+			return true;
+		});
+		Assert.assertEquals(4, count);
+		Assert.assertEquals(Arrays.asList("1:1-4", "0:2-4", "4:2-4", "3:2-6"), matches);
+
+		// stop early
+		matches.clear();
+		count = matcher.forEachMatch("ushers".toCharArray(), 0, 6, (patternIdx, start, end) -> {
+			matches.add(patternIdx + ":" + start + "-" + end);
+			return false;
+		});
+		Assert.assertEquals(1, count);
+		Assert.assertEquals(Arrays.asList("1:1-4"), matches);
+	}
+
+
+	@Test
+	public void stateSteppingTest() {
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("abc", "bc");
+		int state = matcher.getStartState();
+		state = matcher.nextState(state, 'a');
+		state = matcher.nextState(state, 'b');
+		Assert.assertEquals(2, matcher.getStateDepth(state));
+		Assert.assertEquals(-1, matcher.getMatch(state));
+		state = matcher.nextState(state, 'c');
+		Assert.assertEquals(0, matcher.getMatch(state));
+		Assert.assertEquals(0, matcher.getLowestMatch(state));
+		state = matcher.nextState(state, 'z');
+		Assert.assertEquals(0, matcher.getStateDepth(state));
+	}
+
+
+	@Test
+	public void overlappingPatternsTest() {
+		// patterns which are prefixes, suffixes, and infixes of each other
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher("abcd", "bc", "bcd", "c", "\u0100b");
+		String[] strs =         { "xabcx", "abcd", "\u0100bcd", "aaab", "cc", "" };
+		Integer[] expectIdx =   { 2,       0,      0,            -1,     0,    -1 };
+		Integer[] expectMatch = { 1,       0,      1,            -1,     3,    -1 };
+
+		CheckTask.assertTests(strs, expectIdx, (s) -> matcher.indexOf(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expectIdx, (s) -> matcher.indexOf(s, 0, s.length()));
+		CheckTask.assertTests(strs, expectMatch, (s) -> matcher.indexOfMatch(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expectMatch, (s) -> matcher.indexOfMatch(s, 0, s.length()));
+
+		// matches must lie entirely within the search range
+		Assert.assertEquals(1, matcher.indexOfMatch("abcd", 1, 3));
+		Assert.assertEquals(1, matcher.indexOfMatch("abcd", 0, 3));
+		Assert.assertEquals(3, matcher.indexOfMatch("abcd", 2, 2));
+		Assert.assertEquals(-1, matcher.indexOfMatch("abcd".toCharArray(), 3, 1));
+
+		// a pattern which is prefixed at one occurrence can still match at a later one
+		AhoCorasickMatcher styleMatcher = new AhoCorasickMatcher("C style", "comment", "style");
+		char[] prefix = "//".toCharArray();
+		Assert.assertEquals(2, styleMatcher.indexOfMatchNotPrefixedBy("//style //comment //C style".toCharArray(), 0, 27, prefix, 0));
+		Assert.assertEquals(-1, styleMatcher.indexOfMatchNotPrefixedBy("//style //comment".toCharArray(), 0, 17, prefix, 0));
+		Assert.assertEquals(1, styleMatcher.indexOfMatchNotPrefixedBy("//style //comment comment".toCharArray(), 0, 25, prefix, 0));
+	}
+
+}
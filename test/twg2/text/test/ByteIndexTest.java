@@ -0,0 +1,139 @@
+package twg2.text.test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.text.stringSearch.ByteIndex;
+import twg2.text.stringSearch.StringIndex;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class ByteIndexTest {
+
+	@Test
+	public void indexOfByteTest() {
+		byte[] str = bytes("GET /a?b=1 HTTP/1.1\r\n");
+		ByteBuffer heap = ByteBuffer.wrap(str);
+		ByteBuffer direct = direct(str);
+
+		for(ByteBuffer buf : new ByteBuffer[] { heap, direct }) {
+			Assert.assertEquals(3, ByteIndex.indexOf(buf, 0, (byte)' '));
+			Assert.assertEquals(10, ByteIndex.indexOf(buf, 4, (byte)' '));
+			Assert.assertEquals(-1, ByteIndex.indexOf(buf, 0, 3, (byte)' '));
+			Assert.assertEquals(10, ByteIndex.lastIndexOf(buf, 0, str.length, (byte)' '));
+			Assert.assertEquals(3, ByteIndex.lastIndexOf(buf, 0, 10, (byte)' '));
+			Assert.assertEquals(-1, ByteIndex.lastIndexOf(buf, 4, 6, (byte)' '));
+			// the buffer's position is never modified
+			Assert.assertEquals(0, buf.position());
+		}
+
+		Assert.assertEquals(3, ByteIndex.indexOf(str, 0, (byte)' '));
+		Assert.assertEquals(19, ByteIndex.indexOf(str, 0, (byte)'\r'));
+		Assert.assertEquals(-1, ByteIndex.indexOf(str, 0, (byte)'#'));
+		Assert.assertEquals(18, ByteIndex.lastIndexOf(str, 0, str.length, (byte)'1'));
+	}
+
+
+	@Test
+	public void indexOfSubStrTest() {
+		byte[] str = bytes("k1=v1;k2=v2;k1=v3;\u00E9=\u00E9");
+		ByteBuffer direct = direct(str);
+
+		Assert.assertEquals(0, ByteIndex.indexOf(str, 0, bytes("k1=")));
+		Assert.assertEquals(12, ByteIndex.indexOf(str, 1, bytes("k1=")));
+		Assert.assertEquals(12, ByteIndex.indexOf(direct, 1, bytes("k1=")));
+		Assert.assertEquals(-1, ByteIndex.indexOf(str, 13, bytes("k1=")));
+		Assert.assertEquals(-1, ByteIndex.indexOf(str, 1, 11, bytes("k1="), 0, 3));
+		Assert.assertEquals(5, ByteIndex.indexOf(str, 0, str.length, bytes("x;k"), 1, 2));
+		Assert.assertEquals(2, ByteIndex.indexOf(str, 2, bytes("")));
+		// UTF-8 needles are matched byte for byte
+		Assert.assertEquals(18, ByteIndex.indexOf(str, 0, bytes("\u00E9=")));
+		Assert.assertEquals(21, ByteIndex.lastIndexOf(str, bytes("\u00E9")));
+
+		Assert.assertEquals(12, ByteIndex.lastIndexOf(str, bytes("k1=")));
+		Assert.assertEquals(12, ByteIndex.lastIndexOf(direct, bytes("k1=")));
+		Assert.assertEquals(0, ByteIndex.lastIndexOf(str, 0, 14, bytes("k1="), 0, 3));
+		Assert.assertEquals(-1, ByteIndex.lastIndexOf(str, 1, 13, bytes("k1="), 0, 3));
+		Assert.assertEquals(str.length, ByteIndex.lastIndexOf(str, bytes("")));
+	}
+
+
+	@Test
+	public void indexOfOccurrenceNTest() {
+		byte[] str = bytes("a,b,,c,aa,aaa");
+		ByteBuffer direct = direct(str);
+
+		Assert.assertEquals(1, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 1, (byte)','));
+		Assert.assertEquals(4, ByteIndex.indexOfOccurrenceN(direct, 0, str.length, 3, (byte)','));
+		Assert.assertEquals(9, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 0, (byte)','));
+		Assert.assertEquals(-1, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 6, (byte)','));
+
+		byte[] aa = bytes("aa");
+		Assert.assertEquals(7, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 1, aa, 0, 2));
+		Assert.assertEquals(10, ByteIndex.indexOfOccurrenceN(direct, 0, str.length, 2, aa, 0, 2));
+		Assert.assertEquals(-1, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 3, aa, 0, 2));
+		Assert.assertEquals(10, ByteIndex.indexOfOccurrenceN(str, 0, str.length, 0, aa, 0, 2));
+
+		// same results as the String version
+		String s = "a,b,,c,aa,aaa";
+		for(int n = 0; n < 5; n++) {
+			Assert.assertEquals(StringIndex.indexOfOccurrenceN(s, 0, s.length(), n, "aa", 0, 2), ByteIndex.indexOfOccurrenceN(str, 0, str.length, n, aa, 0, 2));
+		}
+	}
+
+
+	@Test
+	public void indexOfNotPrefixedByTest() {
+		byte[] str = bytes("a\\\"b\\\"c\"d");
+		ByteBuffer direct = direct(str);
+
+		Assert.assertEquals(7, ByteIndex.indexOfNotPrefixedBy(str, 0, str.length, bytes("\""), bytes("\\")));
+		Assert.assertEquals(7, ByteIndex.indexOfNotPrefixedBy(direct, 0, str.length, bytes("\""), bytes("\\")));
+		Assert.assertEquals(-1, ByteIndex.indexOfNotPrefixedBy(str, 0, 7, bytes("\""), bytes("\\")));
+		// a prefix which starts before the search range is not checked
+		Assert.assertEquals(2, ByteIndex.indexOfNotPrefixedBy(str, 2, 5, bytes("\""), bytes("\\")));
+		Assert.assertEquals(0, ByteIndex.indexOfNotPrefixedBy(str, 0, str.length, bytes("a"), bytes("\\")));
+	}
+
+
+	/** Periodic byte strings and bytes above 0x7F (negative byte values) */
+	@Test
+	public void repetitiveBytesTest() {
+		byte[] str = bytes("abababac\u00E9\u00E9a");
+		ByteBuffer heap = ByteBuffer.wrap(str);
+		ByteBuffer direct = direct(str);
+
+		Assert.assertEquals(4, ByteIndex.indexOf(str, 1, 12, bytes("abac"), 0, 4));
+		Assert.assertEquals(-1, ByteIndex.indexOf(str, 0, 7, bytes("abac"), 0, 4));
+		Assert.assertEquals(4, ByteIndex.lastIndexOf(str, bytes("aba")));
+		Assert.assertEquals(10, ByteIndex.lastIndexOf(str, bytes("\u00E9")));
+		Assert.assertEquals(10, ByteIndex.lastIndexOf(str, 0, str.length, (byte)0xC3));
+
+		for(ByteBuffer buf : new ByteBuffer[] { heap, direct }) {
+			Assert.assertEquals(2, ByteIndex.indexOf(buf, 0, str.length, bytes("ababac"), 0, 6));
+			Assert.assertEquals(4, ByteIndex.lastIndexOf(buf, bytes("aba")));
+			Assert.assertEquals(10, ByteIndex.indexOf(buf, 9, bytes("\u00E9a")));
+			Assert.assertEquals(9, ByteIndex.indexOf(buf, 0, (byte)0xA9));
+			Assert.assertEquals(-1, ByteIndex.indexOf(buf, 0, 8, (byte)0xA9));
+		}
+	}
+
+
+	private static byte[] bytes(String str) {
+		return str.getBytes(StandardCharsets.UTF_8);
+	}
+
+
+	private static ByteBuffer direct(byte[] bytes) {
+		ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+		buf.put(bytes);
+		buf.clear();
+		return buf;
+	}
+
+}
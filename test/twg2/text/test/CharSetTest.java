@@ -0,0 +1,97 @@
+package twg2.text.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.CharSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class CharSetTest {
+
+	@Test
+	public void containsTest() {
+		CharSet set = new CharSet(",;\"\n\u0000\u007F@\u2460\u00E9\u2460");
+
+		Assert.assertEquals(9, set.size());
+		Assert.assertEquals("\u0000\n\",;@\u007F\u00E9\u2460", set.toString());
+		for(char ch : ",;\"\n\u0000\u007F@\u2460\u00E9".toCharArray()) {
+			Assert.assertTrue(set.contains(ch));
+		}
+		for(char ch : "a \u0001@\u0080\u00E8\u2461\uFFFF".replace("@", "").toCharArray()) {
+			Assert.assertFalse(set.contains(ch));
+		}
+
+		CharSet empty = new CharSet();
+		Assert.assertEquals(0, empty.size());
+		Assert.assertFalse(empty.contains('a'));
+		Assert.assertFalse(empty.contains('\uFFFF'));
+		Assert.assertFalse(empty.contains('\u0000'));
+	}
+
+
+	@Test
+	public void indexOfAnyTest() {
+		CharSet delims = new CharSet(",;\"\n");
+		String[] strs = {   "abc,def;", "\"quoted\"", "no delimiters", "", "a\u2460b\nc" };
+		Integer[] expect = { 3,          0,            -1,              -1, 3 };
+		Integer[] expectLast = { 7,      7,            -1,              -1, 3 };
+
+		CheckTask.assertTests(strs, expect, (s) -> delims.indexOfAny(s, 0));
+		CheckTask.assertTests(strs, expect, (s) -> delims.indexOfAny(s.toCharArray(), 0));
+		CheckTask.assertTests(strs, expect, (s) -> delims.indexOfAny(new StringBuilder(s), 0));
+		CheckTask.assertTests(strs, expectLast, (s) -> delims.lastIndexOfAny(s, 0, s.length()));
+		CheckTask.assertTests(strs, expectLast, (s) -> delims.lastIndexOfAny(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expectLast, (s) -> delims.lastIndexOfAny(new StringBuilder(s), 0, s.length()));
+
+		Assert.assertEquals(7, delims.indexOfAny("abc,def;", 4));
+		Assert.assertEquals(-1, delims.indexOfAny("abc,def;", 4, 3));
+		Assert.assertEquals(-1, delims.lastIndexOfAny("abc,def;", 4, 3));
+		Assert.assertEquals(3, delims.lastIndexOfAny("abc,def;", 1, 6));
+	}
+
+
+	@Test
+	public void indexOfNoneTest() {
+		CharSet whitespace = new CharSet(" \t\r\n\u00A0");
+		String[] strs = {   "  \t a b", "a", "\u00A0\u00A0", "", " \u2460" };
+		Integer[] expect = { 4,         0,   -1,             -1, 1 };
+
+		CheckTask.assertTests(strs, expect, (s) -> whitespace.indexOfNone(s, 0));
+		CheckTask.assertTests(strs, expect, (s) -> whitespace.indexOfNone(s.toCharArray(), 0));
+		CheckTask.assertTests(strs, expect, (s) -> whitespace.indexOfNone(new StringBuilder(s), 0));
+
+		Assert.assertEquals(6, whitespace.indexOfNone("  \t a b", 5));
+		Assert.assertEquals(-1, whitespace.indexOfNone("  \t a b", 0, 3));
+	}
+
+
+	/** Chars on either side of the ASCII bitmap word boundaries and the ASCII/non-ASCII boundary */
+	@Test
+	public void boundaryCharsTest() {
+		CharSet set = new CharSet("?\u0080\uFFFF");
+		for(char ch : "?\u0080\uFFFF".toCharArray()) {
+			Assert.assertTrue(set.contains(ch));
+		}
+		for(char ch : ">@\u007F\u0081\uFFFE".toCharArray()) {
+			Assert.assertFalse(set.contains(ch));
+		}
+
+		String[] strs = {       "@\u007F?", "\u2460\uFFFF", "\u0080", "@@" };
+		Integer[] expectAny =  { 2,           1,                0,        -1 };
+		Integer[] expectNone = { 0,           0,                -1,       0 };
+
+		CheckTask.assertTests(strs, expectAny, (s) -> set.indexOfAny(s, 0));
+		CheckTask.assertTests(strs, expectAny, (s) -> set.lastIndexOfAny(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expectNone, (s) -> set.indexOfNone(new StringBuilder(s), 0));
+
+		CharSet asciiSet = new CharSet("@\u007F");
+		Assert.assertEquals(2, asciiSet.indexOfAny("\u0080\uFFFF@", 0));
+		Assert.assertEquals(0, asciiSet.indexOfNone("\u0080\uFFFF@", 0));
+		Assert.assertEquals(1, asciiSet.lastIndexOfAny("?\u007F\u00FF", 0, 3));
+	}
+
+}
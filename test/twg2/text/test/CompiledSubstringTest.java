@@ -0,0 +1,97 @@
+package twg2.text.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.CompiledSubstring;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class CompiledSubstringTest {
+
+	@Test
+	public void indexOfTest() {
+		String[] strs = {   "----------", "log: ---- end ----------", "abcabcabd", "aaaaaaaaab", "string", "", "aaa" };
+		String[] pats = {   "-----",      "-------",                  "abcabd",    "aaab",       "ring",   "a", "" };
+		Integer[] expect = { 0,           14,                         3,           6,            2,        -1,  0 };
+
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(s, 0));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(s.toCharArray(), 0));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(new StringBuilder(s), 0));
+	}
+
+
+	@Test
+	public void lastIndexOfTest() {
+		String[] strs = {   "----------", "log: ---- end ----------", "abcabdabcabd", "baaaaaaaaa", "string", "", "aaa" };
+		String[] pats = {   "-----",      "-------",                  "abcabd",       "baaa",       "ring",   "a", "" };
+		Integer[] expect = { 5,           17,                         6,              0,            2,        -1,  3 };
+
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).lastIndexOf(s, 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).lastIndexOf(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).lastIndexOf(new StringBuilder(s), 0, s.length()));
+	}
+
+
+	@Test
+	public void countMatchesTest() {
+		String[] strs = {   "----------", "a-b--c---d", "abab", "aaaaa", "" };
+		String[] pats = {   "--",         "--",         "ab",   "aa",    "a" };
+		Integer[] expect = { 5,           2,            2,      2,       0 };
+
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).countMatches(s, 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).countMatches(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).countMatches(new StringBuilder(s), 0, s.length()));
+	}
+
+
+	@Test
+	public void offsetLengthTest() {
+		CompiledSubstring pat = new CompiledSubstring("abc");
+		String str = "abc-abc-abc";
+
+		Assert.assertEquals(4, pat.indexOf(str, 1));
+		Assert.assertEquals(-1, pat.indexOf(str, 1, 5));
+		Assert.assertEquals(4, pat.indexOf(str, 1, 6));
+		Assert.assertEquals(4, pat.lastIndexOf(str, 0, 10));
+		Assert.assertEquals(-1, pat.lastIndexOf(str, 1, 5));
+		Assert.assertEquals(2, pat.countMatches(str, 1, 10));
+
+		CompiledSubstring sub = new CompiledSubstring("--abc--".toCharArray(), 2, 3);
+		Assert.assertEquals(3, sub.length());
+		Assert.assertEquals("abc", sub.toString());
+		Assert.assertEquals(8, sub.indexOf(str.toCharArray(), 5));
+	}
+
+
+	/** Highly repetitive texts and patterns (the worst case for naive and skip table searches) and non-ASCII chars which share a skip table slot with ASCII chars */
+	@Test
+	public void periodicTextTest() {
+		String[] strs = {   "ababababac", "aabaabaabaaab", "bbbbbbbbab", "xyxyxyxz", "\u0161\u0161\u0161a\u0161", "a\u0161\u0100a\u0100\u0161" };
+		String[] pats = {   "ababac",     "aabaaab",       "bab",        "xyxz",     "a\u0161",                   "\u0100\u0161" };
+		Integer[] expect = { 4,           6,               7,            4,          3,                            4 };
+
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(s, 1));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(s.toCharArray(), 1));
+		CheckTask.assertTests(strs, expect, (s, i) -> new CompiledSubstring(pats[i]).indexOf(new StringBuilder(s), 1));
+
+		String[] lastStrs = {   "abababab", "baaabaaaab", "\u0161a\u0161a", "aa\u0161", "abcabcab" };
+		String[] lastPats = {   "aba",      "baaa",       "\u0161a",       "a\u0161",  "cab" };
+		Integer[] lastExpect = { 4,         4,            2,              1,          5 };
+
+		CheckTask.assertTests(lastStrs, lastExpect, (s, i) -> new CompiledSubstring(lastPats[i]).lastIndexOf(s, 0, s.length()));
+		CheckTask.assertTests(lastStrs, lastExpect, (s, i) -> new CompiledSubstring(lastPats[i]).lastIndexOf(s.toCharArray(), 0, s.length()));
+		CheckTask.assertTests(lastStrs, lastExpect, (s, i) -> new CompiledSubstring(lastPats[i]).lastIndexOf(new StringBuilder(s), 0, s.length()));
+
+		String[] countStrs = {   "abababa", "aaaaaaa", "\u0161a\u0161a\u0161", "abaabaab" };
+		String[] countPats = {   "aba",     "aaa",     "a\u0161",             "abaab" };
+		Integer[] countExpect = { 2,        2,         2,                    1 };
+
+		CheckTask.assertTests(countStrs, countExpect, (s, i) -> new CompiledSubstring(countPats[i]).countMatches(s, 0, s.length()));
+		CheckTask.assertTests(countStrs, countExpect, (s, i) -> new CompiledSubstring(countPats[i]).countMatches(s.toCharArray(), 0, s.length()));
+	}
+
+}
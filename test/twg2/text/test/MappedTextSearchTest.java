@@ -0,0 +1,123 @@
+package twg2.text.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.AhoCorasickMatcher;
+import twg2.text.stringSearch.MappedTextSearch;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class MappedTextSearchTest {
+
+	@Test
+	public void indexOfTest() throws IOException {
+		String text = "2026-10-18 INFO start\n2026-10-18 WARN \u00E9t\u00E9 slow\n2026-10-18 ERROR failed\n";
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		Path file = tempFile(bytes);
+
+		// small segments so that matches span segment boundaries
+		for(int segmentSize : new int[] { 7, 16, 1 << 20 }) {
+			try(MappedTextSearch search = new MappedTextSearch(file, segmentSize, 8)) {
+				Assert.assertEquals(bytes.length, search.size());
+				Assert.assertEquals(21, search.indexOf((byte)'\n', 0));
+				Assert.assertEquals(indexOf(bytes, "\n2026".getBytes(StandardCharsets.UTF_8), 22), search.indexOf("\n2026", StandardCharsets.UTF_8, 22));
+				Assert.assertEquals(indexOf(bytes, "\u00E9t\u00E9".getBytes(StandardCharsets.UTF_8), 0), search.indexOf("\u00E9t\u00E9", StandardCharsets.UTF_8, 0));
+				Assert.assertEquals(indexOf(bytes, "ERROR".getBytes(StandardCharsets.UTF_8), 0), search.indexOf("ERROR", StandardCharsets.UTF_8, 0));
+				Assert.assertEquals(-1, search.indexOf("DEBUG", StandardCharsets.UTF_8, 0));
+				Assert.assertEquals(-1, search.indexOf("ERROR", StandardCharsets.UTF_8, 61));
+				Assert.assertEquals(3, search.countMatches("2026", StandardCharsets.UTF_8));
+				Assert.assertEquals(3, search.countMatches((byte)'\n'));
+				Assert.assertEquals((byte)'W', search.byteAt(33));
+
+				CheckTask.assertException(() -> search.indexOf("longer than 8 bytes", StandardCharsets.UTF_8, 0));
+			}
+		}
+		Files.delete(file);
+	}
+
+
+	@Test
+	public void multiPatternTest() throws IOException {
+		String text = "ushers and his hers";
+		Path file = tempFile(text.getBytes(StandardCharsets.ISO_8859_1));
+		AhoCorasickMatcher needles = MappedTextSearch.compileNeedles(Arrays.asList("he", "she", "his", "hers", "he"), StandardCharsets.ISO_8859_1);
+
+		for(int segmentSize : new int[] { 3, 5, 100 }) {
+			try(MappedTextSearch search = new MappedTextSearch(file, segmentSize, 4)) {
+				Assert.assertEquals(1, search.indexOfAny(needles, 0));
+				Assert.assertEquals(11, search.indexOfAny(needles, 3));
+				Assert.assertEquals(-1, search.indexOfAny(needles, 17));
+
+				List<String> matches = new ArrayList<>();
+				long count = search.forEachMatch(needles, 0, (idx, start, end) -> matches.add(idx + "@" + start + "-" + end));
+				Assert.assertEquals(Arrays.asList("1@1-4", "0@2-4", "4@2-4", "3@2-6", "2@11-14", "0@15-17", "4@15-17", "3@15-19"), matches);
+				Assert.assertEquals(8, count);
+
+				// stop early
+				matches.clear();
+				count = search.forEachMatch(needles, 3, (idx, start, end) -> matches.add(idx + "@" + start + "-" + end) && matches.size() < 2);
+				Assert.assertEquals(Arrays.asList("2@11-14", "0@15-17"), matches);
+				Assert.assertEquals(2, count);
+			}
+		}
+		Files.delete(file);
+	}
+
+
+	@Test
+	public void segmentBoundaryTest() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 30; i++) {
+			sb.append("aaaa,aaaa\n");
+		}
+		byte[] bytes = sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+		Path file = tempFile(bytes);
+
+		// segments start at 97, 194, and 291, so the repetitive matches below span segment boundaries
+		try(MappedTextSearch search = new MappedTextSearch(file, 97, 6)) {
+			Assert.assertEquals(96, search.indexOf("aaa", StandardCharsets.ISO_8859_1, 96));
+			Assert.assertEquals(60, search.countMatches("aaa", StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(287, search.indexOf("aa\naa", StandardCharsets.ISO_8859_1, 280));
+			Assert.assertEquals(29, search.countMatches("aa\naa", StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(198, search.indexOf("a\naaaa", StandardCharsets.ISO_8859_1, 190));
+			Assert.assertEquals(29, search.countMatches("a\naaaa", StandardCharsets.ISO_8859_1));
+			Assert.assertEquals(-1, search.indexOf(",", StandardCharsets.ISO_8859_1, 295));
+			Assert.assertEquals(30, search.countMatches((byte)','));
+		}
+		Files.delete(file);
+	}
+
+
+	private static Path tempFile(byte[] bytes) throws IOException {
+		Path file = Files.createTempFile("mapped-text-search", ".txt");
+		Files.write(file, bytes);
+		return file;
+	}
+
+
+	private static int indexOf(byte[] bytes, byte[] needle, int from) {
+		outer:
+		for(int i = from; i <= bytes.length - needle.length; i++) {
+			for(int j = 0; j < needle.length; j++) {
+				if(bytes[i + j] != needle[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+}
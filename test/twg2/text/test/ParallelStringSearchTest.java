@@ -0,0 +1,118 @@
+package twg2.text.test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.CompiledSubstring;
+import twg2.text.stringSearch.ParallelStringSearch;
+import twg2.text.stringSearch.StringIndex;
+
+import static twg2.text.test.utils.StringTestUtils.randomStr;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class ParallelStringSearchTest {
+	private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+
+	@Test
+	public void crossBoundaryTest() {
+		// chunks of 4 start indices, so "abc" at index 3 crosses the first chunk boundary
+		ParallelStringSearch search = new ParallelStringSearch(pool, 4);
+		char[] str = "xxxabcxxabcxxxxabc".toCharArray();
+		char[] abc = "abc".toCharArray();
+
+		Assert.assertEquals(3, search.indexOf(str, 0, str.length, abc, 0, 3));
+		Assert.assertEquals(8, search.indexOf(str, 4, str.length - 4, abc, 0, 3));
+		Assert.assertEquals(15, search.lastIndexOf(str, 0, str.length, abc, 0, 3));
+		Assert.assertEquals(8, search.lastIndexOf(str, 0, str.length - 1, abc, 0, 3));
+		Assert.assertEquals(-1, search.indexOf(str, 0, 5, abc, 0, 3));
+		Assert.assertEquals(3, search.countMatches(str, 0, str.length, abc, 0, 3));
+		Assert.assertArrayEquals(new int[] { 3, 8, 15 }, search.indexOfAll(str, 0, str.length, abc, 0, 3));
+		Assert.assertArrayEquals(new int[] { 8 }, search.indexOfAll(str, 4, 10, abc, 0, 3));
+
+		Assert.assertEquals(4, search.indexOf(str, 0, str.length, 'b'));
+		Assert.assertEquals(16, search.lastIndexOf(str, 0, str.length, 'b'));
+		Assert.assertEquals(9, search.countMatches(str, 0, str.length, 'x'));
+		Assert.assertArrayEquals(new int[] { 5, 10, 17 }, search.indexOfAll(str, 0, str.length, 'c'));
+	}
+
+
+	@Test
+	public void selfOverlappingTest() {
+		ParallelStringSearch search = new ParallelStringSearch(pool, 2);
+		char[] str = "aaaaabaaaa".toCharArray();
+		char[] aa = "aa".toCharArray();
+
+		// matches are non-overlapping from left to right, the same as StringSplit.countMatches()
+		Assert.assertEquals(4, search.countMatches(str, 0, str.length, aa, 0, 2));
+		Assert.assertArrayEquals(new int[] { 0, 2, 6, 8 }, search.indexOfAll(str, 0, str.length, aa, 0, 2));
+		Assert.assertArrayEquals(new int[] { 1, 3, 6, 8 }, search.indexOfAll(str, 1, str.length - 1, aa, 0, 2));
+
+		char[] abab = "xababababx".toCharArray();
+		Assert.assertArrayEquals(new int[] { 1, 5 }, search.indexOfAll(abab, 0, abab.length, "abab".toCharArray(), 0, 4));
+		Assert.assertEquals(2, search.countMatches(abab, 0, abab.length, "abab".toCharArray(), 0, 4));
+
+		// odd length chunks of a long run, every chunk after the first is re-counted from the end of the previous chunk's last match
+		char[] run = new char[1001];
+		Arrays.fill(run, 'a');
+		for(int chunkLength : new int[] { 1, 3, 7, 64 }) {
+			ParallelStringSearch runSearch = new ParallelStringSearch(pool, chunkLength);
+			Assert.assertEquals(500, runSearch.countMatches(run, 0, run.length, aa, 0, 2));
+			Assert.assertEquals(333, runSearch.countMatches(run, 1, run.length - 1, "aaa".toCharArray(), 0, 3));
+			Assert.assertEquals(500, runSearch.indexOfAll(run, 0, run.length, aa, 0, 2).length);
+		}
+	}
+
+
+	@Test
+	public void emptyAndShortTest() {
+		ParallelStringSearch search = new ParallelStringSearch(pool, 3);
+		char[] str = "abc".toCharArray();
+
+		Assert.assertEquals(1, search.indexOf(str, 1, 2, new char[0], 0, 0));
+		Assert.assertEquals(3, search.lastIndexOf(str, 1, 2, new char[0], 0, 0));
+		Assert.assertEquals(-1, search.indexOf(str, 0, 3, "abcd".toCharArray(), 0, 4));
+		Assert.assertEquals(0, search.countMatches(str, 0, 3, "abcd".toCharArray(), 0, 4));
+		Assert.assertEquals(0, search.indexOfAll(str, 0, 0, 'a').length);
+
+		CheckTask.assertException(() -> search.countMatches(str, 0, 3, new char[0], 0, 0));
+		CheckTask.assertException(() -> search.indexOfAll(str, 0, 3, new char[0], 0, 0));
+		CheckTask.assertException(() -> new ParallelStringSearch(pool, 0));
+	}
+
+
+	@Test
+	public void compareToSequentialRandomTest() {
+		Random rand = new Random(13);
+		char[] alphabet = { 'a', 'b', 'c' };
+		for(int i = 0; i < 300; i++) {
+			char[] str = randomStr(rand, alphabet, rand.nextInt(400)).toCharArray();
+			String sub = randomStr(rand, alphabet, 1 + rand.nextInt(4));
+			char[] subStr = sub.toCharArray();
+			int off = rand.nextInt(str.length + 1);
+			int len = rand.nextInt(str.length - off + 1);
+			ParallelStringSearch search = new ParallelStringSearch(pool, 1 + rand.nextInt(40));
+			CompiledSubstring compiled = new CompiledSubstring(sub);
+
+			Assert.assertEquals(StringIndex.indexOf(str, off, len, subStr, 0, subStr.length), search.indexOf(str, off, len, subStr, 0, subStr.length));
+			Assert.assertEquals(compiled.lastIndexOf(str, off, len), search.lastIndexOf(str, off, len, subStr, 0, subStr.length));
+			Assert.assertEquals(compiled.countMatches(str, off, len), search.countMatches(str, off, len, subStr, 0, subStr.length));
+
+			int[] expect = new int[len];
+			int n = 0;
+			for(int idx = compiled.indexOf(str, off, len); idx > -1; idx = compiled.indexOf(str, idx + subStr.length, off + len - idx - subStr.length)) {
+				expect[n++] = idx;
+			}
+			Assert.assertArrayEquals(Arrays.copyOf(expect, n), search.indexOfAll(str, off, len, subStr, 0, subStr.length));
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.PrefixSet;
+import twg2.text.stringSearch.StringCompare;
+import twg2.text.stringSearch.SuffixSet;
+
+/** Tests for {@link PrefixSet} and {@link SuffixSet}
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class PrefixSetTest {
+
+	@Test
+	public void prefixSetTest() {
+		PrefixSet set = new PrefixSet("/api/", "/api/v2/", "/static/", "/api/v2/users", "/api/");
+
+		Assert.assertEquals(5, set.size());
+		Assert.assertEquals("/static/", set.getPrefix(2));
+		Assert.assertTrue(set.startsWithAny("/api/v2/users/5"));
+		Assert.assertTrue(set.startsWithAny(new StringBuilder("/static/a.js")));
+		Assert.assertFalse(set.startsWithAny("/ap"));
+		Assert.assertFalse(set.startsWithAny(""));
+
+		Assert.assertEquals(3, set.longestMatch("/api/v2/users/5"));
+		Assert.assertEquals(1, set.longestMatch("/api/v2/items"));
+		Assert.assertEquals(0, set.longestMatch("/api/v1"));
+		Assert.assertEquals(-1, set.longestMatch("/stat"));
+		Assert.assertEquals(1, set.longestMatch("x/api/v2/users", 1, 9));
+
+		// duplicates report the first index
+		List<Integer> matches = new ArrayList<>();
+		Assert.assertEquals(3, set.forEachMatch("/api/v2/users", matches::add));
+		Assert.assertEquals(Arrays.asList(0, 1, 3), matches);
+
+		PrefixSet withEmpty = new PrefixSet("ab", "", "a");
+		Assert.assertTrue(withEmpty.startsWithAny("xyz"));
+		Assert.assertEquals(1, withEmpty.longestMatch("xyz"));
+		Assert.assertEquals(0, withEmpty.longestMatch("abc"));
+		matches.clear();
+		Assert.assertEquals(3, withEmpty.forEachMatch("abc", matches::add));
+		Assert.assertEquals(Arrays.asList(1, 2, 0), matches);
+
+		PrefixSet empty = new PrefixSet();
+		Assert.assertFalse(empty.startsWithAny("abc"));
+		Assert.assertEquals(-1, empty.longestMatch("abc"));
+
+		CheckTask.assertException(() -> new PrefixSet("a", null));
+	}
+
+
+	@Test
+	public void suffixSetTest() {
+		SuffixSet set = new SuffixSet(".gz", ".tar.gz", ".txt", "s.tar.gz");
+
+		Assert.assertEquals(4, set.size());
+		Assert.assertEquals(".txt", set.getSuffix(2));
+		Assert.assertTrue(set.endsWithAny("backup.tar.gz"));
+		Assert.assertTrue(set.endsWithAny(new StringBuilder("notes.txt")));
+		Assert.assertFalse(set.endsWithAny("notes.tx"));
+		Assert.assertFalse(set.endsWithAny(""));
+
+		Assert.assertEquals(3, set.longestMatch("logs.tar.gz"));
+		Assert.assertEquals(1, set.longestMatch("log.tar.gz"));
+		Assert.assertEquals(0, set.longestMatch("log.gz"));
+		Assert.assertEquals(-1, set.longestMatch("log.zip"));
+		// only the [1, 6) portion 'a.txt' is compared
+		Assert.assertEquals(2, set.longestMatch("_a.txt!", 1, 5));
+
+		List<Integer> matches = new ArrayList<>();
+		Assert.assertEquals(3, set.forEachMatch("logs.tar.gz", matches::add));
+		Assert.assertEquals(Arrays.asList(0, 1, 3), matches);
+
+		// surrogate pairs are compared char by char
+		SuffixSet emoji = new SuffixSet("\uD83D\uDE00", "a\uD83D\uDE00");
+		Assert.assertEquals(1, emoji.longestMatch("xa\uD83D\uDE00"));
+		Assert.assertEquals(0, emoji.longestMatch("\uD83D\uDE00"));
+
+		SuffixSet withEmpty = new SuffixSet("", "c");
+		Assert.assertTrue(withEmpty.endsWithAny("xyz"));
+		Assert.assertEquals(0, withEmpty.longestMatch("xyz"));
+		Assert.assertEquals(1, withEmpty.longestMatch("abc"));
+
+		CheckTask.assertException(() -> new SuffixSet((String)null));
+	}
+
+
+	@Test
+	public void nestedPrefixesAndSuffixesTest() {
+		// sub-strings which are prefixes/suffixes of each other
+		String[] subStrs = { "a", "ab", "abc", "b", "ba", "cba" };
+		PrefixSet prefixes = new PrefixSet(subStrs);
+		SuffixSet suffixes = new SuffixSet(subStrs);
+		String[] strs = { "", "a", "ab", "abcd", "bab", "cba", "c" };
+
+		CheckTask.assertTests(strs, new Integer[] { -1, 0, 1, 2, 4, 5, -1 }, (s) -> prefixes.longestMatch(s));
+		CheckTask.assertTests(strs, new Integer[] { -1, 0, 1, -1, 1, 5, -1 }, (s) -> suffixes.longestMatch(s));
+		CheckTask.assertTests(strs, new Integer[] { 0, 1, 2, 3, 2, 1, 0 }, (s) -> prefixes.forEachMatch(s, (idx) -> Assert.assertTrue(s.startsWith(subStrs[idx]))));
+		CheckTask.assertTests(strs, new Integer[] { 0, 1, 2, 0, 2, 3, 0 }, (s) -> suffixes.forEachMatch(s, (idx) -> Assert.assertTrue(s.endsWith(subStrs[idx]))));
+
+		for(String str : strs) {
+			Assert.assertEquals(str, StringCompare.startsWithAny(str, subStrs), prefixes.startsWithAny(str));
+			Assert.assertEquals(str, StringCompare.endsWithAny(str, subStrs), suffixes.endsWithAny(str));
+		}
+	}
+
+}
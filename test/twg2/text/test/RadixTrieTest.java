@@ -0,0 +1,80 @@
+package twg2.text.test;
+
+import java.util.AbstractMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.RadixTrie;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class RadixTrieTest {
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void longestMatchTest() {
+		Map.Entry<String, Integer>[] entries = new Map.Entry[] {
+			entry("romane", 0),
+			entry("romanus", 1),
+			entry("romulus", 2),
+			entry("rubens", 3),
+			entry("ruber", 4),
+			entry("rub", 5),
+			entry("rubicon", 6),
+			entry("rub", 7),
+		};
+		RadixTrie<Integer> trie = new RadixTrie<>(entries);
+
+		Assert.assertEquals(8, trie.size());
+		Assert.assertEquals(1, trie.longestMatch("romanus", 0, 7));
+		Assert.assertEquals(-1, trie.longestMatch("romanus", 0, 6));
+		Assert.assertEquals(-1, trie.longestMatch("roman", 0, 5));
+		// duplicate keys return the first entry
+		Assert.assertEquals(5, trie.longestMatch("rubric", 0, 6));
+		Assert.assertEquals(4, trie.longestMatch("=ruberoid", 1, 8));
+		Assert.assertEquals(6, trie.longestMatch("rubicon".toCharArray(), 0, 7));
+		Assert.assertEquals(5, trie.longestMatch("rubico".toCharArray(), 0, 6));
+		Assert.assertEquals(-1, trie.longestMatch("ru", 0, 2));
+		Assert.assertEquals(-1, trie.longestMatch("x", 0, 1));
+		Assert.assertEquals(entries[2], trie.longestMatchEntry("==romulus", 2));
+		Assert.assertEquals(null, trie.longestMatchEntry("==romulus", 3));
+
+		Assert.assertEquals(-1, new RadixTrie<Integer>(new Map.Entry[0]).longestMatch("a", 0, 1));
+		CheckTask.assertException(() -> new RadixTrie<Integer>(new Map.Entry[] { entry("a", 1), entry("", 2) }));
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void manyChildrenTest() {
+		// enough children of the root node that they are binary searched
+		Map.Entry<String, Integer>[] entries = new Map.Entry[14];
+		for(int i = 0; i < 10; i++) {
+			entries[i] = entry(String.valueOf((char)('a' + i)), i);
+		}
+		entries[10] = entry("ja", 10);
+		entries[11] = entry("jab", 11);
+		entries[12] = entry("jz", 12);
+		entries[13] = entry("\u0100x", 13);
+		RadixTrie<Integer> trie = new RadixTrie<>(entries);
+
+		String[] strs =    { "jabber", "jar", "jz", "jy", "k", "\u0100x", "\u0100", "-a", "jab" };
+		Integer[] offs =   { 0,        0,     0,    0,    0,   0,          0,        1,    0 };
+		Integer[] lens =   { 6,        3,     2,    2,    1,   2,          1,        1,    2 };
+		Integer[] expect = { 11,       10,    12,   9,    -1,  13,         -1,       0,    10 };
+
+		CheckTask.assertTests(strs, expect, (s, i) -> trie.longestMatch(s, offs[i], lens[i]));
+		CheckTask.assertTests(strs, expect, (s, i) -> trie.longestMatch(s.toCharArray(), offs[i], lens[i]));
+	}
+
+
+	private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+		return new AbstractMap.SimpleImmutableEntry<>(key, value);
+	}
+
+}
@@ -0,0 +1,79 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.SortedPrefixIndex;
+import twg2.text.stringSearch.StringIndex;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SortedPrefixIndexTest {
+
+	@Test
+	public void prefixRangeTest() {
+		SortedPrefixIndex idx = new SortedPrefixIndex(new String[] { "app", "apple", "apple", "applet", "apply", "banana", "band", "can" });
+
+		Assert.assertEquals(8, idx.size());
+		Assert.assertEquals("apply", idx.get(4));
+		Assert.assertTrue(idx.anyStartWith("ban"));
+		Assert.assertTrue(idx.anyStartWith(new StringBuilder("can")));
+		Assert.assertFalse(idx.anyStartWith("cane"));
+		Assert.assertFalse(idx.anyStartWith("bx"));
+		Assert.assertFalse(idx.anyStartWith("aa"));
+		Assert.assertFalse(idx.anyStartWith("z"));
+
+		Assert.assertEquals(1, idx.fromIndex("appl", 0, 4));
+		Assert.assertEquals(5, idx.toIndex("appl", 0, 4));
+		Assert.assertEquals(5, idx.toIndex(1, "appl", 0, 4));
+		Assert.assertEquals(4, idx.count("appl"));
+		Assert.assertEquals(3, idx.count("apple"));
+		Assert.assertEquals(0, idx.count("bx"));
+		Assert.assertEquals(8, idx.count(""));
+		Assert.assertEquals(5, idx.startsWithIndex("_band_", 1, 3));
+		Assert.assertEquals(-1, idx.startsWithIndex("_band_", 1, 5));
+
+		Assert.assertEquals(Arrays.asList("apple", "apple"), idx.startingWith("appl", 2));
+		Assert.assertEquals(Arrays.asList("banana", "band"), idx.startingWith("ban", 10));
+		Assert.assertEquals(Arrays.asList(), idx.startingWith("ban", 0));
+		Assert.assertEquals(Arrays.asList(), idx.startingWith("cat", 5));
+
+		List<String> dst = new ArrayList<>();
+		Assert.assertEquals(3, idx.forEachStartingWith("app", 3, dst::add));
+		Assert.assertEquals(Arrays.asList("app", "apple", "apple"), dst);
+
+		CheckTask.assertException(() -> idx.startingWith("a", -1));
+		CheckTask.assertException(() -> new SortedPrefixIndex(new String[] { "b", "a" }));
+		CheckTask.assertException(() -> new SortedPrefixIndex(Arrays.asList("a", null)));
+
+		SortedPrefixIndex empty = new SortedPrefixIndex(new String[0]);
+		Assert.assertFalse(empty.anyStartWith(""));
+		Assert.assertEquals(0, empty.count("a"));
+	}
+
+
+	@Test
+	public void boundaryPrefixesTest() {
+		// an empty string, prefixes which are entire strings, and '\uFFFF' which sorts after every other char
+		List<String> strs = Arrays.asList("", "a", "ab", "a\uFFFF", "b", "b\uFFFF\uFFFF");
+		SortedPrefixIndex idx = new SortedPrefixIndex(strs);
+		String[] prefixes = { "a", "ab", "abc", "a\uFFFF", "b\uFFFF", "\uFFFF", "c" };
+
+		CheckTask.assertTests(prefixes, new Integer[] { 3, 1, 0, 1, 1, 0, 0 }, (s) -> idx.count(s));
+		CheckTask.assertTests(prefixes, new Integer[] { 1, 2, -1, 3, 5, -1, -1 }, (s) -> idx.startsWithIndex(s, 0, s.length()));
+
+		for(String prefix : prefixes) {
+			Assert.assertEquals(prefix, StringIndex.startsWithIndex(strs, prefix, 0), idx.startsWithIndex(prefix, 0, prefix.length()));
+		}
+		Assert.assertEquals(6, idx.count(""));
+		Assert.assertEquals(Arrays.asList("b", "b\uFFFF\uFFFF"), idx.startingWith("b", 5));
+	}
+
+}
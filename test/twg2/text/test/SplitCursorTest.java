@@ -0,0 +1,128 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringUtils.SplitCursor;
+import twg2.text.stringUtils.StringSplit;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SplitCursorTest {
+
+	private static final String[] inputs = { "a,,b,", "", ",", "abc", "123,-45,+6,,x", ",a,bc,def,,g,", "a,b\u2460c,\u2460" };
+
+
+	@Test
+	public void nextTest() {
+		SplitCursor cursor = new SplitCursor();
+
+		for(String input : inputs) {
+			List<String> expect = StringSplit.split(input, ',');
+			Assert.assertEquals(expect, fields(cursor.reset(input, ',')));
+			Assert.assertEquals(expect, fields(cursor.reset(input.toCharArray(), 0, input.length(), ',')));
+			Assert.assertEquals(expect, fields(cursor.reset(new StringBuilder(input), 0, input.length(), ',')));
+		}
+	}
+
+
+	@Test
+	public void offsetLengthTest() {
+		String input = "--a,b,c--";
+		SplitCursor[] cursors = {
+			new SplitCursor().reset(input, 2, 5, ','),
+			new SplitCursor().reset(input.toCharArray(), 2, 5, ','),
+			new SplitCursor().reset(new StringBuilder(input), 2, 5, ',')
+		};
+
+		for(SplitCursor cursor : cursors) {
+			Assert.assertTrue(cursor.next());
+			Assert.assertEquals(2, cursor.getStart());
+			Assert.assertEquals(3, cursor.getEnd());
+			Assert.assertTrue(cursor.advanceTo(2));
+			Assert.assertEquals(2, cursor.getFieldIndex());
+			Assert.assertEquals("c", cursor.getString());
+			Assert.assertFalse(cursor.next());
+		}
+	}
+
+
+	@Test
+	public void compareTest() {
+		SplitCursor cursor = new SplitCursor().reset("INFO,ERROR,ERR", ',');
+		cursor.next();
+		Assert.assertTrue(cursor.fieldEquals("INFO"));
+		Assert.assertFalse(cursor.fieldEquals("INF"));
+		Assert.assertTrue(cursor.fieldStartsWith("IN"));
+		Assert.assertTrue(cursor.fieldStartsWith(""));
+		cursor.next();
+		Assert.assertTrue(cursor.fieldEquals(new StringBuilder("ERROR")));
+		Assert.assertEquals('R', cursor.charAt(4));
+		Assert.assertTrue(cursor.compareField("ERR") > 0);
+		Assert.assertTrue(cursor.compareField("EXX") < 0);
+		Assert.assertEquals(0, cursor.compareField("ERROR"));
+		cursor.next();
+		Assert.assertFalse(cursor.fieldStartsWith("ERROR"));
+	}
+
+
+	@Test
+	public void parseTest() {
+		// non-ASCII digits are accepted the same as Integer.parseInt()
+		String[] strs = { "0", "-45", "+6", "2147483647", "-2147483648", "007", "\u0661\u0662", "-\uFF13" };
+		Integer[] expect = { 0, -45, 6, Integer.MAX_VALUE, Integer.MIN_VALUE, 7, 12, -3 };
+		SplitCursor cursor = new SplitCursor();
+
+		CheckTask.assertTests(strs, expect, (s) -> {
+			cursor.reset(":" + s + ":", ':');
+			cursor.advanceTo(1);
+			return cursor.parseInt();
+		});
+
+		cursor.reset(Long.MIN_VALUE + "," + Long.MAX_VALUE + ",2147483648", ',');
+		cursor.next();
+		Assert.assertEquals(Long.MIN_VALUE, cursor.parseLong());
+		cursor.next();
+		Assert.assertEquals(Long.MAX_VALUE, cursor.parseLong());
+		cursor.next();
+		Assert.assertEquals(2147483648L, cursor.parseLong());
+		CheckTask.assertException(() -> cursor.parseInt());
+
+		for(String invalid : new String[] { "", "-", "+", "1a", "9223372036854775808", "-9223372036854775809", "\u00BD" }) {
+			cursor.reset(invalid.toCharArray(), 0, invalid.length(), ',');
+			cursor.next();
+			CheckTask.assertException(() -> cursor.parseLong());
+		}
+	}
+
+
+	@Test
+	public void copyTest() {
+		SplitCursor cursor = new SplitCursor().reset("abc,de".toCharArray(), 0, 6, ',');
+		cursor.advanceTo(1);
+		char[] dst = new char[4];
+		Assert.assertEquals(2, cursor.copyField(dst, 1));
+		Assert.assertArrayEquals(new char[] { 0, 'd', 'e', 0 }, dst);
+		Assert.assertEquals("=de", cursor.appendField(new StringBuilder("=")).toString());
+
+		cursor.reset("abc,de", ',').next();
+		Assert.assertEquals(3, cursor.copyField(dst, 0));
+		Assert.assertEquals("abc", cursor.appendField(new StringBuilder()).toString());
+	}
+
+
+	private static List<String> fields(SplitCursor cursor) {
+		List<String> res = new ArrayList<>();
+		while(cursor.next()) {
+			res.add(cursor.getString());
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,91 @@
+package twg2.text.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.AhoCorasickMatcher;
+import twg2.text.stringSearch.StreamingMatcher;
+import twg2.text.test.utils.StringChunkReader;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StreamingMatcherTest {
+
+	@Test
+	public void crossChunkMatchTest() throws IOException {
+		List<String> matches = new ArrayList<>();
+		StreamingMatcher matcher = new StreamingMatcher(Arrays.asList("ERROR", "WARN", "ERR"), (idx, start, end) -> {
+			matches.add(idx + ":" + start + "-" + end);
+			return true;
+		});
+
+		// "ERROR" spans three chunks, "WARN" spans two
+		Assert.assertTrue(matcher.feed(new StringChunkReader(Arrays.asList("ok E", "R", "ROR ok WA", "RN"))));
+		Assert.assertEquals(Arrays.asList("2:3-6", "0:3-8", "1:12-16"), matches);
+		Assert.assertEquals(16, matcher.getPosition());
+		Assert.assertEquals(3, matcher.getMatchCount());
+
+		// feeding more chunks continues from the current stream offset
+		Assert.assertTrue(matcher.feed("xxERR".toCharArray(), 2, 3));
+		Assert.assertTrue(matcher.feed(new StringBuilder("OR"), 0, 2));
+		Assert.assertEquals(Arrays.asList("2:3-6", "0:3-8", "1:12-16", "2:16-19", "0:16-21"), matches);
+		Assert.assertEquals(21, matcher.getPosition());
+
+		matches.clear();
+		matcher.reset();
+		Assert.assertTrue(matcher.feed("WARN", 0, 4));
+		Assert.assertEquals(Arrays.asList("1:0-4"), matches);
+		Assert.assertEquals(4, matcher.getPosition());
+	}
+
+
+	@Test
+	public void stopAndDuplicatesTest() {
+		List<String> matches = new ArrayList<>();
+		StreamingMatcher matcher = new StreamingMatcher(new AhoCorasickMatcher("ab", "b", "ab"), (idx, start, end) -> {
+			matches.add(idx + ":" + start + "-" + end);
+			return matches.size() < 4;
+		});
+
+		Assert.assertTrue(matcher.feed("xab", 0, 3));
+		Assert.assertEquals(Arrays.asList("0:1-3", "2:1-3", "1:2-3"), matches);
+		Assert.assertFalse(matcher.feed("abab", 0, 4));
+		Assert.assertEquals(Arrays.asList("0:1-3", "2:1-3", "1:2-3", "0:3-5"), matches);
+		Assert.assertTrue(matcher.isStopped());
+		Assert.assertEquals(5, matcher.getPosition());
+		Assert.assertFalse(matcher.feed("ab", 0, 2));
+		Assert.assertEquals(4, matches.size());
+
+		CheckTask.assertException(() -> new StreamingMatcher(Arrays.asList("a", ""), (idx, start, end) -> true));
+	}
+
+
+	@Test
+	public void singleCharChunksTest() throws IOException {
+		// overlapping patterns in periodic text, fed one char at a time, match the same as the whole text
+		String text = "abcabcabab";
+		AhoCorasickMatcher ac = new AhoCorasickMatcher("abcab", "cab", "b", "abab");
+		List<String> expect = new ArrayList<>();
+		ac.forEachMatch(text, 0, text.length(), (idx, start, end) -> expect.add(idx + ":" + start + "-" + end));
+		Assert.assertEquals(Arrays.asList("2:1-2", "0:0-5", "1:2-5", "2:4-5", "0:3-8", "1:5-8", "2:7-8", "3:6-10", "2:9-10"), expect);
+
+		List<String> chunks = new ArrayList<>();
+		for(int i = 0; i < text.length(); i++) {
+			chunks.add(text.substring(i, i + 1));
+		}
+		List<String> actual = new ArrayList<>();
+		StreamingMatcher matcher = new StreamingMatcher(ac, (idx, start, end) -> actual.add(idx + ":" + start + "-" + end));
+		Assert.assertTrue(matcher.feed(new StringChunkReader(chunks)));
+		Assert.assertEquals(expect, actual);
+		Assert.assertEquals(text.length(), matcher.getPosition());
+	}
+
+}
@@ -1,9 +1,13 @@
 package twg2.text.test;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -137,6 +141,99 @@ public class StringCommonalityTest {
 	}
 
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void commonPrefixLengthTest() {
+		Entry<String, Integer>[] entries = new Entry[] {
+				of("String+Aa", 1),
+				of("String+Ab", 2),
+				of("String+Ac", 3),
+		};
+		Assert.assertEquals(8, StringCommonality.commonPrefixLength(0, entries, true));
+		Assert.assertEquals(8, StringCommonality.commonPrefixLength(0, entries, false));
+		Assert.assertEquals(1, StringCommonality.commonPrefixLength(7, entries, true));
+		Assert.assertEquals(0, StringCommonality.commonPrefixLength(10, entries, false));
+		Assert.assertEquals(0, StringCommonality.commonPrefixLength(0, new Entry[0], true));
+
+		// sorted, but the chars past the offset are not sorted because the strings differ before the offset
+		List<String> strs = Arrays.asList("aXb", "bXa", "cXb");
+		Assert.assertEquals(1, StringCommonality.commonPrefixLength(1, strs, true));
+		Assert.assertEquals(1, StringCommonality.commonPrefixLength(1, strs, false));
+		Assert.assertEquals(1, StringCommonality.commonPrefixLength(1, new LinkedList<>(strs), false));
+		Assert.assertEquals(0, StringCommonality.commonPrefixLength(0, strs, true));
+		Assert.assertEquals(0, StringCommonality.commonPrefixLength(0, Arrays.asList(), false));
+
+		CheckTask.assertException(() -> StringCommonality.commonPrefixLength(0, strs, ForkJoinPool.commonPool(), 0));
+	}
+
+
+	@Test
+	public void commonPrefixLengthLargeListTest() {
+		// enough strings to split into many parallel chunks, with and without one shorter prefix near the end
+		String[] suffixes = { "", "a", "ba", "bb" };
+		List<String> strs = new ArrayList<>();
+		for(int i = 0; i < 3000; i++) {
+			strs.add("abab" + suffixes[i % suffixes.length]);
+		}
+		List<String> withOutlier = new ArrayList<>(strs);
+		withOutlier.set(2500, "abb");
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			int[] offsets = { 0, 1, 3, 4 };
+			int[] expect = { 4, 3, 1, 0 };
+			int[] expectOutlier = { 2, 1, 0, 0 };
+			for(int i = 0; i < offsets.length; i++) {
+				int offset = offsets[i];
+				Assert.assertEquals(expect[i], StringCommonality.commonPrefixLength(offset, strs, false));
+				Assert.assertEquals(expect[i], StringCommonality.commonPrefixLength(offset, strs, pool, 16));
+				Assert.assertEquals(expect[i], StringCommonality.commonPrefixLength(offset, strs, pool));
+				Assert.assertEquals(expectOutlier[i], StringCommonality.commonPrefixLength(offset, withOutlier, false));
+				Assert.assertEquals(expectOutlier[i], StringCommonality.commonPrefixLength(offset, withOutlier, pool, 16));
+				Assert.assertEquals(expectOutlier[i], StringCommonality.commonPrefixLength(offset, withOutlier, pool));
+				Assert.assertEquals(expectOutlier[i], StringCommonality.findPrefix(offset, withOutlier).length());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		Collections.sort(withOutlier);
+		Assert.assertEquals(2, StringCommonality.commonPrefixLength(0, withOutlier, true));
+		Assert.assertEquals(1, StringCommonality.commonPrefixLength(1, withOutlier, true));
+	}
+
+
+	@Test
+	public void longestCommonSubstringTest() {
+		List<String> strs = Arrays.asList(
+				"user 42 logged in from 10.0.0.1",
+				"user 7 logged in from 10.0.0.9",
+				"admin logged in from host"
+		);
+		Assert.assertEquals(" logged in from ", StringCommonality.longestCommonSubstring(strs));
+		Assert.assertEquals(of(7, 16), StringCommonality.longestCommonSubstringRange(strs));
+
+		Assert.assertEquals("ana", StringCommonality.longestCommonSubstring(Arrays.asList("banana", "ananas", "cabana")));
+		// ties resolve to the first occurrence in the first string
+		Assert.assertEquals(of(0, 2), StringCommonality.longestCommonSubstringRange(Arrays.asList("abxcd", "cd-ab")));
+		Assert.assertEquals("", StringCommonality.longestCommonSubstring(Arrays.asList("abc", "def")));
+		Assert.assertEquals(of(0, 0), StringCommonality.longestCommonSubstringRange(Arrays.asList("abc", "")));
+		Assert.assertEquals(of(0, 3), StringCommonality.longestCommonSubstringRange(Arrays.asList("abc")));
+		Assert.assertEquals(of(0, 0), StringCommonality.longestCommonSubstringRange(Arrays.asList()));
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void longestCommonSubstringRepetitiveTest() {
+		// repetitive and overlapping strings, ranges are the first occurrence in the first string
+		String[][] strs = new String[][] { { "aaaa", "aa" }, { "abab", "baba" }, { "xabcy", "abc", "zabc" }, { "abcab", "cab", "bca" }, { "ab", "ba" }, { "dcba", "abcd" }, { "", "abc" } };
+		Entry<Integer, Integer>[] expect = new Entry[] { of(0, 2), of(0, 3), of(1, 3), of(2, 2), of(0, 1), of(0, 1), of(0, 0) };
+
+		CheckTask.assertTests(strs, expect, (strSet) -> StringCommonality.longestCommonSubstringRange(Arrays.asList(strSet)));
+	}
+
+
 	private static <K, V> Entry<K, V> of(K key, V val) {
 		return new AbstractMap.SimpleImmutableEntry<>(key, val);
 	}
@@ -11,6 +11,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.RadixTrie;
 import twg2.text.stringSearch.StringCompare;
 
 /**
@@ -127,6 +128,12 @@ public class StringCompareTest {
 
 		Assert.assertEquals(entries[3], StringCompare.closestMatch("Char", 0, entries, false));
 		Assert.assertEquals(entries[0],  StringCompare.closestMatch("=Cha=", 1, entries, false));
+
+		// a compiled trie only returns keys which fully match
+		RadixTrie<Integer> trie = new RadixTrie<>(entries);
+		Assert.assertEquals(entries[3], StringCompare.closestMatch("Charmed", 0, trie));
+		Assert.assertEquals(entries[4], StringCompare.closestMatch("=Characters", 1, trie));
+		Assert.assertEquals(null, StringCompare.closestMatch("=Cha=", 1, trie));
 	}
 
 
@@ -83,6 +83,76 @@ public class StringEscapeJsonTest {
 	}
 
 
+	@Test
+	public void jsonStrControlChars() {
+		String[] raw = new String[] {
+			"\u0000 \u001F\u0007-\t",
+			"\u007F \u00e9",
+		};
+
+		String[] json = new String[] {
+			"\\u0000 \\u001F\\u0007-\\t",
+			"\u007F \u00e9",
+		};
+
+		for(int i = 0, size = raw.length; i < size; i++) {
+			String jsonFromRaw = StringEscapeJson.toJsonString(raw[i]);
+			Assert.assertEquals(json[i], jsonFromRaw);
+			Assert.assertEquals(raw[i], StringEscapeJson.fromJsonString(jsonFromRaw));
+		}
+
+		Assert.assertEquals("A/\u00e9", StringEscapeJson.fromJsonString("\\u0041\\/\\u00E9"));
+	}
+
+
+	@Test
+	public void jsonStrScriptUnsafe() throws IOException {
+		String raw = "<script>a\u2028b\u2029</script>/<";
+		String json = "<script>a\\u2028b\\u2029<\\/script>/<";
+
+		Assert.assertEquals(raw, StringEscapeJson.toJsonString(raw));
+		Assert.assertEquals(json, StringEscapeJson.toJsonString(raw, 0, raw.length(), true));
+
+		StringBuilder sb = new StringBuilder();
+		StringEscapeJson.toJsonString(raw, 0, raw.length(), true, (Appendable)sb);
+		Assert.assertEquals(json, sb.toString());
+		Assert.assertEquals(raw, StringEscapeJson.fromJsonString(json));
+
+		// a '/' is only escaped when the preceding '<' is part of the sub-string
+		Assert.assertEquals("/a", StringEscapeJson.toJsonString("</a", 1, 2, true));
+	}
+
+
+	@Test
+	public void jsonStrInvalidUnicodeEscape() {
+		// includes escapes cut off by the end of the string, which must fail the same way as escapes followed by non-hex chars
+		String[] jsons = { "\\u00G1", "\\u", "a\\u00", "\\u004" };
+		for(String json : jsons) {
+			try {
+				StringEscapeJson.fromJsonString(json);
+				Assert.fail("expected an exception for: " + json);
+			} catch(IllegalStateException ise) {
+				Assert.assertTrue(ise.getMessage(), ise.getMessage().startsWith("'\\u' must be followed by four hex digits"));
+			}
+		}
+
+		try {
+			StringEscapeJson.fromJsonString("\\u0041", 0, 4);
+			Assert.fail("expected an exception for an escape cut off by the end of the sub-string");
+		} catch(IllegalStateException ise) {
+			Assert.assertTrue(ise.getMessage(), ise.getMessage().startsWith("'\\u' must be followed by four hex digits, found '00'"));
+		}
+	}
+
+
+	@Test
+	public void jsonStrNoEscapes() {
+		String str = "nothing to escape \u2460";
+		Assert.assertTrue(str == StringEscapeJson.toJsonString(str));
+		Assert.assertEquals("to", StringEscapeJson.toJsonString(str, 8, 2));
+	}
+
+
 	private String randStr(int minInclusive, int maxInclusive) {
 		int len = minInclusive + (int)Math.round(Math.random() * (maxInclusive - minInclusive));
 		char[] chs = new char[len];
@@ -22,6 +22,7 @@ public class StringEscapeXmlTest {
 			"<tag>with & in</tag>",
 			"text~='string'",
 			"<\"",
+			"\u00e9 & \u00e9",
 			""
 		);
 
@@ -30,6 +31,7 @@ public class StringEscapeXmlTest {
 			"&lt;tag&gt;with &amp; in&lt;/tag&gt;",
 			"text~=&apos;string&apos;",
 			"&lt;&quot;",
+			"\u00e9 &amp; \u00e9",
 			""
 		);
 
@@ -43,6 +45,11 @@ public class StringEscapeXmlTest {
 			"&lt;tag&gt;with &amp; in&lt;/tag&gt;",
 			"text~=&apos;string&apos;",
 			"&lt;&quot;",
+			"&amp;lt; &amp;amp;",
+			"&#65;&#x42;&#x3c;&#x1F600;",
+			"& &foo; &#; &#x; &#12 &#x110000; &#x\u0661;",
+			"&#0; &#x1; &#31; &#xD800; &#xDFFF; &#xFFFE; &#xFFFF;",
+			"&#9;&#xA;&#13;&#xD7FF;&#xE000;&#xFFFD;&#x10FFFF;",
 			""
 		);
 
@@ -51,6 +58,11 @@ public class StringEscapeXmlTest {
 			"<tag>with & in</tag>",
 			"text~='string'",
 			"<\"",
+			"&lt; &amp;",
+			"AB<\uD83D\uDE00",
+			"& &foo; &#; &#x; &#12 &#x110000; &#x\u0661;",
+			"&#0; &#x1; &#31; &#xD800; &#xDFFF; &#xFFFE; &#xFFFF;",
+			"\t\n\r\uD7FF\uE000\uFFFD\uDBFF\uDFFF",
 			""
 		);
 
@@ -0,0 +1,94 @@
+package twg2.text.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.text.stringSearch.CompiledSubstringIgnoreCase;
+import twg2.text.stringSearch.StringIgnoreCase;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringIgnoreCaseTest {
+
+	@Test
+	public void foldTest() {
+		Assert.assertEquals('a', StringIgnoreCase.fold('A'));
+		Assert.assertEquals('a', StringIgnoreCase.fold('a'));
+		Assert.assertEquals('@', StringIgnoreCase.fold('@'));
+		Assert.assertEquals('\u00E9', StringIgnoreCase.fold('\u00C9'));
+		Assert.assertEquals('\u03C3', StringIgnoreCase.fold('\u03A3'));
+		// final sigma folds to the same char as sigma, the same as String.equalsIgnoreCase()
+		Assert.assertEquals('\u03C3', StringIgnoreCase.fold('\u03C2'));
+		Assert.assertEquals('\uD835', StringIgnoreCase.fold('\uD835'));
+
+		for(int i = 0; i <= Character.MAX_VALUE; i++) {
+			char ch = (char)i;
+			Assert.assertTrue(String.valueOf(ch).equalsIgnoreCase(String.valueOf(StringIgnoreCase.fold(ch))));
+		}
+	}
+
+
+	@Test
+	public void equalsStartsEndsWithTest() {
+		Assert.assertTrue(StringIgnoreCase.equals("Content-Length", "content-LENGTH"));
+		Assert.assertFalse(StringIgnoreCase.equals("Content-Length", "content-LENGTHS"));
+		Assert.assertTrue(StringIgnoreCase.equals(new StringBuilder("CAF\u00C9"), "caf\u00E9"));
+		Assert.assertTrue(StringIgnoreCase.regionMatches("=ABC=", 1, "xabc", 1, 3));
+		Assert.assertFalse(StringIgnoreCase.regionMatches("=ABC=", 3, "xabc", 1, 3));
+		Assert.assertTrue(StringIgnoreCase.regionMatches("=ABC=".toCharArray(), 1, "xabc".toCharArray(), 1, 3));
+
+		Assert.assertTrue(StringIgnoreCase.startsWith("HTTP/1.1 200", "http/"));
+		Assert.assertFalse(StringIgnoreCase.startsWith("HTTP", "http/"));
+		Assert.assertTrue(StringIgnoreCase.startsWith("=HTTP/1.1".toCharArray(), 1, 8, "http/".toCharArray()));
+		Assert.assertFalse(StringIgnoreCase.startsWith("=HTTP/1.1".toCharArray(), 1, 4, "http/".toCharArray()));
+
+		Assert.assertTrue(StringIgnoreCase.endsWith("image.JPG", ".jpg"));
+		Assert.assertFalse(StringIgnoreCase.endsWith("jpg", ".jpg"));
+		Assert.assertTrue(StringIgnoreCase.endsWith("image.JPG=".toCharArray(), 0, 9, ".jpg".toCharArray()));
+		Assert.assertFalse(StringIgnoreCase.endsWith("image.JPG=".toCharArray(), 0, 10, ".jpg".toCharArray()));
+	}
+
+
+	@Test
+	public void indexOfTest() {
+		Assert.assertEquals(4, StringIgnoreCase.indexOf("log ERROR: error", 0, 16, "error"));
+		Assert.assertEquals(11, StringIgnoreCase.indexOf("log ERROR: error", 5, 11, "error"));
+		Assert.assertEquals(-1, StringIgnoreCase.indexOf("log ERROR: error", 5, 10, "error"));
+		Assert.assertEquals(3, StringIgnoreCase.indexOf("log ERROR: error", 3, 5, ""));
+		Assert.assertEquals(4, StringIgnoreCase.indexOf("log ERROR: error".toCharArray(), 0, 16, "=Error=".toCharArray(), 1, 5));
+		Assert.assertTrue(StringIgnoreCase.contains("Stra\u00DFe", "STRA\u00DFE"));
+
+		CompiledSubstringIgnoreCase error = new CompiledSubstringIgnoreCase("Error");
+		Assert.assertEquals(5, error.length());
+		Assert.assertEquals("error", error.toString());
+		Assert.assertEquals(4, error.indexOf("log ERROR: error", 0, 16));
+		Assert.assertEquals(11, error.indexOf("log ERROR: error".toCharArray(), 5, 11));
+		Assert.assertEquals(2, error.countMatches("log ERROR: error", 0, 16));
+		Assert.assertTrue(error.containedIn("eRrOr"));
+		Assert.assertFalse(error.containedIn("erro"));
+	}
+
+
+	@Test
+	public void indexOfPartialMatchTest() {
+		// partial matches which restart, matches at the end of the range, and sub-strings longer than the range
+		String[] strs = { "aAaB", "\u00E9\u00C9-\u00C9b", "abAB", "abAB", "abAB", "ab", "ABAB", "" };
+		int[] offs =     { 0,      0,                      0,      1,      1,      0,    2,      0 };
+		int[] lens =     { 4,      5,                      3,      3,      2,      2,    2,      0 };
+		String[] subs = { "aab",  "\u00E9B",               "ab",   "ab",   "ab",   "abc", "ab",  "" };
+		int[] expect =   { 1,      3,                      0,      2,      -1,     -1,   2,      0 };
+
+		for(int i = 0; i < strs.length; i++) {
+			String str = strs[i];
+			String sub = subs[i];
+			String msg = "'" + str + "' [" + offs[i] + ", " + lens[i] + "] '" + sub + "'";
+			Assert.assertEquals(msg, expect[i], StringIgnoreCase.indexOf(str, offs[i], lens[i], sub));
+			Assert.assertEquals(msg, expect[i], StringIgnoreCase.indexOf(str.toCharArray(), offs[i], lens[i], sub.toCharArray(), 0, sub.length()));
+			Assert.assertEquals(msg, expect[i], new CompiledSubstringIgnoreCase(sub).indexOf(str, offs[i], lens[i]));
+			Assert.assertEquals(msg, expect[i], new CompiledSubstringIgnoreCase(sub).indexOf(str.toCharArray(), offs[i], lens[i]));
+		}
+	}
+
+}
@@ -158,6 +158,56 @@ public class StringIndexTest {
 	}
 
 
+	@Test
+	public void indexOfMatchManyPatterns() {
+		// enough patterns to use the multi-pattern search, but only for text much longer than the patterns combined
+		String[] matchStrs = new String[] {
+				"Abc",
+				"Str",
+				"Thing",
+				"int",
+				"end",
+				"String",
+				"in",
+				"nd",
+				"=",
+				""
+		};
+
+		Assert.assertEquals(9, StringIndex.indexOfMatch(chars(""), 0, matchStrs));
+		Assert.assertEquals(4, StringIndex.indexOfMatch(chars("end"), 0, matchStrs));
+		Assert.assertEquals(1, StringIndex.indexOfMatch(chars("=String"), 1, matchStrs));
+		Assert.assertEquals(6, StringIndex.indexOfMatch(chars("a=in"), 2, matchStrs));
+		Assert.assertEquals(8, StringIndex.indexOfMatch(chars("a=i"), 0, Arrays.copyOf(matchStrs, 9)));
+		Assert.assertEquals(-1, StringIndex.indexOfMatch(chars("zzz"), 0, Arrays.copyOf(matchStrs, 9)));
+
+		Assert.assertEquals(9, StringIndex.indexOfMatch(chars(""), 0, list(matchStrs)));
+		Assert.assertEquals(4, StringIndex.indexOfMatch(chars("end"), 0, list(matchStrs)));
+		Assert.assertEquals(1, StringIndex.indexOfMatch(chars("=String"), 1, list(matchStrs)));
+
+		Assert.assertEquals(9, StringIndex.indexOfMatch(chars(""), 0, iter(matchStrs)));
+		Assert.assertEquals(4, StringIndex.indexOfMatch(chars("end"), 0, iter(matchStrs)));
+		Assert.assertEquals(1, StringIndex.indexOfMatch(chars("=String"), 1, iter(matchStrs)));
+
+		// text much longer than the patterns combined, searched in a single pass
+		String[] nonEmptyStrs = Arrays.copyOf(matchStrs, 9);
+		char[] longStr = new char[2000];
+		Arrays.fill(longStr, '.');
+		"//in".getChars(0, 4, longStr, 100);
+		"a=in".getChars(0, 4, longStr, 1990);
+		char[] prefix = chars("//");
+
+		Assert.assertEquals(6, StringIndex.indexOfMatch(longStr, 0, nonEmptyStrs));
+		Assert.assertEquals(6, StringIndex.indexOfMatch(longStr, 0, list(nonEmptyStrs)));
+		Assert.assertEquals(6, StringIndex.indexOfMatch(longStr, 0, iter(nonEmptyStrs)));
+		Assert.assertEquals(-1, StringIndex.indexOfMatch(longStr, 1994, nonEmptyStrs));
+		Assert.assertEquals(6, StringIndex.indexOfMatchNotPrefixedBy(longStr, 0, list(nonEmptyStrs), prefix, 0));
+
+		"//in".getChars(0, 4, longStr, 1990);
+		Assert.assertEquals(-1, StringIndex.indexOfMatchNotPrefixedBy(longStr, 0, list(nonEmptyStrs), prefix, 0));
+	}
+
+
 	@Test
 	public void indexOf_StringOrCharAryOrCharSeq_Char() {
 		Assert.assertEquals(-1, StringIndex.indexOf(        "Aa Bb Ccc 1",  3,    (int)'Z'));
@@ -202,6 +252,140 @@ public class StringIndexTest {
 	}
 
 
+	@Test
+	public void indexOfAndLastIndexOf_Char_Offsets() {
+		String str = "abcdefgh-abcdefg\u2460";
+		char[] chs = chars(str);
+		// { offset, length, char, expected indexOf(), expected lastIndexOf() }, matches in each position of the 4 char loop,
+		// in the trailing chars, and ranges which do and don't run to the end or start at the beginning of the string
+		int[][] tests = {
+			{ 1, 15, 'a', 9, 9 },
+			{ 0, 8, 'h', 7, 7 },
+			{ 0, 7, 'h', -1, -1 },
+			{ 2, 13, 'd', 3, 12 },
+			{ 4, 5, 'g', 6, 6 },
+			{ 5, 0, 'f', -1, -1 },
+			{ 9, 8, 'a', 9, 9 },
+			{ 10, 7, 'b', 10, 10 },
+			{ 0, 17, '-', 8, 8 },
+			{ 3, 14, '\u2460', 16, 16 },
+		};
+
+		for(int[] test : tests) {
+			int off = test[0], len = test[1], ch = test[2];
+			Assert.assertEquals(test[3], StringIndex.indexOf(        str,  off, len, ch));
+			Assert.assertEquals(test[3], StringIndex.indexOf(        chs,  off, len, ch));
+			Assert.assertEquals(test[3], StringIndex.indexOf(charSeq(str), off, len, ch));
+
+			Assert.assertEquals(test[4], StringIndex.lastIndexOf(        str,  off, len, ch));
+			Assert.assertEquals(test[4], StringIndex.lastIndexOf(        chs,  off, len, ch));
+			Assert.assertEquals(test[4], StringIndex.lastIndexOf(charSeq(str), off, len, ch));
+		}
+	}
+
+
+	@Test
+	public void lastIndexOf_StringOrCharAryOrCharSeq_SubStr() {
+		Assert.assertEquals(9, StringIndex.lastIndexOf(        "log: a, b, c",          ", "));
+		Assert.assertEquals(9, StringIndex.lastIndexOf(  chars("log: a, b, c"),  chars(", ")));
+		Assert.assertEquals(9, StringIndex.lastIndexOf(charSeq("log: a, b, c"), charSeq(", ")));
+
+		Assert.assertEquals(6, StringIndex.lastIndexOf(        "log: a, b, c",  2, 6,         ", "));
+		Assert.assertEquals(6, StringIndex.lastIndexOf(  chars("log: a, b, c"), 2, 6,   chars(", ")));
+		Assert.assertEquals(6, StringIndex.lastIndexOf(charSeq("log: a, b, c"), 2, 6, charSeq(", ")));
+
+		Assert.assertEquals(-1, StringIndex.lastIndexOf(        "log: a, b, c",  2, 4,         ", "));
+		Assert.assertEquals(12, StringIndex.lastIndexOf(        "log: a, b, c",  0, 12,        ""));
+		Assert.assertEquals(6, StringIndex.lastIndexOf(         "log: a, b, c",  0, 12,        "=, b=", 1, 3));
+	}
+
+
+	@Test
+	public void lastIndexOf_SubStr_ShortAndLong() {
+		String str = "abcab-ab\u0161ab";
+		String[] subStrs = { "b", "ab", "ab", "ab", "\u0161a", "b\u0161", "cab", "ab-", "ca" };
+		int[] offs =       { 0,   0,    1,    1,    0,         0,         4,     0,     2 };
+		int[] lens =       { 11,  10,   8,    5,    11,        11,        7,     11,    2 };
+		int[] expect =     { 10,  6,    6,    3,    8,         7,         -1,    3,     2 };
+
+		for(int i = 0; i < subStrs.length; i++) {
+			Assert.assertEquals(expect[i], StringIndex.lastIndexOf(        str,  offs[i], lens[i],         subStrs[i]));
+			Assert.assertEquals(expect[i], StringIndex.lastIndexOf(  chars(str), offs[i], lens[i],   chars(subStrs[i])));
+			Assert.assertEquals(expect[i], StringIndex.lastIndexOf(charSeq(str), offs[i], lens[i], charSeq(subStrs[i])));
+		}
+
+		// long enough to use the skip table, '\u0162' shares a skip table bucket with 'b'
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append("ab");
+		}
+		sb.setCharAt(1461, '\u0162');
+		String longStr = sb.toString();
+		String longSubStr = longStr.substring(0, 40);
+
+		String[] longSubStrs = { longSubStr, longSubStr, longSubStr, "\u0162a", "\u0162" };
+		int[] longLens =       { 2000,       1999,       1500,       2000,      2000 };
+		int[] longExpect =     { 1960,       1958,       1420,       1461,      1461 };
+
+		for(int i = 0; i < longSubStrs.length; i++) {
+			Assert.assertEquals(longExpect[i], StringIndex.lastIndexOf(        longStr,  0, longLens[i],         longSubStrs[i]));
+			Assert.assertEquals(longExpect[i], StringIndex.lastIndexOf(  chars(longStr), 0, longLens[i],   chars(longSubStrs[i])));
+			Assert.assertEquals(longExpect[i], StringIndex.lastIndexOf(charSeq(longStr), 0, longLens[i], charSeq(longSubStrs[i])));
+		}
+	}
+
+
+	@Test
+	public void indexOfAll_StringOrCharAryOrCharSeq() {
+		Assert.assertArrayEquals(new int[] { 4, 7, 10 }, StringIndex.indexOfAll(        "log: a, b, c",  0, 12, ' '));
+		Assert.assertArrayEquals(new int[] { 4, 7, 10 }, StringIndex.indexOfAll(  chars("log: a, b, c"), 0, 12, ' '));
+		Assert.assertArrayEquals(new int[] { 4, 7 },     StringIndex.indexOfAll(charSeq("log: a, b, c"), 0, 9,  ' '));
+
+		Assert.assertArrayEquals(new int[] { 0, 2 },       StringIndex.indexOfAll(        "aaaaba",  0, 6,         "aa", false));
+		Assert.assertArrayEquals(new int[] { 0, 1, 2 },    StringIndex.indexOfAll(  chars("aaaaba"), 0, 6,   chars("aa"), true));
+		Assert.assertArrayEquals(new int[] { 1, 2 },       StringIndex.indexOfAll(charSeq("aaaaba"), 1, 4, charSeq("aa"), true));
+		Assert.assertArrayEquals(new int[] { 1 },          StringIndex.indexOfAll(        "aaaaba",  1, 4,         "aa", false));
+		Assert.assertArrayEquals(new int[0],               StringIndex.indexOfAll(        "aaaaba",  0, 6,         "ab a", false));
+
+		int[] sum = { 0 };
+		Assert.assertEquals(2, StringIndex.indexOfAll("a, b, c", 0, 7, "=, ", 1, 2, false, (i) -> sum[0] += i));
+		Assert.assertEquals(1 + 4, sum[0]);
+
+		CheckTask.assertException(() -> StringIndex.indexOfAll("abc", 0, 3, "", false));
+	}
+
+
+	@Test
+	public void indexOfAll_Periodic() {
+		String[] strs =    { "abababa", "abababa", "abcabcab", "aaaa" };
+		String[] subStrs = { "aba",     "bab",     "abcab",    "aa" };
+		int[] offs =       { 0,         1,         0,          0 };
+		int[] lens =       { 7,         5,         8,          3 };
+		int[][] expectOverlapping = { { 0, 2, 4 }, { 1, 3 }, { 0, 3 }, { 0, 1 } };
+		int[][] expectNonOverlapping = { { 0, 4 }, { 1 }, { 0 }, { 0 } };
+
+		for(int i = 0; i < strs.length; i++) {
+			String str = strs[i];
+			Assert.assertArrayEquals(expectOverlapping[i], StringIndex.indexOfAll(        str,  offs[i], lens[i],         subStrs[i],  true));
+			Assert.assertArrayEquals(expectOverlapping[i], StringIndex.indexOfAll(  chars(str), offs[i], lens[i],   chars(subStrs[i]), true));
+			Assert.assertArrayEquals(expectOverlapping[i], StringIndex.indexOfAll(charSeq(str), offs[i], lens[i], charSeq(subStrs[i]), true));
+			Assert.assertArrayEquals(expectNonOverlapping[i], StringIndex.indexOfAll(        str,  offs[i], lens[i],         subStrs[i],  false));
+			Assert.assertArrayEquals(expectNonOverlapping[i], StringIndex.indexOfAll(  chars(str), offs[i], lens[i],   chars(subStrs[i]), false));
+			Assert.assertArrayEquals(expectNonOverlapping[i], StringIndex.indexOfAll(charSeq(str), offs[i], lens[i], charSeq(subStrs[i]), false));
+		}
+
+		// more matches than the initial result array size
+		char[] xs = new char[100];
+		Arrays.fill(xs, 'x');
+		int[] expect = new int[99];
+		for(int i = 0; i < expect.length; i++) {
+			expect[i] = i + 1;
+		}
+		Assert.assertArrayEquals(expect, StringIndex.indexOfAll(xs, 1, 99, 'x'));
+		Assert.assertArrayEquals(expect, StringIndex.indexOfAll(new String(xs), 1, 99, "x", false));
+	}
+
+
 	@Test
 	public void indexOf_CharSeq_CharSeq() {
 		Assert.assertEquals(-1, StringIndex.indexOf(charSeq("Aa Bb Ccc 1"), 0,  charSeq("Bb Ccc 2"), 0, 8));
@@ -13,6 +13,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.RadixTrie;
 import twg2.text.stringUtils.StringReplace;
 
 /**
@@ -206,6 +207,27 @@ public class StringReplaceTest {
 	}
 
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void replaceTokenRadixTrie() {
+		RadixTrie<String> tokens = new RadixTrie<>(new Map.Entry[] {
+				entry("$str", "token"),
+				entry("$string", "String"),
+				entry("$custom", "infinite"),
+				entry("replace values", "others")
+		});
+		Assert.assertEquals("a String with infinite tokens and others", StringReplace.replaceTokens("a $string with $custom tokens and replace values", tokens));
+		Assert.assertEquals("a tokenin with $cust replace", StringReplace.replaceTokens("a $strin with $cust replace", tokens));
+		// the original string is returned if it contains no tokens
+		String src = "no tokens";
+		Assert.assertTrue(src == StringReplace.replaceTokens(src, tokens));
+
+		StringBuilder dst = new StringBuilder(">");
+		Assert.assertEquals(2, StringReplace.replaceTokens("=$str$string=", 1, 11, tokens, dst));
+		Assert.assertEquals(">tokenString", dst.toString());
+	}
+
+
 	private static <K, V> List<Map.Entry<K, V>> combine(Collection<K> keys, Collection<V> values) {
 		List<Map.Entry<K, V>> res = new ArrayList<Map.Entry<K, V>>();
 
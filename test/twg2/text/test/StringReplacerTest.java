@@ -0,0 +1,120 @@
+package twg2.text.test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringUtils.StringReplacer;
+import twg2.text.stringUtils.StringReplacer.MatchMode;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringReplacerTest {
+
+	@Test
+	public void replaceTest() {
+		String[] strs = new String[] {   "&amp; with &lt; or &gt;", "*** or ** * ***", "***", "*** a six***seven***", "" };
+		String[] expect = new String[] { "& with < or >",           "* or ** * *",     "*",   "* a six*seven*",       "" };
+
+		StringReplacer replacer = new StringReplacer(Arrays.asList("***", "&amp;", "&lt;", "&gt;"), Arrays.asList("*", "&", "<", ">"));
+
+		CheckTask.assertTests(strs, expect, (s) -> replacer.replace(s));
+		CheckTask.assertTests(strs, expect, (s) -> {
+			StringBuilder dst = new StringBuilder();
+			replacer.replace(s.toCharArray(), 0, s.length(), dst);
+			return dst.toString();
+		});
+
+		// no matches returns the same string
+		String noMatch = "nothing to replace";
+		Assert.assertTrue(noMatch == replacer.replace(noMatch));
+	}
+
+
+	@Test
+	public void replaceOffsetTest() {
+		String[] strs = new String[] {   "&lt;+=&lt; or &gt;", "*** or ** * ***", "***", "*** a six***seven***" };
+		String[] expect = new String[] { "&lt;+=< or >",       "*** or ** * *",   "***", "*** a six*seven*" };
+
+		StringReplacer replacer = new StringReplacer(new LinkedHashSet<>(Arrays.asList("***", "&amp;", "&lt;", "&gt;")), Arrays.asList("*", "&", "<", ">"));
+
+		CheckTask.assertTests(strs, expect, (s) -> replacer.replace(s, 6));
+	}
+
+
+	@Test
+	public void replaceIsSinglePassTest() {
+		StringReplacer replacer = new StringReplacer(Arrays.asList("&amp;", "&lt;"), Arrays.asList("&", "<"));
+		// replaced text is not searched again
+		Assert.assertEquals("&lt;", replacer.replace("&amp;lt;"));
+
+		StringReplacer swap = new StringReplacer(Arrays.asList("a", "b"), Arrays.asList("b", "a"));
+		Assert.assertEquals("baab", swap.replace("abba"));
+	}
+
+
+	@Test
+	public void matchModeTest() {
+		List<String> searchStrs = Arrays.asList("ab", "abc", "bcd");
+		List<String> replaceStrs = Arrays.asList("1", "2", "3");
+		StringReplacer first = new StringReplacer(searchStrs, replaceStrs, MatchMode.LEFTMOST_FIRST);
+		StringReplacer longest = new StringReplacer(searchStrs, replaceStrs, MatchMode.LEFTMOST_LONGEST);
+
+		Assert.assertEquals("1cd", first.replace("abcd"));
+		Assert.assertEquals("2d", longest.replace("abcd"));
+		// the leftmost match wins regardless of list order
+		Assert.assertEquals("x3", first.replace("xbcd"));
+		Assert.assertEquals("-1-3", first.replace("-ab-bcd"));
+	}
+
+
+	@Test
+	public void replaceAppendableTest() throws IOException {
+		StringReplacer replacer = new StringReplacer(Arrays.asList("{name}", "{n}"), Arrays.asList("World", "!"));
+		StringBuilder dst = new StringBuilder("> ");
+		int count = replacer.replace("Hello {name}{n}{n}", 0, 18, (Appendable)dst);
+		Assert.assertEquals(3, count);
+		Assert.assertEquals("> Hello World!!", dst.toString());
+
+		dst.setLength(0);
+		count = replacer.replace("Hello {name}{n}{n}", 6, 6, dst);
+		Assert.assertEquals(1, count);
+		Assert.assertEquals("World", dst.toString());
+	}
+
+
+	@Test
+	public void invalidArgsTest() {
+		CheckTask.assertException(() -> new StringReplacer(Arrays.asList("a", "b"), Arrays.asList("c")));
+		CheckTask.assertException(() -> new StringReplacer(Arrays.asList("a", ""), Arrays.asList("c", "d")));
+	}
+
+
+	@Test
+	public void overlappingSearchStrsTest() {
+		String[] strs = new String[] {   "ababa", "bab-", "xaab-", "abab-", "" };
+		String[] expect = new String[] { "12",    "23",   "xaa3",  "13",    "" };
+
+		StringReplacer replacer = new StringReplacer(Arrays.asList("aba", "ba", "b-"), Arrays.asList("1", "2", "3"));
+
+		CheckTask.assertTests(strs, expect, (s) -> replacer.replace(s));
+		CheckTask.assertTests(strs, expect, (s) -> {
+			StringBuilder dst = new StringBuilder();
+			replacer.replace(s, 0, s.length(), dst);
+			return dst.toString();
+		});
+
+		List<String> prefixStrs = Arrays.asList("a", "ab", "abc");
+		List<String> replaceStrs = Arrays.asList("1", "2", "3");
+		Assert.assertEquals("1bc1b", new StringReplacer(prefixStrs, replaceStrs, MatchMode.LEFTMOST_FIRST).replace("abcab"));
+		Assert.assertEquals("32", new StringReplacer(prefixStrs, replaceStrs, MatchMode.LEFTMOST_LONGEST).replace("abcab"));
+	}
+
+}
@@ -0,0 +1,87 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.StringSearchFilter;
+import twg2.text.stringSearch.StringSearchOp;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class StringSearchFilterTest {
+
+	@Test
+	public void filterTest() {
+		String[] strs = { "Abc", null, "abcabc", "xbc", "", "bc", "A long string with words" };
+
+		Assert.assertArrayEquals(new int[] { 0, 2, 3, 5 }, new StringSearchFilter(StringSearchOp.CONTAINS, "bc").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 0, 2, 3, 5 }, new StringSearchFilter(StringSearchOp.CONTAINS, "b").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 6 }, new StringSearchFilter(StringSearchOp.CONTAINS, "ring with").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 0, 2, 3, 4, 5, 6 }, new StringSearchFilter(StringSearchOp.CONTAINS, "").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 0, 6 }, new StringSearchFilter(StringSearchOp.STARTS_WITH, "A").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 0, 2, 3, 5 }, new StringSearchFilter(StringSearchOp.ENDS_WITH, "bc").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 5 }, new StringSearchFilter(StringSearchOp.EQUALS, "bc").filterIndices(strs));
+		Assert.assertArrayEquals(new int[] { 1 }, new StringSearchFilter(StringSearchOp.CONTAINS, null).filterIndices(strs));
+
+		BitSet expect = new BitSet();
+		expect.set(0);
+		expect.set(6);
+		Assert.assertEquals(expect, new StringSearchFilter(StringSearchOp.STARTS_WITH, "A").filter(new LinkedList<>(Arrays.asList(strs))));
+		Assert.assertEquals(new BitSet(), new StringSearchFilter(StringSearchOp.EQUALS, "z").filter(new String[0]));
+
+		StringSearchFilter filter = new StringSearchFilter(StringSearchOp.CONTAINS, "abc");
+		Assert.assertEquals(StringSearchOp.CONTAINS, filter.getOp());
+		Assert.assertEquals("abc", filter.getSearchStr());
+		Assert.assertTrue(filter.test("xabc"));
+		Assert.assertFalse(filter.test(null));
+
+		CheckTask.assertException(() -> new StringSearchFilter(null, "a"));
+		CheckTask.assertException(() -> filter.filter(Arrays.asList("a"), ForkJoinPool.commonPool(), 0));
+	}
+
+
+	@Test
+	public void parallelFilterTest() {
+		// a repeating list of strings large enough to split into many chunks, 7 doesn't divide the chunk sizes evenly
+		String[] base = { "abcab", null, "", "ab", "cabca", "bbbbbbbbbb", "abcabcabc" };
+		List<String> strs = new ArrayList<>();
+		for(int i = 0; i < 700; i++) {
+			strs.add(base[i % base.length]);
+		}
+		String[] searchStrs = { "ab", "abca", "bbbbbbbbb", "" };
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for(StringSearchOp op : StringSearchOp.values()) {
+				for(String searchStr : searchStrs) {
+					StringSearchFilter filter = new StringSearchFilter(op, searchStr);
+					BitSet expect = new BitSet();
+					for(int i = 0, size = strs.size(); i < size; i++) {
+						if(op.test(strs.get(i), searchStr)) {
+							expect.set(i);
+						}
+					}
+					String msg = op + " '" + searchStr + "'";
+					Assert.assertEquals(msg, expect, filter.filter(strs));
+					Assert.assertEquals(msg, expect, filter.filter(strs, pool, 100));
+					Assert.assertEquals(msg, expect, filter.filter(strs, pool, 1));
+					Assert.assertArrayEquals(msg, expect.stream().toArray(), filter.filterIndices(strs, pool, 64));
+				}
+			}
+			// "abca" is contained in 3 of every 7 strings
+			Assert.assertEquals(300, new StringSearchFilter(StringSearchOp.CONTAINS, "abca").filter(strs, pool, 64).cardinality());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
@@ -3,6 +3,7 @@ package twg2.text.test;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 
@@ -160,6 +161,68 @@ public class StringSplitTest {
 	}
 
 
+	@Test
+	public void stringSplitFieldsTest() {
+		String str = "f0,f1,,f3,f4,f5,f6,f7,";
+		String[] dst = new String[3];
+		int[] offsets = new int[6];
+
+		Assert.assertEquals(3, StringSplit.splitFields(str, ',', new int[] { 1, 3, 7 }, dst));
+		Assert.assertArrayEquals(new String[] { "f1", "f3", "f7" }, dst);
+
+		Assert.assertEquals(3, StringSplit.splitFields(str, ',', new int[] { 0, 2, 8 }, dst));
+		Assert.assertArrayEquals(new String[] { "f0", "", "" }, dst);
+
+		Assert.assertEquals(2, StringSplit.splitFields(str, ',', new int[] { 6, 8, 9 }, dst));
+		Assert.assertArrayEquals(new String[] { "f6", "", null }, dst);
+
+		Assert.assertEquals(1, StringSplit.splitFieldOffsets(str, ',', new int[] { 3, 12, 40 }, offsets));
+		Assert.assertArrayEquals(new int[] { 7, 9, -1, -1, -1, -1 }, offsets);
+
+		BitSet fields = new BitSet();
+		fields.set(4);
+		fields.set(5);
+		Assert.assertEquals(2, StringSplit.splitFields(str, ',', fields, dst));
+		Assert.assertEquals("f4", dst[0]);
+		Assert.assertEquals("f5", dst[1]);
+
+		Assert.assertEquals(1, StringSplit.splitFields("", ',', new int[] { 0, 1 }, dst));
+		Assert.assertArrayEquals(new String[] { "", null, null }, dst);
+
+		CheckTask.assertException(() -> StringSplit.splitFields(str, ',', new int[] { 3, 3 }, dst));
+		CheckTask.assertException(() -> StringSplit.splitFields(str, ',', new int[] { 4, 2 }, dst));
+		// unordered indices are rejected even when the input ends before reaching them
+		CheckTask.assertException(() -> StringSplit.splitFields("a,b", ',', new int[] { 5, 2 }, dst));
+		CheckTask.assertException(() -> StringSplit.splitFieldOffsets("a,b", ',', new int[] { 0, 5, 2 }, new int[6]));
+	}
+
+
+	@Test
+	public void stringSplitFieldsCompareTest() {
+		String[] strs = { "", ",", "a", "a,b", ",a,,b,", "1,22,333,4444,55555,666666" };
+		int[][] fieldSets = { {}, { 0 }, { 1 }, { 0, 1, 2 }, { 2, 4 }, { 0, 5 }, { 3, 4, 5, 6 } };
+
+		for(String str : strs) {
+			List<String> all = StringSplit.split(str, ',');
+			for(int[] fieldIdxs : fieldSets) {
+				String[] dst = new String[fieldIdxs.length];
+				int[] offsets = new int[fieldIdxs.length * 2];
+				int expectCount = 0;
+				StringSplit.splitFieldOffsets(str, ',', fieldIdxs, offsets);
+				int count = StringSplit.splitFields(str, ',', fieldIdxs, dst);
+
+				for(int i = 0; i < fieldIdxs.length; i++) {
+					String expect = fieldIdxs[i] < all.size() ? all.get(fieldIdxs[i]) : null;
+					expectCount += (expect != null ? 1 : 0);
+					Assert.assertEquals(expect, dst[i]);
+					Assert.assertEquals(expect, offsets[i * 2] > -1 ? str.substring(offsets[i * 2], offsets[i * 2 + 1]) : null);
+				}
+				Assert.assertEquals(expectCount, count);
+			}
+		}
+	}
+
+
 	@Test
 	public void stringSplitNthChildTest() {
 		Assert.assertEquals(" def", StringSplit.findNthMatch("abc, def, ghi", ",", 1, 3));
@@ -183,6 +246,19 @@ public class StringSplitTest {
 	}
 
 
+	@Test
+	public void countSingleCharMatchesTest() {
+		Assert.assertEquals(2, StringSplit.countMatches("abc, def, ghi", ','));
+		Assert.assertEquals(3, StringSplit.countMatches("aaa", 'a'));
+		Assert.assertEquals(0, StringSplit.countMatches("", 'a'));
+		Assert.assertEquals(0, StringSplit.countMatches((String)null, 'a'));
+
+		Assert.assertEquals(1, StringSplit.countMatches("abc, def, ghi".toCharArray(), 2, 5, ','));
+		Assert.assertEquals(5, StringSplit.countMatches("-aaaaa-".toCharArray(), 1, 5, 'a'));
+		Assert.assertEquals(0, StringSplit.countMatches("-aaaaa-".toCharArray(), 1, 5, '-'));
+	}
+
+
 	@Test
 	public void countCharMatchesTest() {
 		CharsOffLen[] datas = new CharsOffLen[] {
@@ -0,0 +1,111 @@
+package twg2.text.test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.text.stringSearch.StringCompare;
+import twg2.text.stringSearch.SubstringSet;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SubstringSetTest {
+
+	@Test
+	public void containsTest() {
+		SubstringSet set = new SubstringSet("spam", "offer", "free", "am");
+
+		Assert.assertEquals(4, set.size());
+		Assert.assertTrue(set.containsAll("free spam offer"));
+		Assert.assertFalse(set.containsAll("free spam"));
+		Assert.assertTrue(set.containsAny("a free lunch"));
+		Assert.assertFalse(set.containsAny("a Free lunch"));
+		Assert.assertEquals(3, set.containsCount("free spam"));
+		Assert.assertEquals(0, set.containsCount(""));
+		Assert.assertEquals(bits(0, 2, 3), set.containsWhich("free spam"));
+
+		BitSet dst = new BitSet();
+		Assert.assertEquals(2, set.containsWhich("=offer, spam=".toCharArray(), 7, 6, dst));
+		Assert.assertEquals(bits(0, 3), dst);
+
+		// duplicates are counted separately and empty sub-strings are always contained, the same as StringCompare
+		SubstringSet dups = new SubstringSet("ab", "", "ab");
+		Assert.assertEquals(3, dups.containsCount("xaby"));
+		Assert.assertEquals(1, dups.containsCount("xy"));
+		Assert.assertEquals(StringCompare.containsCount("xaby", new String[] { "ab", "", "ab" }), dups.containsCount("xaby"));
+
+		SubstringSet empty = new SubstringSet();
+		Assert.assertFalse(empty.containsAll("abc"));
+		Assert.assertFalse(empty.containsAny("abc"));
+		Assert.assertEquals(0, empty.containsCount("abc"));
+	}
+
+
+	@Test
+	public void ignoreCaseTest() {
+		SubstringSet set = new SubstringSet(Arrays.asList("SPAM", "Offer", "caf\u00E9"), true);
+
+		Assert.assertTrue(set.isIgnoreCase());
+		Assert.assertTrue(set.containsAll("Spam OFFER Caf\u00E9"));
+		Assert.assertEquals(3, set.containsCount("sPaM offer CAF\u00C9"));
+		Assert.assertFalse(set.containsAny("SPAN OFF CAFE"));
+
+		// non-ASCII letters fold the same as StringCompare
+		SubstringSet accent = new SubstringSet(Arrays.asList("\u00E9"), true);
+		Assert.assertTrue(accent.containsAny("\u00C9"));
+		Assert.assertEquals(StringCompare.containsAnyIgnoreCase("\u00C9", new String[] { "\u00E9" }), accent.containsAny("\u00C9"));
+		Assert.assertTrue(new SubstringSet(Arrays.asList("\u03A3"), true).containsAll("\u03C3\u03C2"));
+		Assert.assertTrue(set.containsAny(new StringBuilder("special oFfEr")));
+	}
+
+
+	@Test
+	public void suffixSubStrsTest() {
+		// sub-strings which end at the same position as each other share a chain of match states
+		SubstringSet set = new SubstringSet("abc", "bc", "c", "abcd", "x");
+
+		Assert.assertEquals(3, set.containsCount("abcabc"));
+		Assert.assertEquals(bits(0, 1, 2), set.containsWhich("abcabc"));
+		Assert.assertEquals(2, set.containsCount("zbc"));
+		Assert.assertEquals(bits(1, 2), set.containsWhich("zbcbc"));
+		Assert.assertEquals(4, set.containsCount("abcd"));
+		Assert.assertTrue(set.containsAll("x-abcd"));
+		Assert.assertFalse(set.containsAll("x-abc-d"));
+	}
+
+
+	@Test
+	public void searcherTest() {
+		SubstringSet set = new SubstringSet("abc", "bc", "c", "abcd", "x");
+		SubstringSet.Searcher searcher = set.searcher();
+
+		// the same searcher gives the same results as the set for each call
+		Assert.assertEquals(4, searcher.containsCount("abcd"));
+		Assert.assertEquals(2, searcher.containsCount("zbc"));
+		Assert.assertEquals(0, searcher.containsCount(""));
+		Assert.assertTrue(searcher.containsAll("x-abcd"));
+		Assert.assertFalse(searcher.containsAll("x-abc-d"));
+		Assert.assertTrue(searcher.containsAny("--c"));
+		Assert.assertFalse(searcher.containsAny("--d"));
+
+		BitSet dst = new BitSet();
+		Assert.assertEquals(2, searcher.containsWhich("abcd", 1, 2, dst));
+		Assert.assertEquals(bits(1, 2), dst);
+
+		Assert.assertEquals(0, new SubstringSet().searcher().containsCount("abc"));
+	}
+
+
+	private static BitSet bits(int... idxs) {
+		BitSet bits = new BitSet();
+		for(int idx : idxs) {
+			bits.set(idx);
+		}
+		return bits;
+	}
+
+}
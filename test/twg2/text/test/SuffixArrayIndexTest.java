@@ -0,0 +1,104 @@
+package twg2.text.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.StringIndex;
+import twg2.text.stringSearch.SuffixArrayIndex;
+import twg2.text.stringUtils.StringSplit;
+
+import static twg2.text.test.utils.StringTestUtils.randomStr;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class SuffixArrayIndexTest {
+
+	@Test
+	public void bananaTest() {
+		SuffixArrayIndex idx = new SuffixArrayIndex("banana");
+
+		Assert.assertEquals(6, idx.length());
+		Assert.assertArrayEquals(new int[] { 5, 3, 1, 0, 4, 2 }, idx.getSuffixArray());
+		Assert.assertArrayEquals(new int[] { 1, 3, 0, 0, 2 }, idx.getLcpArray());
+		Assert.assertEquals("ana", idx.longestRepeatedSubstring());
+
+		Assert.assertEquals(2, idx.count("ana"));
+		Assert.assertEquals(1, idx.countMatches("ana"));
+		Assert.assertEquals(3, idx.count("a"));
+		Assert.assertEquals(0, idx.count("bananas"));
+		Assert.assertEquals(0, idx.count("c"));
+		Assert.assertTrue(idx.contains("nan"));
+		Assert.assertFalse(idx.contains("nab"));
+		Assert.assertEquals(1, idx.indexOf("an"));
+		Assert.assertEquals(-1, idx.indexOf("x"));
+		Assert.assertArrayEquals(new int[] { 1, 3, 5 }, idx.indexOfAll("a"));
+		Assert.assertArrayEquals(new int[0], idx.indexOfAll("nb"));
+
+		CheckTask.assertException(() -> idx.count(""));
+
+		SuffixArrayIndex portion = new SuffixArrayIndex("xxabcabcyy".toCharArray(), 2, 6);
+		Assert.assertEquals(6, portion.length());
+		Assert.assertArrayEquals(new int[] { 0, 3 }, portion.indexOfAll("abc"));
+		Assert.assertEquals(-1, portion.indexOf("x"));
+		Assert.assertEquals("abc", portion.longestRepeatedSubstring());
+
+		SuffixArrayIndex empty = new SuffixArrayIndex("");
+		Assert.assertEquals(0, empty.count("a"));
+		Assert.assertEquals("", empty.longestRepeatedSubstring());
+		Assert.assertEquals("", new SuffixArrayIndex("abc").longestRepeatedSubstring());
+	}
+
+
+	@Test
+	public void compareToNaiveRandomTest() {
+		Random rand = new Random(37);
+		for(int n = 0; n < 300; n++) {
+			char[] alphabet = "abcde".substring(0, 1 + rand.nextInt(n % 3 == 0 ? 2 : 5)).toCharArray();
+			String text = randomStr(rand, alphabet, rand.nextInt(n < 250 ? 60 : 3000));
+			SuffixArrayIndex idx = new SuffixArrayIndex(text);
+
+			Integer[] expectSa = new Integer[text.length()];
+			for(int i = 0; i < expectSa.length; i++) {
+				expectSa[i] = i;
+			}
+			Arrays.sort(expectSa, (a, b) -> text.substring(a).compareTo(text.substring(b)));
+			Assert.assertArrayEquals(Arrays.stream(expectSa).mapToInt(Integer::intValue).toArray(), idx.getSuffixArray());
+
+			String longestRepeat = "";
+			int[] lcp = idx.getLcpArray();
+			for(int i = 0; i < lcp.length; i++) {
+				String a = text.substring(expectSa[i]);
+				String b = text.substring(expectSa[i + 1]);
+				int common = 0;
+				while(common < Math.min(a.length(), b.length()) && a.charAt(common) == b.charAt(common)) {
+					common++;
+				}
+				Assert.assertEquals(common, lcp[i]);
+				longestRepeat = common > longestRepeat.length() ? a.substring(0, common) : longestRepeat;
+			}
+			Assert.assertEquals(longestRepeat, idx.longestRepeatedSubstring());
+
+			char[] chars = text.toCharArray();
+			for(int k = 0; k < 10; k++) {
+				String pattern = randomStr(rand, alphabet, 1 + rand.nextInt(4));
+				List<Integer> all = new ArrayList<>();
+				for(int i = text.indexOf(pattern); i > -1; i = text.indexOf(pattern, i + 1)) {
+					all.add(i);
+				}
+				Assert.assertEquals(all.size(), idx.count(pattern));
+				Assert.assertEquals(StringIndex.indexOf(chars, 0, chars.length, pattern.toCharArray()), idx.indexOf(pattern));
+				Assert.assertArrayEquals(all.stream().mapToInt(Integer::intValue).toArray(), idx.indexOfAll(pattern));
+				Assert.assertEquals(StringSplit.countMatches(chars, 0, chars.length, pattern.toCharArray(), 0, pattern.length()), idx.countMatches(pattern));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,79 @@
+package twg2.text.test;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import twg2.junitassist.checks.CheckTask;
+import twg2.text.stringSearch.TrigramIndex;
+
+/**
+ * @author TeamworkGuy2
+ * @since 2026-10-18
+ */
+public class TrigramIndexTest {
+
+	@Test
+	public void searchTest() {
+		TrigramIndex idx = new TrigramIndex(Arrays.asList("GET /api/users 200", "POST /api/users 500", null, "GET /static/app.js 404", "ab"));
+
+		Assert.assertEquals(5, idx.size());
+		Assert.assertEquals("ab", idx.getRow(4));
+		Assert.assertNull(idx.getRow(2));
+		Assert.assertArrayEquals(new int[] { 0, 1 }, idx.search("/api/"));
+		Assert.assertArrayEquals(new int[] { 1 }, idx.search("500"));
+		Assert.assertArrayEquals(new int[] { 0, 3 }, idx.search("GET"));
+		Assert.assertArrayEquals(new int[0], idx.search("DELETE"));
+		// all of the trigrams 'ers', 'rs ', 's 2' exist, but not in this order in any row
+		Assert.assertArrayEquals(new int[0], idx.search("users 2xx"));
+		Assert.assertArrayEquals(new int[] { 4 }, idx.search("b"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 3, 4 }, idx.search(""));
+		Assert.assertArrayEquals(new int[] { 0, 1, 3 }, idx.searchAny("500", "GET", "zzz"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 3, 4 }, idx.candidates("ab"));
+		Assert.assertArrayEquals(new int[] { 0, 1 }, idx.candidates("/api/"));
+
+		// rows can be appended after searching
+		Assert.assertEquals(5, idx.add("DELETE /api/users/3 204"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 5 }, idx.search("/api/"));
+		Assert.assertArrayEquals(new int[] { 5 }, idx.search("DELETE"));
+
+		// a repeated trigram is only posted once per row
+		TrigramIndex repeats = new TrigramIndex();
+		repeats.add("aaaaaa");
+		repeats.add("aaa");
+		Assert.assertEquals(1, repeats.getTrigramCount());
+		Assert.assertArrayEquals(new int[] { 0 }, repeats.search("aaaaa"));
+
+		CheckTask.assertException(() -> idx.getRow(6));
+	}
+
+
+	@Test
+	public void largePostingDeltasTest() {
+		// matching rows far enough apart to produce posting list deltas of one, two, and three bytes
+		TrigramIndex idx = new TrigramIndex();
+		idx.add("abcd");
+		idx.add("xabcd");
+		addRows(idx, "zzzz", 200);
+		Assert.assertEquals(202, idx.add("abcd"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 202 }, idx.search("abc"));
+
+		// rows appended after searching are found by later searches
+		addRows(idx, "zzzz", 20000);
+		Assert.assertEquals(20203, idx.add("bcd abc"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 202, 20203 }, idx.search("abc"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 202 }, idx.search("abcd"));
+		Assert.assertArrayEquals(new int[] { 1 }, idx.searchAny("xa", "zzzzz"));
+		Assert.assertArrayEquals(new int[] { 0, 1, 202, 20203 }, idx.searchAny("abcd", "d a"));
+		Assert.assertEquals(20200, idx.search("zzzz").length);
+	}
+
+
+	private static void addRows(TrigramIndex idx, String row, int count) {
+		for(int i = 0; i < count; i++) {
+			idx.add(row);
+		}
+	}
+
+}
@@ -2,6 +2,7 @@ package twg2.text.test.utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * @author TeamworkGuy2
@@ -33,4 +34,19 @@ public class StringTestUtils {
 		return new String(cps, 0, cps.length);
 	}
 
+
+	/** Create a random string, small alphabets produce the repetitive strings which exercise search edge cases
+	 * @param rand the source of randomness
+	 * @param alphabet the characters to pick from
+	 * @param len the length of the string
+	 * @return a string of {@code len} characters each picked at random from {@code alphabet}
+	 */
+	public static String randomStr(Random rand, char[] alphabet, int len) {
+		char[] chars = new char[len];
+		for(int i = 0; i < len; i++) {
+			chars[i] = alphabet[rand.nextInt(alphabet.length)];
+		}
+		return new String(chars);
+	}
+
 }